@@ -0,0 +1,158 @@
+package org.simpleframework.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * BeanIndexProcessor
+ * <br>
+ * 编译期注解处理器，将所有被 bean 注解标记的类名写入 <code>META-INF/simpleframework/bean.index</code>，<br>
+ * 运行时 BeanContainer 读取该索引即可跳过对 classpath 的目录扫描
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@SupportedAnnotationTypes({
+        "org.simpleframework.core.annotation.Component",
+        "org.simpleframework.core.annotation.Controller",
+        "org.simpleframework.core.annotation.RestController",
+        "org.simpleframework.core.annotation.Service",
+        "org.simpleframework.core.annotation.Repository",
+        "org.simpleframework.aop.annotation.Aspect"
+})
+public class BeanIndexProcessor extends AbstractProcessor {
+
+    /**
+     * 索引文件的位置，需要与运行时的 BeanIndex 保持一致
+     */
+    public static final String INDEX_LOCATION = "META-INF/simpleframework/bean.index";
+
+    /**
+     * 本次编译收集到的 bean 类名（二进制名称），使用 TreeSet 保证输出稳定
+     */
+    private final Set<String> beanClassNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                // 只有类才能作为 bean，注解、接口等直接忽略
+                if (element.getKind() != ElementKind.CLASS) {
+                    continue;
+                }
+                TypeElement typeElement = (TypeElement) element;
+                beanClassNames.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+            }
+        }
+        // 不独占这些注解，其他处理器仍可以处理
+        return false;
+    }
+
+    /**
+     * 合并增量编译前的索引并写入 class 输出目录
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void writeIndex() {
+        // 增量编译时只有部分源文件参与处理，需要保留旧索引中仍然存在的类
+        beanClassNames.addAll(readPreviousIndex());
+        if (beanClassNames.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# generated by " + getClass().getName() + ", do not edit\n");
+                for (String className : beanClassNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "unable to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 读取上一次编译生成的索引，过滤掉已经被删除的类
+     *
+     * @return {@link Set<String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private Set<String> readPreviousIndex() {
+        Set<String> previous = new TreeSet<>();
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Reader reader = new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8);
+                 BufferedReader bufferedReader = new BufferedReader(reader)) {
+                String line;
+                while ((line = bufferedReader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    // 二进制名称中的 $ 需要转换成规范名称才能查找到类型
+                    TypeElement typeElement = processingEnv.getElementUtils().getTypeElement(line.replace('$', '.'));
+                    if (typeElement != null && isBean(typeElement)) {
+                        previous.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 首次编译时没有旧索引
+        }
+        return previous;
+    }
+
+    /**
+     * 检查类型上是否仍然标记着 bean 注解
+     *
+     * @param typeElement 类型
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private boolean isBean(TypeElement typeElement) {
+        Set<String> supportedTypes = getSupportedAnnotationTypes();
+        for (AnnotationMirror annotationMirror : typeElement.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (supportedTypes.contains(annotationType.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
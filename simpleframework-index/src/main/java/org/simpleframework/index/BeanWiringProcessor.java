@@ -0,0 +1,544 @@
+package org.simpleframework.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * BeanWiringProcessor
+ * <br>
+ * 编译期装配模式的注解处理器，使用 <code>-Asimpleframework.wiring=true</code> 开启 <br>
+ * 为每个 bean 生成一个实现 BeanWiring 的装配类：直接调用构造方法、直接给 <code>@Autowired</code> 成员变量赋值，
+ * 依赖在编译期按与运行时相同的规则解析，生成的代码无法赋值、仍然通过反射注入的成员变量同样会解析 <br>
+ * 解析依赖时能看到的 bean 为本次编译的 bean 以及上一次编译记录在注册表中的 bean（增量编译）；
+ * 实现类可能在其他模块中，也可能被运行时的包含、排除规则过滤，因此找不到实现类或者有多个实现类时不报错，
+ * 生成的代码在运行时按类型和名称从容器中获取 <br>
+ * 所有装配类记录在 <code>META-INF/simpleframework/bean.wiring</code> 中，运行时 BeanContainer 读取后调用生成的代码
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@SupportedAnnotationTypes({
+        "org.simpleframework.core.annotation.Component",
+        "org.simpleframework.core.annotation.Controller",
+        "org.simpleframework.core.annotation.RestController",
+        "org.simpleframework.core.annotation.Service",
+        "org.simpleframework.core.annotation.Repository",
+        "org.simpleframework.aop.annotation.Aspect"
+})
+@SupportedOptions(BeanWiringProcessor.WIRING_OPTION)
+public class BeanWiringProcessor extends AbstractProcessor {
+
+    /**
+     * 开启装配模式的处理器选项
+     */
+    public static final String WIRING_OPTION = "simpleframework.wiring";
+
+    /**
+     * 注册表文件的位置，需要与运行时的 BeanWiringRegistry 保持一致
+     */
+    public static final String WIRING_LOCATION = "META-INF/simpleframework/bean.wiring";
+
+    private static final String WIRING_SUFFIX = "$$Wiring";
+
+    private static final String AUTOWIRED = "org.simpleframework.inject.annotation.Autowired";
+
+    private static final String VALUE = "org.simpleframework.inject.annotation.Value";
+
+    private static final String PROVIDER = "org.simpleframework.inject.Provider";
+
+    private static final String LIST = "java.util.List";
+
+    private static final String MAP = "java.util.Map";
+
+    /**
+     * 标记 bean 的注解
+     */
+    private static final Set<String> BEAN_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.simpleframework.core.annotation.Component",
+            "org.simpleframework.core.annotation.Controller",
+            "org.simpleframework.core.annotation.RestController",
+            "org.simpleframework.core.annotation.Service",
+            "org.simpleframework.core.annotation.Repository",
+            "org.simpleframework.aop.annotation.Aspect"));
+
+    /**
+     * 目前为止收集到的 bean，键为二进制名称
+     */
+    private final Map<String, TypeElement> beans = new LinkedHashMap<>();
+
+    /**
+     * bean 的二进制名称到装配类的二进制名称，使用 TreeMap 保证输出稳定
+     */
+    private final Map<String, String> wirings = new TreeMap<>();
+
+    /**
+     * 上一次编译记录在注册表中的 bean，增量编译时这些 bean 不一定参与本次处理，解析依赖时同样需要
+     */
+    private Map<String, TypeElement> previousBeans;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!"true".equals(processingEnv.getOptions().get(WIRING_OPTION))) {
+            return false;
+        }
+        if (roundEnv.processingOver()) {
+            writeRegistry();
+            return false;
+        }
+        List<TypeElement> roundBeans = new ArrayList<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)) {
+                    TypeElement typeElement = (TypeElement) element;
+                    if (null == beans.put(binaryName(typeElement), typeElement)) {
+                        roundBeans.add(typeElement);
+                    }
+                }
+            }
+        }
+        // 本轮所有的 bean 收集完之后再生成，解析依赖时能看到同一轮中的所有 bean
+        for (TypeElement bean : roundBeans) {
+            generate(bean);
+        }
+        return false;
+    }
+
+    /**
+     * 为 bean 生成装配类
+     *
+     * @param bean bean 的类型
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void generate(TypeElement bean) {
+        // 生成的代码需要能够访问 bean 本身
+        if (bean.getModifiers().contains(Modifier.PRIVATE)
+                || (bean.getNestingKind() == NestingKind.MEMBER && !bean.getModifiers().contains(Modifier.STATIC))) {
+            warn(bean, "bean " + bean.getQualifiedName() + " is not accessible, it will be wired through reflection");
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(bean).getQualifiedName().toString();
+        String binaryName = binaryName(bean);
+        String wiringSimpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + WIRING_SUFFIX;
+        String beanName = bean.getQualifiedName().toString();
+
+        String newInstance = generateNewInstance(bean);
+        StringBuilder inject = new StringBuilder();
+        List<String> reflectiveFields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(bean.getEnclosedElements())) {
+            AnnotationMirror autowired = getAnnotation(field, AUTOWIRED);
+            AnnotationMirror value = getAnnotation(field, VALUE);
+            if (null == autowired && null == value) {
+                continue;
+            }
+            // 通过反射注入的成员变量也在编译期解析一次，装配错误同样在编译时报告
+            String expression = null != value ? generateConfigValue(field.asType(), getStringValue(value, "value"))
+                    : generateDependency(field.asType(), getStringValue(autowired, "value"), field);
+            if (field.getModifiers().contains(Modifier.PRIVATE) || field.getModifiers().contains(Modifier.FINAL)) {
+                reflectiveFields.add(literal(field.getSimpleName().toString()));
+                warn(field, "field " + bean.getSimpleName() + "." + field.getSimpleName()
+                        + " can not be assigned by generated code and will be injected through reflection, "
+                        + "make it package-private or use constructor injection");
+                continue;
+            }
+            inject.append("        bean.").append(field.getSimpleName()).append(" = ").append(expression).append(";\n");
+        }
+
+        String wiringName = packageName.isEmpty() ? wiringSimpleName : packageName + "." + wiringSimpleName;
+        try {
+            JavaFileObject source = processingEnv.getFiler().createSourceFile(wiringName, bean);
+            try (Writer writer = source.openWriter()) {
+                if (!packageName.isEmpty()) {
+                    writer.write("package " + packageName + ";\n\n");
+                }
+                writer.write("/**\n * generated by " + getClass().getName() + ", do not edit\n */\n");
+                writer.write("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+                writer.write("public final class " + wiringSimpleName + " implements org.simpleframework.core.BeanWiring<"
+                        + beanName + "> {\n\n");
+                writer.write("    private static final java.util.Set<String> REFLECTIVE_FIELDS = " + (reflectiveFields.isEmpty()
+                        ? "java.util.Collections.emptySet();\n\n"
+                        : "java.util.Collections.unmodifiableSet(new java.util.HashSet<>(java.util.Arrays.asList("
+                        + String.join(", ", reflectiveFields) + ")));\n\n"));
+                writer.write("    @Override\n");
+                writer.write("    public " + beanName + " newInstance(org.simpleframework.core.BeanContainer beanContainer) {\n");
+                writer.write("        " + newInstance + ";\n");
+                writer.write("    }\n\n");
+                writer.write("    @Override\n");
+                writer.write("    public void inject(" + beanName + " bean, org.simpleframework.core.BeanContainer beanContainer) {\n");
+                writer.write(inject.toString());
+                writer.write("    }\n\n");
+                writer.write("    @Override\n");
+                writer.write("    public java.util.Set<String> getReflectiveFields() {\n");
+                writer.write("        return REFLECTIVE_FIELDS;\n");
+                writer.write("    }\n");
+                writer.write("}\n");
+            }
+            wirings.put(binaryName, packageName.isEmpty() ? wiringSimpleName : packageName + "." + wiringSimpleName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "unable to generate " + wiringName + ": " + e.getMessage(), bean);
+        }
+    }
+
+    /**
+     * 生成创建 bean 的语句，构造方法的选择规则与运行时的 BeanContainer.getAutowiredConstructor 一致
+     *
+     * @param bean bean 的类型
+     * @return {@link String }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private String generateNewInstance(TypeElement bean) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(bean.getEnclosedElements());
+        ExecutableElement constructor = null;
+        for (ExecutableElement candidate : constructors) {
+            if (null != getAnnotation(candidate, AUTOWIRED)) {
+                if (null != constructor) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "multiple @Autowired constructors in " + bean.getQualifiedName(), candidate);
+                }
+                constructor = candidate;
+            }
+        }
+        if (null == constructor) {
+            if (constructors.size() == 1) {
+                constructor = constructors.get(0);
+            } else {
+                // 有多个构造方法时使用无参构造方法
+                for (ExecutableElement candidate : constructors) {
+                    if (candidate.getParameters().isEmpty()) {
+                        constructor = candidate;
+                    }
+                }
+            }
+        }
+        if (null == constructor || constructor.getModifiers().contains(Modifier.PRIVATE)) {
+            warn(bean, "constructor of " + bean.getQualifiedName() + " is not accessible, it will be created through reflection");
+            return "return null";
+        }
+        List<String> arguments = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            AnnotationMirror value = getAnnotation(parameter, VALUE);
+            if (null != value) {
+                arguments.add(generateConfigValue(parameter.asType(), getStringValue(value, "value")));
+                continue;
+            }
+            AnnotationMirror autowired = getAnnotation(parameter, AUTOWIRED);
+            arguments.add(generateDependency(parameter.asType(), null == autowired ? "" : getStringValue(autowired, "value"),
+                    parameter));
+        }
+        return "return new " + bean.getQualifiedName() + "(" + String.join(", ", arguments) + ")";
+    }
+
+    /**
+     * 生成获取依赖的表达式，能在编译期确定目标 bean 时直接按其 class 获取，注入点的类型是其他模块中的 bean 时在运行时解析
+     *
+     * @param type  注入点的类型
+     * @param name  指定的 bean 名称，可以为空
+     * @param where 注入点，用于报告错误
+     * @return {@link String }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private String generateDependency(TypeMirror type, String name, Element where) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        String rawName = erasure.toString();
+        if (PROVIDER.equals(rawName)) {
+            return "new org.simpleframework.inject.BeanProvider<>(beanContainer, " + typeArgument(type, 0, where)
+                    + ".class, " + literal(name) + ")";
+        }
+        if (LIST.equals(rawName)) {
+            return "(java.util.List) beanContainer.getBeansOfType(" + typeArgument(type, 0, where) + ".class)";
+        }
+        if (MAP.equals(rawName)) {
+            if (!String.class.getName().equals(typeArgument(type, 0, where))) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "unable to inject " + type + ", the key must be String", where);
+            }
+            return "(java.util.Map) beanContainer.getBeanMapOfType(" + typeArgument(type, 1, where) + ".class)";
+        }
+        TypeElement resolved = resolve(erasure, name, where);
+        if (null == resolved) {
+            return "(" + rawName + ") beanContainer.getRequiredBean(" + rawName + ".class, " + literal(name) + ")";
+        }
+        return "(" + rawName + ") beanContainer.getRequiredBean(" + resolved.getQualifiedName() + ".class, \"\")";
+    }
+
+    /**
+     * 生成获取配置值的表达式，配置在运行时读取并转换
+     *
+     * @param type       注入点的类型
+     * @param expression <code>key:default</code> 形式的表达式
+     * @return {@link String }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private String generateConfigValue(TypeMirror type, String expression) {
+        String rawName = processingEnv.getTypeUtils().erasure(type).toString();
+        return "(" + rawName + ") beanContainer.getConfig().resolve(" + literal(expression) + ", " + rawName + ".class)";
+    }
+
+    /**
+     * 在编译期解析注入点对应的 bean：类型本身是 bean 时直接使用，指定了名称时按名称查找，否则使用唯一的实现类 <br>
+     * 有多个实现类或者找不到任何实现类时留到运行时解析：运行时的包含、排除规则可能过滤掉其中的实现类，
+     * 实现类也可能在其他模块中
+     *
+     * @param type  注入点的类型（已擦除泛型）
+     * @param name  指定的 bean 名称，可以为空
+     * @param where 注入点，用于报告错误
+     * @return {@link TypeElement }，需要在运行时解析时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private TypeElement resolve(TypeMirror type, String name, Element where) {
+        List<TypeElement> candidates = new ArrayList<>();
+        for (TypeElement bean : getVisibleBeans()) {
+            TypeMirror beanType = processingEnv.getTypeUtils().erasure(bean.asType());
+            if (processingEnv.getTypeUtils().isSameType(beanType, type)) {
+                return bean;
+            }
+            if (processingEnv.getTypeUtils().isAssignable(beanType, type)
+                    && (name.isEmpty() || name.equals(getBeanName(bean)))) {
+                candidates.add(bean);
+            }
+        }
+        if (candidates.size() > 1) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "multiple implemented classes for "
+                    + type + " in this compilation, it will be resolved at runtime", where);
+            return null;
+        }
+        if (candidates.isEmpty()) {
+            // 其他模块中的 bean 不在本次编译中，类型本身是 bean 时不需要提示
+            if (!isBeanType(type)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "no bean of type " + type
+                        + (name.isEmpty() ? "" : " named " + name) + " in this compilation, it will be resolved at runtime",
+                        where);
+            }
+            return null;
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * 解析依赖时能看到的 bean：本次编译的 bean 以及上一次编译记录在注册表中的 bean
+     *
+     * @return {@link List<TypeElement> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private List<TypeElement> getVisibleBeans() {
+        if (null == previousBeans) {
+            previousBeans = new LinkedHashMap<>();
+            for (String beanName : readPreviousRegistry().keySet()) {
+                TypeElement typeElement = processingEnv.getElementUtils().getTypeElement(beanName.replace('$', '.'));
+                if (null != typeElement) {
+                    previousBeans.put(beanName, typeElement);
+                }
+            }
+        }
+        List<TypeElement> visibleBeans = new ArrayList<>(beans.values());
+        for (Map.Entry<String, TypeElement> entry : previousBeans.entrySet()) {
+            if (!beans.containsKey(entry.getKey())) {
+                visibleBeans.add(entry.getValue());
+            }
+        }
+        return visibleBeans;
+    }
+
+    /**
+     * 类型本身是否为可以创建的 bean
+     *
+     * @param type 类型（已擦除泛型）
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private boolean isBeanType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (typeElement.getKind() != ElementKind.CLASS || typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (AnnotationMirror annotationMirror : typeElement.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (BEAN_ANNOTATIONS.contains(annotationType.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取 bean 的名称，与运行时的 BeanContainer.getBeanName 一致
+     *
+     * @param bean bean 的类型
+     * @return {@link String }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private String getBeanName(TypeElement bean) {
+        for (AnnotationMirror annotationMirror : bean.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (BEAN_ANNOTATIONS.contains(annotationType.getQualifiedName().toString())) {
+                String name = getStringValue(annotationMirror, "value");
+                if (!name.isEmpty()) {
+                    return name;
+                }
+            }
+        }
+        return bean.getSimpleName().toString();
+    }
+
+    private String typeArgument(TypeMirror type, int index, Element where) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            if (index < arguments.size() && arguments.get(index).getKind() == TypeKind.DECLARED) {
+                return processingEnv.getTypeUtils().erasure(arguments.get(index)).toString();
+            }
+        }
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "unable to inject " + type + ", the bean type must be declared", where);
+        return "java.lang.Object";
+    }
+
+    private static AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return annotationMirror;
+            }
+        }
+        return null;
+    }
+
+    private static String getStringValue(AnnotationMirror annotationMirror, String attribute) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : annotationMirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute) && entry.getValue().getValue() instanceof String) {
+                return (String) entry.getValue().getValue();
+            }
+        }
+        return "";
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private String binaryName(TypeElement typeElement) {
+        return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+    }
+
+    private void warn(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    /**
+     * 合并增量编译前的注册表并写入 class 输出目录
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void writeRegistry() {
+        // 增量编译时只有部分源文件参与处理，需要保留旧注册表中仍然存在的 bean
+        for (Map.Entry<String, String> entry : readPreviousRegistry().entrySet()) {
+            wirings.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        if (wirings.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", WIRING_LOCATION);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# generated by " + getClass().getName() + ", do not edit\n");
+                for (Map.Entry<String, String> entry : wirings.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "unable to write " + WIRING_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 读取上一次编译生成的注册表，过滤掉已经被删除的 bean 和装配类
+     *
+     * @return {@link Map<String, String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private Map<String, String> readPreviousRegistry() {
+        Map<String, String> previous = new TreeMap<>();
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", WIRING_LOCATION);
+            try (Reader reader = new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8);
+                 BufferedReader bufferedReader = new BufferedReader(reader)) {
+                String line;
+                while ((line = bufferedReader.readLine()) != null) {
+                    line = line.trim();
+                    int index = line.indexOf('=');
+                    if (line.isEmpty() || line.startsWith("#") || index < 0) {
+                        continue;
+                    }
+                    String beanName = line.substring(0, index);
+                    String wiringName = line.substring(index + 1);
+                    // 二进制名称中的 $ 需要转换成规范名称才能查找到类型，装配类名本身带有 $$，需要按二进制名称查找
+                    if (null != processingEnv.getElementUtils().getTypeElement(beanName.replace('$', '.'))
+                            && null != processingEnv.getElementUtils().getTypeElement(wiringName)) {
+                        previous.put(beanName, wiringName);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 首次编译时没有旧注册表
+        }
+        return previous;
+    }
+}
@@ -2,7 +2,9 @@ package com.chen.demo.service.impl;
 
 import com.chen.demo.domain.Book;
 import com.chen.demo.service.BookService;
+import org.simpleframework.cache.annotation.Cacheable;
 import org.simpleframework.core.annotation.Service;
+import org.simpleframework.metrics.annotation.Timed;
 
 /**
  * HelloServiceImpl
@@ -15,6 +17,8 @@ import org.simpleframework.core.annotation.Service;
 public class BookServiceImpl implements BookService {
 
     @Override
+    @Timed("book.queryOne")
+    @Cacheable(name = "book", ttl = "10m")
     public Book queryOne(Long id) {
         Book book;
         if (id == 1L) {
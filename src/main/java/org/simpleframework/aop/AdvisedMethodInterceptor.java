@@ -0,0 +1,66 @@
+package org.simpleframework.aop;
+
+import lombok.Getter;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+import org.simpleframework.aop.aspect.AspectInfo;
+import org.simpleframework.aop.aspect.DefaultAspect;
+import org.simpleframework.aop.aspect.Invocation;
+
+import java.lang.reflect.Method;
+
+/**
+ * AdvisedMethodInterceptor
+ * <br>
+ * 单个被增强方法的拦截器，持有织入时精筛好的切面 <br>
+ * 代理类通过 CallbackFilter 把每个被增强的方法直接路由到自己的拦截器，调用时不需要再查找切面 <br>
+ * 切面按 order 从小到大嵌套执行各自的 around，order 小的切面在最外层：before 升序执行，afterReturning、afterThrow 降序执行
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class AdvisedMethodInterceptor implements MethodInterceptor {
+
+    /**
+     * 被代理的类，传递给切面的方法
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 精筛后的切面，按 order 从小到大排序
+     */
+    @Getter
+    private final AspectInfo[] aspects;
+
+    /**
+     * 切面对象，与 aspects 一一对应，调用时直接使用
+     */
+    private final DefaultAspect[] aspectObjects;
+
+    public AdvisedMethodInterceptor(Class<?> targetClass, AspectInfo[] aspects) {
+        this.targetClass = targetClass;
+        this.aspects = aspects;
+        this.aspectObjects = new DefaultAspect[aspects.length];
+        for (int i = 0; i < aspects.length; i++) {
+            aspectObjects[i] = aspects[i].getAspectObject();
+        }
+    }
+
+    /**
+     * 拦截，目标方法或切面抛出的异常原样抛出
+     *
+     * @param proxy       代理
+     * @param method      方法
+     * @param args        args
+     * @param methodProxy 方法的代理
+     * @return {@link Object }
+     * @throws Throwable throwable
+     * @author chenz
+     * @date 2026/10/18
+     */
+    @Override
+    public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+        return new Invocation(targetClass, proxy, method, args, methodProxy, aspectObjects).proceed();
+    }
+}
@@ -1,27 +1,32 @@
 package org.simpleframework.aop;
 
 import lombok.Getter;
-import net.sf.cglib.proxy.MethodInterceptor;
-import net.sf.cglib.proxy.MethodProxy;
 import org.simpleframework.aop.aspect.AspectInfo;
 import org.simpleframework.util.ValidationUtil;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * AspectListExecutor
  * <br>
  * 该类是真正利用我们实现好的切面类实现增强逻辑的类，<br>
- * 这个类的增强功能的实现利用的是cglib
+ * 这个类的增强功能的实现利用的是cglib <br>
+ * 织入时为每个被增强的方法创建一个拦截器，代理类只把这些方法交给对应的拦截器，其余方法直接调用父类
  *
  * @author chenz
  * @version 1.0
  * @date 2021/9/20
  */
-@SuppressWarnings("squid:S112")
-public class AspectListExecutor implements MethodInterceptor {
+public class AspectListExecutor {
     /**
      * 被代理的类
      * <br>
@@ -39,10 +44,18 @@ public class AspectListExecutor implements MethodInterceptor {
     @Getter
     private final List<AspectInfo> sortedAspectInfoList;
 
+    /**
+     * 每个方法的拦截器，持有精筛后的切面，织入时一次性计算好，之后只读 <br>
+     * 没有任何切面的方法不在其中
+     */
+    @Getter
+    private final Map<Method, AdvisedMethodInterceptor> interceptors;
+
     public AspectListExecutor(Class<?> targetClass, List<AspectInfo> aspectInfoList) {
         this.targetClass = targetClass;
         // 排序 aspectInfoList 并储存
-        this.sortedAspectInfoList = sortedAspectInfoList(aspectInfoList);
+        this.sortedAspectInfoList = Collections.unmodifiableList(sortedAspectInfoList(aspectInfoList));
+        this.interceptors = collectAccurateMatchedAspects(targetClass, this.sortedAspectInfoList);
     }
 
     /**
@@ -54,112 +67,82 @@ public class AspectListExecutor implements MethodInterceptor {
      * @date 2021/09/21
      */
     private List<AspectInfo> sortedAspectInfoList(List<AspectInfo> aspectInfoList) {
+        // 复制一份再排序，粗筛的列表可能被其他类共用
+        List<AspectInfo> sortedList = new ArrayList<>(aspectInfoList);
         // 使用方法引用的方式进行排序，效果与使用compare及lambda表达式一致
-        aspectInfoList.sort(Comparator.comparingInt(AspectInfo::getOrderIndex));
-        return aspectInfoList;
+        sortedList.sort(Comparator.comparingInt(AspectInfo::getOrderIndex));
+        return sortedList;
     }
 
     /**
-     * 拦截
+     * 精筛切面列表：对代理类可以拦截的每个方法，按 order 的顺序找出能够增强它的切面，并交给切面检查
      *
-     * @param proxy       代理
-     * @param method      方法
-     * @param args        args
-     * @param methodProxy 方法的代理
-     * @return {@link Object }
-     * @throws Throwable throwable
+     * @param targetClass          被代理的类
+     * @param sortedAspectInfoList 排序后的粗筛切面列表
+     * @return {@link Map<Method, AdvisedMethodInterceptor> }
      * @author chenz
-     * @date 2021/10/12
+     * @date 2026/10/18
      */
-    @Override
-    public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
-        // 存储被代理的方法的返回值
-        Object returnValue = null;
-        // 粗筛该方法的增强切面
-        collectAccurateMatchedAspectList(method);
-        // 没有增强切面就直接执行方法并返回结果
+    private static Map<Method, AdvisedMethodInterceptor> collectAccurateMatchedAspects(Class<?> targetClass,
+            List<AspectInfo> sortedAspectInfoList) {
         if (ValidationUtil.isEmpty(sortedAspectInfoList)) {
-            return methodProxy.invokeSuper(proxy, args);
+            return Collections.emptyMap();
         }
-        // 按照 order 的顺序升序执行完所有的 aspect 的 before 方法
-        invokeBeforeAdvices(method, args);
-        try {
-            // 执行被代理类的方法(用代理对象和被代理方法参数)
-            returnValue = methodProxy.invokeSuper(proxy, args);
-            // 如果被代理方法正常返回，则按照order的降序执行完所有 aspect 中的 afterReturn 方法
-            invokeAfterReturningAdvices(method, args, returnValue);
-        } catch (Exception e) {
-            // 如果被代理方法抛出异常，则按照 order 的顺序降序执行完所有 Aspect 的 afterThrow 方法
-            invokeAfterThrowingAdvices(method, args, e);
-        }
-
-        return returnValue;
-    }
-
-    /**
-     * 精筛切面列表
-     *
-     * @param method 方法
-     * @author chenz
-     * @date 2021/09/21
-     */
-    private void collectAccurateMatchedAspectList(Method method) {
-        if (ValidationUtil.isEmpty(sortedAspectInfoList)) {
-            return;
+        // 保持方法的顺序，相同的切面组合命中 CGLIB 缓存的同一个代理类
+        Map<Method, AdvisedMethodInterceptor> interceptors = new LinkedHashMap<>();
+        for (Method method : getInterceptableMethods(targetClass)) {
+            List<AspectInfo> matchedAspects = new ArrayList<>();
+            for (AspectInfo aspectInfo : sortedAspectInfoList) {
+                if (aspectInfo.getPointcutLocator().accurateMatches(method)) {
+                    aspectInfo.getAspectObject().validate(targetClass, method);
+                    matchedAspects.add(aspectInfo);
+                }
+            }
+            if (!matchedAspects.isEmpty()) {
+                interceptors.put(method,
+                        new AdvisedMethodInterceptor(targetClass, matchedAspects.toArray(new AspectInfo[0])));
+            }
         }
-        /* 如果该切面类不能增强该方法，就移除
-         * 不能使用 sortedAspectInfoList 的 remove，会有并发异常，
-         * 需要使用 iterator 的remove方法,
-         * removeIf() 是 iterator.remove() 写法的封装
-         */
-        sortedAspectInfoList.removeIf(aspectInfo -> !aspectInfo.getPointcutLocator().accurateMatches(method));
+        return Collections.unmodifiableMap(interceptors);
     }
 
     /**
-     * 按照 order 的顺序 <strong>升序</strong> <br>
-     * 执行完所有 aspect 的 <strong>before</strong> 方法
+     * 代理类可以拦截的方法：类及其父类中声明的非静态、非 private、非 final 的方法，以及接口中的默认方法 <br>
+     * 拦截时传入的 Method 是声明该方法的类中的 Method，这里收集的 Method 与之相等
      *
-     * @param method 方法
-     * @param args   args
+     * @param targetClass 被代理的类
+     * @return {@link Set<Method> }
      * @author chenz
-     * @date 2021/09/21
+     * @date 2026/10/18
      */
-    private void invokeBeforeAdvices(Method method, Object[] args) throws Throwable {
-        for (AspectInfo aspectInfo : sortedAspectInfoList) {
-            aspectInfo.getAspectObject().before(targetClass, method, args);
+    private static Set<Method> getInterceptableMethods(Class<?> targetClass) {
+        Set<Method> methods = new LinkedHashSet<>();
+        for (Class<?> clazz = targetClass; null != clazz; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                int modifiers = method.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers) && !Modifier.isFinal(modifiers)) {
+                    methods.add(method);
+                }
+            }
         }
-    }
-
-    /**
-     * 按照 order 的顺序 <strong>降序</strong> <br>
-     * 执行完所有 aspect 中的 <strong>afterReturning</strong> 方法
-     *
-     * @param method      方法
-     * @param args        args
-     * @param returnValue 返回值
-     * @author chenz
-     * @date 2021/09/21
-     */
-    private void invokeAfterReturningAdvices(Method method, Object[] args, Object returnValue) throws Throwable {
-        for (int i = sortedAspectInfoList.size() - 1; i >= 0; i--) {
-            sortedAspectInfoList.get(i).getAspectObject().afterReturning(targetClass, method, args, returnValue);
+        for (Method method : targetClass.getMethods()) {
+            if (method.isDefault()) {
+                methods.add(method);
+            }
         }
+        return methods;
     }
 
     /**
-     * 按照 order 的顺序 <strong>降序</strong> <br>
-     * 执行完所有 Aspect 的 <strong>afterThrowing</strong> 方法
+     * 获取方法精筛后的切面
      *
      * @param method 方法
-     * @param args   args
-     * @param e      e
-     * @throws Throwable throwable
+     * @return {@link AspectInfo[] }，没有切面时返回 null
      * @author chenz
-     * @date 2021/09/21
+     * @date 2026/10/18
      */
-    private void invokeAfterThrowingAdvices(Method method, Object[] args, Exception e) throws Throwable {
-        for (int i = sortedAspectInfoList.size() - 1; i >= 0; i--) {
-            sortedAspectInfoList.get(i).getAspectObject().afterThrow(targetClass, method, args, e);
-        }
+    public AspectInfo[] getAdvices(Method method) {
+        AdvisedMethodInterceptor interceptor = interceptors.get(method);
+        return null == interceptor ? null : interceptor.getAspects();
     }
 }
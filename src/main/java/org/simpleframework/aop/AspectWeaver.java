@@ -1,56 +1,205 @@
 package org.simpleframework.aop;
 
+import net.sf.cglib.proxy.Enhancer;
 import org.simpleframework.aop.annotation.Aspect;
 import org.simpleframework.aop.annotation.Order;
 import org.simpleframework.aop.aspect.AspectInfo;
 import org.simpleframework.aop.aspect.DefaultAspect;
+import org.simpleframework.cache.CacheAspect;
+import org.simpleframework.cache.CacheManager;
+import org.simpleframework.cache.annotation.CacheEvict;
+import org.simpleframework.cache.annotation.Cacheable;
 import org.simpleframework.core.BeanContainer;
+import org.simpleframework.core.BeanInstantiator;
+import org.simpleframework.core.startup.StartupRecorder;
+import org.simpleframework.core.startup.StartupSnapshot;
+import org.simpleframework.core.startup.StartupStep;
+import org.simpleframework.metrics.TimedAspect;
+import org.simpleframework.metrics.TimerRegistry;
+import org.simpleframework.metrics.annotation.Timed;
+import org.simpleframework.util.ClassUtil;
 import org.simpleframework.util.ValidationUtil;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AspectWeaver
  * <br>
- * 从IOC容器中取出我们想要实现增强逻辑的类，然后对其进行增强操作之后，再将其放回到IOC容器中
+ * 从IOC容器中取出我们想要实现增强逻辑的类，然后对其进行增强操作之后，再将其放回到IOC容器中 <br>
+ * 启动时由 BeanContainer 在创建完切面之后调用 prepare 注册为 BeanInstantiator，之后创建的 bean 直接创建为代理对象；
+ * doAOP 只处理在此之前已经放入容器的 bean
  *
  * @author chenz
  * @version 1.0
  * @date 2021/9/20
  */
 @SuppressWarnings({"squid:S112", "unused"})
-public class AspectWeaver {
+public class AspectWeaver implements BeanInstantiator {
+
+    /**
+     * 框架内置的切面：切面及其依赖的 bean 的 class，以及使用该切面的注解 <br>
+     * 扫描的包中没有这些类时，只有容器中的类使用了对应的注解才会注册，不使用时不会增加任何 bean
+     */
+    private static final Map<List<Class<?>>, List<Class<? extends Annotation>>> BUILT_IN_ASPECTS = new LinkedHashMap<>();
+
+    static {
+        BUILT_IN_ASPECTS.put(Arrays.asList(CacheManager.class, CacheAspect.class),
+                Arrays.asList(Cacheable.class, CacheEvict.class));
+        BUILT_IN_ASPECTS.put(Arrays.asList(TimerRegistry.class, TimedAspect.class),
+                Collections.singletonList(Timed.class));
+    }
 
     private final BeanContainer beanContainer;
 
+    /**
+     * 每个目标类的切面执行器
+     */
+    private final Map<Class<?>, AspectListExecutor> executors = new ConcurrentHashMap<>();
+
+    /**
+     * 切面信息，prepare 之后不再改变
+     */
+    private List<AspectInfo> aspectInfoList = Collections.emptyList();
+
     public AspectWeaver() {
         this.beanContainer = BeanContainer.getInstance();
     }
 
-    public void doAOP() {
+    /**
+     * 准备织入：注册用到的内置切面，解析所有切面，有切面时注册为容器的 BeanInstantiator <br>
+     * 由 BeanContainer 在创建完切面之后、创建其他 bean 之前调用，之后创建的 bean 直接创建为织入切面的代理对象
+     *
+     * @param pendingClasses 还没有创建的 bean，判断是否使用了内置切面的注解时也需要检查
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void prepare(Collection<Class<?>> pendingClasses) {
+        registerBuiltInAspects(pendingClasses);
         // 获取所有的切面类
         Set<Class<?>> aspectSet = beanContainer.getClassesByAnnotation(Aspect.class);
         if (ValidationUtil.isEmpty(aspectSet)) {
             return;
         }
         // 拼接 AspectInfoList
-        List<AspectInfo> aspectInfoList = packAspectInfoList(aspectSet);
+        aspectInfoList = packAspectInfoList(aspectSet);
+        beanContainer.setBeanInstantiator(this);
+    }
+
+    public void doAOP() {
+        // 启动时已经准备好的织入，其中记录了已经精筛过的类
+        BeanInstantiator instantiator = beanContainer.getBeanInstantiator();
+        AspectWeaver weaver = instantiator instanceof AspectWeaver ? (AspectWeaver) instantiator : this;
+        if (weaver == this) {
+            prepare(Collections.emptyList());
+        }
+        if (weaver.aspectInfoList.isEmpty()) {
+            return;
+        }
         // 遍历容器中的类
         for (Class<?> targetClass : beanContainer.getClasses()) {
-            // 排除自身
-            if (targetClass.isAnnotationPresent(Aspect.class)) {
+            // 排除自身，非单例 bean 的作用域代理不织入，由作用域中的实例创建时织入
+            if (targetClass.isAnnotationPresent(Aspect.class) || beanContainer.isScoped(targetClass)) {
+                continue;
+            }
+            // 创建时已经织入的 bean 不再处理
+            if (Enhancer.isEnhanced(beanContainer.getBean(targetClass).getClass())) {
                 continue;
             }
-            // 粗筛符合条件的 Aspect
-            List<AspectInfo> roughMatchedAspectList
-                    = collectRoughMatchedAspectListForSpecificClass(aspectInfoList, targetClass);
             // 尝试织入
-            wrapIfNecessary(roughMatchedAspectList, targetClass);
+            weaver.wrapIfNecessary(weaver.matchAspects(targetClass), targetClass);
         }
+    }
+
+    /**
+     * 创建 bean 时直接创建织入切面的代理对象，切面本身不织入
+     *
+     * @param beanClass bean 的 class 对象
+     * @return {@link Object }，没有匹配的切面时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    @Override
+    public Object instantiate(Class<?> beanClass) {
+        if (beanClass.isAnnotationPresent(Aspect.class)) {
+            return null;
+        }
+        return createProxyIfNecessary(matchAspects(beanClass), beanClass);
+    }
+
+    /**
+     * 粗筛符合条件的切面，classpath 没有变化时直接使用启动快照中的结果
+     *
+     * @param targetClass 目标类
+     * @return {@link List<AspectInfo> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private List<AspectInfo> matchAspects(Class<?> targetClass) {
+        StartupSnapshot snapshot = StartupSnapshot.current();
+        List<AspectInfo> roughMatchedAspectList = snapshot.isReplaying()
+                ? replayRoughMatchedAspectList(snapshot, aspectInfoList, targetClass)
+                : collectRoughMatchedAspectListForSpecificClass(aspectInfoList, targetClass);
+        snapshot.recordAspectMatches(targetClass, toAspectClasses(roughMatchedAspectList));
+        return roughMatchedAspectList;
+    }
 
+    /**
+     * 容器中有类使用了内置切面的注解时，注册该切面及其依赖的 bean，已经扫描到的类不会重复注册
+     *
+     * @param pendingClasses 还没有创建的 bean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void registerBuiltInAspects(Collection<Class<?>> pendingClasses) {
+        for (Map.Entry<List<Class<?>>, List<Class<? extends Annotation>>> entry : BUILT_IN_ASPECTS.entrySet()) {
+            if (!isAnnotationUsed(entry.getValue(), pendingClasses)) {
+                continue;
+            }
+            for (Class<?> clazz : entry.getKey()) {
+                // 按 class 判断是否已经在容器中，用户的同名类不会挡住内置的 bean
+                if (clazz != beanContainer.getClassByName(BeanContainer.getBeanName(clazz))
+                        && !pendingClasses.contains(clazz)) {
+                    beanContainer.addBean(clazz, ClassUtil.newInstance(clazz));
+                }
+            }
+        }
+    }
 
+    /**
+     * 容器中或者还没有创建的 bean 中是否有类的方法标记了给定的注解，包括还没有被创建的懒加载 bean
+     *
+     * @param annotations    注解
+     * @param pendingClasses 还没有创建的 bean
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private boolean isAnnotationUsed(List<Class<? extends Annotation>> annotations,
+            Collection<Class<?>> pendingClasses) {
+        Set<Class<?>> classes = new HashSet<>(beanContainer.getClassesBySuper(Object.class));
+        classes.addAll(pendingClasses);
+        for (Class<?> clazz : classes) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                for (Class<? extends Annotation> annotation : annotations) {
+                    if (method.isAnnotationPresent(annotation)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -73,7 +222,11 @@ public class AspectWeaver {
             Order orderTag = aspectClass.getAnnotation(Order.class);
             DefaultAspect defaultAspect = (DefaultAspect) beanContainer.getBean(aspectClass);
             // 初始化表达式定位器
-            PointcutLocator pointcutLocator = new PointcutLocator(aspectTag.pointcut());
+            PointcutLocator pointcutLocator;
+            try (StartupStep step = StartupRecorder.current().step(StartupRecorder.POINTCUT, aspectClass.getName())) {
+                step.detail(aspectTag.pointcut());
+                pointcutLocator = new PointcutLocator(aspectTag.pointcut());
+            }
             AspectInfo aspectInfo = new AspectInfo(orderTag.value(), defaultAspect, pointcutLocator);
             aspectInfoList.add(aspectInfo);
         }
@@ -102,7 +255,37 @@ public class AspectWeaver {
     }
 
     /**
-     * 织入切面
+     * 从启动快照中获取粗筛的结果
+     *
+     * @param snapshot       启动快照
+     * @param aspectInfoList 切面信息列表
+     * @param targetClass    目标类
+     * @return {@link List<AspectInfo> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private List<AspectInfo> replayRoughMatchedAspectList(StartupSnapshot snapshot, List<AspectInfo> aspectInfoList,
+            Class<?> targetClass) {
+        List<String> aspectClassNames = snapshot.getAspectMatches(targetClass);
+        List<AspectInfo> roughMatchedAspectList = new ArrayList<>();
+        for (AspectInfo aspectInfo : aspectInfoList) {
+            if (aspectClassNames.contains(aspectInfo.getAspectObject().getClass().getName())) {
+                roughMatchedAspectList.add(aspectInfo);
+            }
+        }
+        return roughMatchedAspectList;
+    }
+
+    private List<Class<?>> toAspectClasses(List<AspectInfo> aspectInfoList) {
+        List<Class<?>> aspectClasses = new ArrayList<>();
+        for (AspectInfo aspectInfo : aspectInfoList) {
+            aspectClasses.add(aspectInfo.getAspectObject().getClass());
+        }
+        return aspectClasses;
+    }
+
+    /**
+     * 织入切面，用于在准备织入之前就已经放入容器的 bean，代理对象需要重新调用构造方法
      *
      * @param roughMatchedAspectList 粗筛切面列表
      * @param targetClass            目标类
@@ -110,12 +293,42 @@ public class AspectWeaver {
      * @date 2021/09/21
      */
     private void wrapIfNecessary(List<AspectInfo> roughMatchedAspectList, Class<?> targetClass) {
+        Object proxy = createProxyIfNecessary(roughMatchedAspectList, targetClass);
+        if (null != proxy) {
+            beanContainer.addBean(targetClass, proxy);
+        }
+    }
+
+    /**
+     * 创建代理对象，没有匹配的切面时返回 null
+     *
+     * @param roughMatchedAspectList 粗筛切面列表
+     * @param targetClass            目标类
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private Object createProxyIfNecessary(List<AspectInfo> roughMatchedAspectList, Class<?> targetClass) {
         if (ValidationUtil.isEmpty(roughMatchedAspectList)) {
-            return;
+            return null;
+        }
+        try (StartupStep step = StartupRecorder.current().step(StartupRecorder.PROXY, targetClass.getName())) {
+            step.detail(roughMatchedAspectList.size() + " aspects");
+            // 非单例 bean 每个实例都会织入，同一个类的精筛结果只计算一次
+            AspectListExecutor aspectListExecutor = executors.computeIfAbsent(targetClass,
+                    clazz -> new AspectListExecutor(clazz, roughMatchedAspectList));
+            // 精筛后没有任何方法需要增强时不创建代理
+            if (aspectListExecutor.getInterceptors().isEmpty()) {
+                return null;
+            }
+            Constructor<?> constructor = BeanContainer.getAutowiredConstructor(targetClass);
+            if (null == constructor) {
+                return ProxyCreator.createProxy(targetClass, aspectListExecutor);
+            }
+            // 构造方法注入的类没有无参构造方法，代理对象使用解析出的参数创建，创建 bean 时只调用代理类的构造方法
+            return ProxyCreator.createProxy(targetClass, aspectListExecutor, constructor.getParameterTypes(),
+                    beanContainer.resolveConstructorArguments(constructor));
         }
-        AspectListExecutor aspectListExecutor = new AspectListExecutor(targetClass, roughMatchedAspectList);
-        Object proxy = ProxyCreator.createProxy(targetClass, aspectListExecutor);
-        beanContainer.addBean(targetClass, proxy);
     }
 
     /**
@@ -2,13 +2,28 @@ package org.simpleframework.aop;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.CallbackFilter;
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
 import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.NoOp;
+import org.simpleframework.util.ClassUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * ProxyCreator
  * <br>
- * 根据目标对象和我们的增强逻辑，组合出最终的代理类对象
+ * 根据目标对象和我们的增强逻辑，组合出最终的代理类对象 <br>
+ * 织入切面时通过 CallbackFilter 把没有切面的方法交给 NoOp，代理类不会重写这些方法，调用开销与直接调用相同；
+ * 被增强的方法各自路由到自己的拦截器。CGLIB 按类加载器弱引用缓存生成的代理类，CallbackFilter 也是缓存键的一部分，
+ * 目标类和被增强的方法都相同的多个实例共用一个代理类，类加载器被回收时代理类也随之卸载
  *
  * @author chenz
  * @version 1.0
@@ -18,6 +33,15 @@ import net.sf.cglib.proxy.MethodInterceptor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ProxyCreator {
 
+    /**
+     * NoOp 在 callback 数组中的位置
+     */
+    private static final int NO_OP_INDEX = 0;
+
+    private static final Class<?>[] NO_ARGUMENT_TYPES = new Class<?>[0];
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
     /**
      * 创建动态代理对象并返回
      *
@@ -30,4 +54,168 @@ public class ProxyCreator {
     public static Object createProxy(Class<?> targetClass, MethodInterceptor methodInterceptor) {
         return Enhancer.create(targetClass, methodInterceptor);
     }
+
+    /**
+     * 使用指定的构造方法参数创建动态代理对象并返回，用于没有无参构造方法的类
+     *
+     * @param targetClass       被代理的class对象
+     * @param methodInterceptor 方法拦截器
+     * @param argumentTypes     构造方法的参数类型
+     * @param arguments         构造方法的参数
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Object createProxy(Class<?> targetClass, MethodInterceptor methodInterceptor,
+            Class<?>[] argumentTypes, Object[] arguments) {
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(targetClass);
+        enhancer.setCallback(methodInterceptor);
+        return enhancer.create(argumentTypes, arguments);
+    }
+
+    /**
+     * 不调用任何构造方法创建动态代理对象并返回，用于代理对象自身的状态不会被使用的场景，例如作用域代理 <br>
+     * 目标类的构造方法可能依赖其他 bean 或者校验参数，使用默认值调用并不安全
+     *
+     * @param targetClass       被代理的class对象
+     * @param methodInterceptor 方法拦截器
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Object createProxyWithoutConstructor(Class<?> targetClass, MethodInterceptor methodInterceptor) {
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(targetClass);
+        enhancer.setCallbackType(MethodInterceptor.class);
+        Object proxy = allocateInstance(enhancer.createClass());
+        // 没有调用构造方法，callback 需要手动设置
+        ((Factory) proxy).setCallbacks(new Callback[]{methodInterceptor});
+        return proxy;
+    }
+
+    /**
+     * 不调用构造方法创建对象，与 Java 反序列化的方式相同：只调用 Object 的构造方法
+     *
+     * @param clazz clazz
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static Object allocateInstance(Class<?> clazz) {
+        try {
+            // 通过反射获取，避免编译时依赖内部 API
+            Class<?> factoryClass = Class.forName("sun.reflect.ReflectionFactory");
+            Object factory = factoryClass.getMethod("getReflectionFactory").invoke(null);
+            Constructor<?> constructor = (Constructor<?>) factoryClass
+                    .getMethod("newConstructorForSerialization", Class.class, Constructor.class)
+                    .invoke(factory, clazz, Object.class.getDeclaredConstructor());
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("unable to create " + clazz.getName() + " without calling its constructor", e);
+        }
+    }
+
+    /**
+     * 创建织入切面的代理对象，只有被增强的方法会经过拦截器
+     *
+     * @param targetClass        被代理的class对象
+     * @param aspectListExecutor 切面执行器
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Object createProxy(Class<?> targetClass, AspectListExecutor aspectListExecutor) {
+        return createProxy(targetClass, aspectListExecutor, NO_ARGUMENT_TYPES, NO_ARGUMENTS);
+    }
+
+    /**
+     * 使用指定的构造方法参数创建织入切面的代理对象，只有被增强的方法会经过拦截器
+     *
+     * @param targetClass        被代理的class对象
+     * @param aspectListExecutor 切面执行器
+     * @param argumentTypes      构造方法的参数类型
+     * @param arguments          构造方法的参数
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Object createProxy(Class<?> targetClass, AspectListExecutor aspectListExecutor,
+            Class<?>[] argumentTypes, Object[] arguments) {
+        Map<Method, AdvisedMethodInterceptor> interceptors = aspectListExecutor.getInterceptors();
+        AdviceRouting routing = new AdviceRouting(targetClass, new ArrayList<>(interceptors.keySet()));
+        Class<?> proxyClass = createProxyClass(routing);
+        // callback 的顺序与 AdviceRouting 中方法的顺序一致
+        Callback[] callbacks = new Callback[interceptors.size() + 1];
+        callbacks[NO_OP_INDEX] = NoOp.INSTANCE;
+        int index = NO_OP_INDEX + 1;
+        for (AdvisedMethodInterceptor interceptor : interceptors.values()) {
+            callbacks[index++] = interceptor;
+        }
+        // 代理类的构造方法从当前线程中取出 callback
+        Enhancer.registerCallbacks(proxyClass, callbacks);
+        try {
+            return ClassUtil.newInstance(proxyClass.getDeclaredConstructor(argumentTypes), arguments);
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException("unable to find constructor of proxy class " + proxyClass.getName(), e);
+        } finally {
+            Enhancer.registerCallbacks(proxyClass, null);
+        }
+    }
+
+    private static Class<?> createProxyClass(AdviceRouting routing) {
+        Class<?>[] callbackTypes = new Class<?>[routing.advisedMethods.size() + 1];
+        callbackTypes[NO_OP_INDEX] = NoOp.class;
+        for (int i = NO_OP_INDEX + 1; i < callbackTypes.length; i++) {
+            callbackTypes[i] = MethodInterceptor.class;
+        }
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(routing.targetClass);
+        enhancer.setCallbackFilter(routing);
+        enhancer.setCallbackTypes(callbackTypes);
+        return enhancer.createClass();
+    }
+
+    /**
+     * 代理类中方法到 callback 的路由，没有切面的方法使用 NoOp，被增强的方法使用各自的拦截器 <br>
+     * 目标类和被增强的方法都相同时生成的代理类也相同，实现了 equals 和 hashCode，CGLIB 用它作为代理类缓存键的一部分
+     */
+    private static final class AdviceRouting implements CallbackFilter {
+
+        private final Class<?> targetClass;
+
+        private final List<Method> advisedMethods;
+
+        private final Map<Method, Integer> callbackIndexes = new HashMap<>();
+
+        private AdviceRouting(Class<?> targetClass, List<Method> advisedMethods) {
+            this.targetClass = targetClass;
+            this.advisedMethods = advisedMethods;
+            for (int i = 0; i < advisedMethods.size(); i++) {
+                callbackIndexes.put(advisedMethods.get(i), NO_OP_INDEX + 1 + i);
+            }
+        }
+
+        @Override
+        public int accept(Method method) {
+            return callbackIndexes.getOrDefault(method, NO_OP_INDEX);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof AdviceRouting)) {
+                return false;
+            }
+            AdviceRouting that = (AdviceRouting) o;
+            return targetClass == that.targetClass && advisedMethods.equals(that.advisedMethods);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * targetClass.hashCode() + advisedMethods.hashCode();
+        }
+    }
 }
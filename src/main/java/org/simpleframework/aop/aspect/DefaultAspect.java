@@ -5,7 +5,9 @@ import java.lang.reflect.Method;
 /**
  * DefaultAspect
  * <br>
- * 定义框架支持的advice
+ * 定义框架支持的advice <br>
+ * around 包裹整个调用，默认实现按 before、目标方法、afterReturning 或 afterThrow 的顺序执行，
+ * 需要短路调用、替换返回值或者精确计时的切面重写 around 即可
  *
  * @author chenz
  * @version 1.0
@@ -13,6 +15,18 @@ import java.lang.reflect.Method;
  */
 @SuppressWarnings({"unused", "squid:S112", "squid:S1610"})
 public abstract class DefaultAspect {
+    /**
+     * 织入时对每个被该切面增强的方法调用一次，可以在这里检查方法上的注解，
+     * 抛出异常时启动失败，而不是等到第一次调用时才失败
+     *
+     * @param targetClass 被代理的目标类
+     * @param method      被增强的方法
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void validate(Class<?> targetClass, Method method) {
+    }
+
     /**
      * 事前拦截
      *
@@ -55,4 +69,31 @@ public abstract class DefaultAspect {
      */
     public void afterThrow(Class<?> targetClass, Method method, Object[] args, Throwable throwable) throws Throwable {
     }
+
+    /**
+     * 环绕拦截，调用 invocation.proceed() 继续执行后续的切面和目标方法 <br>
+     * afterReturning 的返回值不会替换目标方法的返回值，需要替换时重写该方法并返回新的值；
+     * 目标方法抛出的异常在 afterThrow 之后继续抛出
+     *
+     * @param invocation 本次调用
+     * @return {@link Object }
+     * @throws Throwable throwable
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Object around(Invocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getTargetClass();
+        Method method = invocation.getMethod();
+        Object[] args = invocation.getArguments();
+        before(targetClass, method, args);
+        Object returnValue;
+        try {
+            returnValue = invocation.proceed();
+        } catch (Throwable throwable) {
+            afterThrow(targetClass, method, args, throwable);
+            throw throwable;
+        }
+        afterReturning(targetClass, method, args, returnValue);
+        return returnValue;
+    }
 }
@@ -0,0 +1,87 @@
+package org.simpleframework.aop.aspect;
+
+import lombok.Getter;
+import net.sf.cglib.proxy.MethodProxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * Invocation
+ * <br>
+ * 一次被增强方法的调用，按 order 从小到大依次经过各个切面的 around，最后调用被代理的方法 <br>
+ * 每次调用只创建一个 Invocation，通过下标推进调用链；proceed 返回后下标会恢复，切面可以多次调用 proceed（例如重试），
+ * 也可以不调用 proceed 直接返回（例如命中缓存）
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class Invocation {
+
+    /**
+     * 被代理的目标类
+     */
+    @Getter
+    private final Class<?> targetClass;
+
+    /**
+     * 代理对象
+     */
+    @Getter
+    private final Object proxy;
+
+    /**
+     * 被代理的目标方法
+     */
+    @Getter
+    private final Method method;
+
+    /**
+     * 目标方法的参数，切面可以在 proceed 之前修改其中的元素
+     */
+    @Getter
+    private final Object[] arguments;
+
+    private final MethodProxy methodProxy;
+
+    /**
+     * 方法精筛后的切面，按 order 从小到大排序
+     */
+    private final DefaultAspect[] aspects;
+
+    /**
+     * 下一个要执行的切面的下标
+     */
+    private int index;
+
+    public Invocation(Class<?> targetClass, Object proxy, Method method, Object[] arguments, MethodProxy methodProxy,
+            DefaultAspect[] aspects) {
+        this.targetClass = targetClass;
+        this.proxy = proxy;
+        this.method = method;
+        this.arguments = arguments;
+        this.methodProxy = methodProxy;
+        this.aspects = aspects;
+    }
+
+    /**
+     * 执行调用链中的下一个切面，没有切面时调用被代理的方法
+     *
+     * @return {@link Object }
+     * @throws Throwable 被代理的方法或切面抛出的异常
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Object proceed() throws Throwable {
+        int current = index;
+        if (current == aspects.length) {
+            return methodProxy.invokeSuper(proxy, arguments);
+        }
+        index = current + 1;
+        try {
+            return aspects[current].around(this);
+        } finally {
+            index = current;
+        }
+    }
+}
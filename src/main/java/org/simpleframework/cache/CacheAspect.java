@@ -0,0 +1,155 @@
+package org.simpleframework.cache;
+
+import org.simpleframework.aop.annotation.Aspect;
+import org.simpleframework.aop.annotation.Order;
+import org.simpleframework.aop.aspect.DefaultAspect;
+import org.simpleframework.aop.aspect.Invocation;
+import org.simpleframework.cache.annotation.CacheEvict;
+import org.simpleframework.cache.annotation.Cacheable;
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.config.ConfigSnapshot;
+import org.simpleframework.inject.annotation.Autowired;
+import org.simpleframework.util.ValidationUtil;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheAspect
+ * <br>
+ * 实现 Cacheable 和 CacheEvict：命中缓存时不调用 proceed，直接返回缓存的值；CacheEvict 在方法正常返回后移除缓存项 <br>
+ * order 为 Integer.MIN_VALUE + 1，在用户的切面之前执行，命中缓存时其他切面不会执行；
+ * Integer.MIN_VALUE 留给需要观察包括命中缓存在内的每一次调用的切面 <br>
+ * 缓存的键由参数组成：没有参数时为固定的键，一个参数时为参数本身，多个参数时为参数的列表，参数需要正确实现 equals 和 hashCode <br>
+ * 织入时检查 Cacheable 的配置，maxSize 不是正数或者 ttl 无法解析时启动失败
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component("simpleframework.cacheAspect")
+@Order(Integer.MIN_VALUE + 1)
+@Aspect(pointcut = "execution(@org.simpleframework.cache.annotation.Cacheable * *(..)) "
+        + "|| execution(@org.simpleframework.cache.annotation.CacheEvict * *(..))")
+public class CacheAspect extends DefaultAspect {
+
+    /**
+     * 没有参数的方法的键
+     */
+    private static final Object EMPTY_KEY = new Object();
+
+    /**
+     * 代替 null 的参数，ConcurrentHashMap 的键不能为 null
+     */
+    private static final Object NULL_KEY = new Object();
+
+    /**
+     * 代替 null 的返回值，使返回 null 的调用同样被缓存
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * 每个方法解析好的缓存操作
+     */
+    private final Map<Method, CacheOperation> operations = new ConcurrentHashMap<>();
+
+    @Override
+    public void validate(Class<?> targetClass, Method method) {
+        Cacheable cacheable = method.getAnnotation(Cacheable.class);
+        if (null == cacheable) {
+            return;
+        }
+        if (cacheable.maxSize() <= 0) {
+            throw new IllegalArgumentException("maxSize of @Cacheable on " + targetClass.getName() + "."
+                    + method.getName() + " must be positive: " + cacheable.maxSize());
+        }
+        parseTtlNanos(cacheable);
+    }
+
+    @Override
+    public Object around(Invocation invocation) throws Throwable {
+        CacheOperation operation = operations.computeIfAbsent(invocation.getMethod(), this::parseOperation);
+        Object key = generateKey(invocation.getArguments());
+        Object returnValue;
+        if (null == operation.cache) {
+            returnValue = invocation.proceed();
+        } else {
+            Object cachedValue = operation.cache.get(key);
+            if (null != cachedValue) {
+                return cachedValue == NULL_VALUE ? null : cachedValue;
+            }
+            returnValue = invocation.proceed();
+            operation.cache.put(key, null == returnValue ? NULL_VALUE : returnValue);
+        }
+        if (null != operation.evictName) {
+            // 缓存由 Cacheable 在第一次调用时创建，还没有创建时不需要移除
+            TinyLfuCache<Object, Object> evictCache = cacheManager.getCache(operation.evictName);
+            if (null == evictCache) {
+                return returnValue;
+            }
+            if (operation.allEntries) {
+                evictCache.invalidateAll();
+            } else {
+                evictCache.invalidate(key);
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * 解析方法上的注解，Cacheable 的缓存在第一次调用时创建，配置已经在织入时检查过
+     *
+     * @param method 方法
+     * @return {@link CacheOperation }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private CacheOperation parseOperation(Method method) {
+        CacheOperation operation = new CacheOperation();
+        Cacheable cacheable = method.getAnnotation(Cacheable.class);
+        if (null != cacheable) {
+            String name = ValidationUtil.isEmpty(cacheable.name())
+                    ? method.getDeclaringClass().getName() + "." + method.getName()
+                    : cacheable.name();
+            operation.cache = cacheManager.getOrCreate(name, cacheable.maxSize(), parseTtlNanos(cacheable));
+        }
+        CacheEvict cacheEvict = method.getAnnotation(CacheEvict.class);
+        if (null != cacheEvict) {
+            operation.evictName = cacheEvict.name();
+            operation.allEntries = cacheEvict.allEntries();
+        }
+        return operation;
+    }
+
+    private static long parseTtlNanos(Cacheable cacheable) {
+        return ValidationUtil.isEmpty(cacheable.ttl()) ? 0 : ConfigSnapshot.parseDuration(cacheable.ttl()).toNanos();
+    }
+
+    private static Object generateKey(Object[] args) {
+        if (null == args || args.length == 0) {
+            return EMPTY_KEY;
+        }
+        if (args.length == 1) {
+            return null == args[0] ? NULL_KEY : args[0];
+        }
+        // 复制一份，切面修改参数数组时不影响已经缓存的键
+        return Arrays.asList(args.clone());
+    }
+
+    /**
+     * 方法上的缓存操作
+     */
+    private static final class CacheOperation {
+
+        private TinyLfuCache<Object, Object> cache;
+
+        private String evictName;
+
+        private boolean allEntries;
+    }
+}
@@ -0,0 +1,75 @@
+package org.simpleframework.cache;
+
+import org.simpleframework.core.annotation.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager
+ * <br>
+ * 按名称管理 Cacheable 创建的缓存，使用了 Cacheable 或 CacheEvict 时由 AspectWeaver 注册到容器中，
+ * 可以注入后查看统计信息或者手动清理缓存；bean 的名称带有框架的前缀，不会与用户的同名类冲突
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component("simpleframework.cacheManager")
+public class CacheManager {
+
+    private final Map<String, TinyLfuCache<Object, Object>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 获取缓存
+     *
+     * @param name 缓存的名称
+     * @return {@link TinyLfuCache }，还没有创建时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public TinyLfuCache<Object, Object> getCache(String name) {
+        return caches.get(name);
+    }
+
+    /**
+     * 获取缓存，不存在时按给定的配置创建，已经存在时忽略给定的配置
+     *
+     * @param name        缓存的名称
+     * @param maximumSize 最大容量
+     * @param ttlNanos    存活时间，为 0 时不会过期
+     * @return {@link TinyLfuCache }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public TinyLfuCache<Object, Object> getOrCreate(String name, int maximumSize, long ttlNanos) {
+        return caches.computeIfAbsent(name, key -> new TinyLfuCache<>(key, maximumSize, ttlNanos));
+    }
+
+    /**
+     * 所有缓存的名称
+     *
+     * @return {@link Set<String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Set<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 所有缓存的统计信息，按名称排序
+     *
+     * @return {@link Map<String, CacheStats> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        caches.keySet().stream().sorted().forEach(name -> stats.put(name, caches.get(name).stats()));
+        return stats;
+    }
+}
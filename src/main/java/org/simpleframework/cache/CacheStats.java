@@ -0,0 +1,47 @@
+package org.simpleframework.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * CacheStats
+ * <br>
+ * 缓存统计信息的快照
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStats {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    /**
+     * 因容量不足或者过期被移除的缓存项数量，不包括 CacheEvict 主动移除的
+     */
+    private final long evictionCount;
+
+    private final long size;
+
+    /**
+     * 命中率，没有任何请求时为 1
+     *
+     * @return double
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount
+                + ", size=" + size + '}';
+    }
+}
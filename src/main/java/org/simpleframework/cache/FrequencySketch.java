@@ -0,0 +1,118 @@
+package org.simpleframework.cache;
+
+/**
+ * FrequencySketch
+ * <br>
+ * 估算访问频率的 Count-Min Sketch，每个元素对应 4 个 4 位的计数器，取最小值作为频率，最大为 15 <br>
+ * 计数的总次数达到缓存容量的 10 倍时所有计数器减半，使过去的热点逐渐冷却 <br>
+ * 不是线程安全的，只在缓存的淘汰锁内访问
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    /**
+     * 每个计数器右移一位之后清除从相邻计数器移入的高位
+     */
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    /**
+     * table 的最大长度，最多占用 8MB（1600 多万个计数器），更大的容量共用计数器，只会降低频率估算的精度
+     */
+    private static final int MAXIMUM_TABLE_LENGTH = 1 << 20;
+
+    /**
+     * 每个 long 中有 16 个 4 位的计数器
+     */
+    private final long[] table;
+
+    private final int tableMask;
+
+    private final int sampleSize;
+
+    private int size;
+
+    FrequencySketch(int maximumSize) {
+        int capacity = Math.max(maximumSize, 8);
+        int length = capacity >= MAXIMUM_TABLE_LENGTH ? MAXIMUM_TABLE_LENGTH : 1 << -Integer.numberOfLeadingZeros(capacity - 1);
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 估算元素的访问频率
+     *
+     * @param item 元素
+     * @return int
+     * @author chenz
+     * @date 2026/10/18
+     */
+    int frequency(Object item) {
+        int hash = spread(item.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * 元素的访问频率加一，已经达到 15 的计数器不再增加
+     *
+     * @param item 元素
+     * @author chenz
+     * @date 2026/10/18
+     */
+    void increment(Object item) {
+        int hash = spread(item.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size >>>= 1;
+    }
+
+    private int indexOf(int item, int i) {
+        long hash = (item + SEEDS[i]) * SEEDS[i];
+        hash += hash >>> 32;
+        return ((int) hash) & tableMask;
+    }
+
+    /**
+     * 打散 hashCode，避免质量较差的 hashCode 集中在少数计数器上
+     */
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
@@ -0,0 +1,414 @@
+package org.simpleframework.cache;
+
+import lombok.Getter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TinyLfuCache
+ * <br>
+ * 有界的并发缓存，淘汰策略为 W-TinyLFU：新的缓存项先进入容量为 1% 的 LRU 窗口，离开窗口后与主区域中最久未访问的缓存项
+ * 比较 FrequencySketch 估算的访问频率，频率更高的留下；主区域分为试用区和保护区（80%），试用区中再次被访问的缓存项进入保护区 <br>
+ * 读取不加锁：直接从 ConcurrentHashMap 中取值，再把访问记录放入有损的环形缓冲区，缓冲区满时由抢到淘汰锁的线程批量回放；
+ * 写入、淘汰以及所有链表操作都在淘汰锁内完成 <br>
+ * 每个缓存项有独立的过期时间，过期的缓存项在读取时移除
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class TinyLfuCache<K, V> {
+
+    private static final int READ_BUFFER_SIZE = 128;
+
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+    private static final int WINDOW = 0;
+
+    private static final int PROBATION = 1;
+
+    private static final int PROTECTED = 2;
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final int maximumSize;
+
+    /**
+     * 缓存项的存活时间，为 0 时不会过期
+     */
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final FrequencySketch sketch;
+
+    private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+
+    private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>();
+
+    private final AccessOrderQueue<K, V> protectedQueue = new AccessOrderQueue<>();
+
+    private final int windowMaximum;
+
+    private final int protectedMaximum;
+
+    private int windowSize;
+
+    private int protectedSize;
+
+    /**
+     * 读取记录的缓冲区，写满时回放，被覆盖的记录直接丢弃
+     */
+    private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+
+    private final AtomicLong readCounter = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    public TinyLfuCache(String name, int maximumSize, long ttlNanos) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        if (ttlNanos < 0) {
+            throw new IllegalArgumentException("ttl must not be negative: " + ttlNanos);
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttlNanos;
+        this.sketch = new FrequencySketch(maximumSize);
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (int) ((maximumSize - windowMaximum) * 0.8);
+    }
+
+    /**
+     * 获取缓存的值
+     *
+     * @param key 键
+     * @return {@link V }，不存在或者已经过期时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (null == node) {
+            missCount.increment();
+            return null;
+        }
+        if (node.isExpired(System.nanoTime())) {
+            missCount.increment();
+            expire(node);
+            return null;
+        }
+        hitCount.increment();
+        recordRead(node);
+        return node.value;
+    }
+
+    /**
+     * 放入缓存，已经存在时替换其值并重新计算过期时间
+     *
+     * @param key   键
+     * @param value 值
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void put(K key, V value) {
+        if (null == key || null == value) {
+            throw new NullPointerException("key and value must not be null");
+        }
+        long expireAt = ttlNanos == 0 ? 0 : System.nanoTime() + ttlNanos;
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            Node<K, V> node = data.get(key);
+            if (null != node) {
+                node.value = value;
+                node.expireAt = expireAt;
+                onAccess(node);
+                return;
+            }
+            node = new Node<>(key, value, expireAt);
+            data.put(key, node);
+            sketch.increment(key);
+            node.queue = WINDOW;
+            window.addLast(node);
+            windowSize++;
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 移除缓存项
+     *
+     * @param key 键
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (null != node) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 清空缓存
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                readBuffer.set(i, null);
+            }
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+            windowSize = 0;
+            protectedSize = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 缓存项的数量，包括已经过期但还没有被移除的
+     *
+     * @return long
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public long size() {
+        return data.size();
+    }
+
+    /**
+     * 统计信息的快照
+     *
+     * @return {@link CacheStats }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), data.size());
+    }
+
+    private void recordRead(Node<K, V> node) {
+        int index = (int) readCounter.getAndIncrement() & READ_BUFFER_MASK;
+        readBuffer.lazySet(index, node);
+        if (index == READ_BUFFER_MASK && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 回放读取记录，调用方持有淘汰锁
+     */
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Node<K, V> node = readBuffer.getAndSet(i, null);
+            // 已经被移除的缓存项不再回放
+            if (null != node && node.linked) {
+                onAccess(node);
+            }
+        }
+    }
+
+    /**
+     * 缓存项被访问：窗口和保护区中的移到队尾，试用区中的晋升到保护区，保护区满时把最久未访问的降级到试用区
+     */
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key);
+        if (node.queue == WINDOW) {
+            window.moveToLast(node);
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+            node.queue = PROTECTED;
+            protectedQueue.addLast(node);
+            protectedSize++;
+            while (protectedSize > protectedMaximum) {
+                Node<K, V> demoted = protectedQueue.first();
+                protectedQueue.remove(demoted);
+                protectedSize--;
+                demoted.queue = PROBATION;
+                probation.addLast(demoted);
+            }
+        } else {
+            protectedQueue.moveToLast(node);
+        }
+    }
+
+    /**
+     * 窗口溢出的缓存项进入试用区，总量超出容量时，在刚离开窗口的候选者和试用区中最久未访问的缓存项之间淘汰访问频率低的一个
+     */
+    private void evict() {
+        while (windowSize > windowMaximum) {
+            Node<K, V> node = window.first();
+            window.remove(node);
+            windowSize--;
+            node.queue = PROBATION;
+            probation.addLast(node);
+        }
+        while (data.size() > maximumSize) {
+            Node<K, V> candidate = probation.last();
+            Node<K, V> victim = probation.first();
+            if (null == candidate) {
+                // 试用区为空时依次从保护区和窗口中淘汰
+                Node<K, V> node = null != protectedQueue.first() ? protectedQueue.first() : window.first();
+                evictNode(node);
+            } else if (candidate == victim) {
+                evictNode(candidate);
+            } else {
+                evictNode(sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate);
+            }
+        }
+    }
+
+    private void evictNode(Node<K, V> node) {
+        if (data.remove(node.key, node)) {
+            evictionCount.increment();
+        }
+        unlink(node);
+    }
+
+    private void expire(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            if (node.linked && data.remove(node.key, node)) {
+                evictionCount.increment();
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (!node.linked) {
+            return;
+        }
+        if (node.queue == WINDOW) {
+            window.remove(node);
+            windowSize--;
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+        } else {
+            protectedQueue.remove(node);
+            protectedSize--;
+        }
+    }
+
+    /**
+     * 缓存项，链表指针只在淘汰锁内访问
+     */
+    private static final class Node<K, V> {
+
+        private final K key;
+
+        private volatile V value;
+
+        /**
+         * 过期时间（System.nanoTime），为 0 时不会过期
+         */
+        private volatile long expireAt;
+
+        private int queue;
+
+        private boolean linked;
+
+        private Node<K, V> prev;
+
+        private Node<K, V> next;
+
+        private Node(K key, V value, long expireAt) {
+            this.key = key;
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+
+        private boolean isExpired(long now) {
+            long expiration = expireAt;
+            return expiration != 0 && now - expiration >= 0;
+        }
+    }
+
+    /**
+     * 按访问顺序排列的双向链表，队首为最久未访问的缓存项
+     */
+    private static final class AccessOrderQueue<K, V> {
+
+        private final Node<K, V> sentinel = new Node<>(null, null, 0);
+
+        private AccessOrderQueue() {
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+        }
+
+        private Node<K, V> first() {
+            return sentinel.next == sentinel ? null : sentinel.next;
+        }
+
+        private Node<K, V> last() {
+            return sentinel.prev == sentinel ? null : sentinel.prev;
+        }
+
+        private void addLast(Node<K, V> node) {
+            node.prev = sentinel.prev;
+            node.next = sentinel;
+            sentinel.prev.next = node;
+            sentinel.prev = node;
+            node.linked = true;
+        }
+
+        private void remove(Node<K, V> node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+            node.linked = false;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            remove(node);
+            addLast(node);
+        }
+
+        private void clear() {
+            for (Node<K, V> node = sentinel.next; node != sentinel; ) {
+                Node<K, V> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.linked = false;
+                node = next;
+            }
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+        }
+    }
+}
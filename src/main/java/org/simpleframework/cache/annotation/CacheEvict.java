@@ -0,0 +1,30 @@
+package org.simpleframework.cache.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * CacheEvict
+ * <br>
+ * 方法正常返回后移除缓存项，键与 Cacheable 相同，由方法的参数组成
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheEvict {
+
+    /**
+     * 缓存的名称
+     */
+    String name();
+
+    /**
+     * 是否清空整个缓存，为 false 时只移除参数对应的缓存项
+     */
+    boolean allEntries() default false;
+}
@@ -0,0 +1,36 @@
+package org.simpleframework.cache.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cacheable
+ * <br>
+ * 缓存方法的返回值，以方法的参数作为键，参数相同的调用直接返回缓存的值（包括 null）<br>
+ * 需要标记在实现类的方法上，接口中的方法上的注解不会生效
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cacheable {
+
+    /**
+     * 缓存的名称，为空时使用类名和方法名，同名的缓存以第一个创建时的配置为准
+     */
+    String name() default "";
+
+    /**
+     * 缓存项的存活时间，例如 <code>500ms</code>、<code>30s</code>、<code>10m</code>，为空时不会过期
+     */
+    String ttl() default "";
+
+    /**
+     * 缓存的最大容量，超出后按访问频率淘汰，必须为正数，织入时检查
+     */
+    int maxSize() default 1024;
+}
@@ -1,16 +1,48 @@
 package org.simpleframework.core;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.simpleframework.aop.AspectWeaver;
+import org.simpleframework.aop.ProxyCreator;
 import org.simpleframework.aop.annotation.Aspect;
+import org.simpleframework.aop.annotation.Order;
 import org.simpleframework.core.annotation.*;
+import org.simpleframework.core.config.ConfigChangeListener;
+import org.simpleframework.core.config.ConfigSnapshot;
+import org.simpleframework.core.scan.PackageTrie;
+import org.simpleframework.core.scope.BeanScope;
+import org.simpleframework.core.scope.PooledScope;
+import org.simpleframework.core.scope.PrototypeScope;
+import org.simpleframework.core.scope.RequestScope;
+import org.simpleframework.core.scope.ScopeType;
+import org.simpleframework.core.scope.ScopedProxyInterceptor;
+import org.simpleframework.core.scope.ThreadScope;
+import org.simpleframework.core.startup.StartupRecorder;
+import org.simpleframework.core.startup.StartupSnapshot;
+import org.simpleframework.core.startup.StartupStep;
+import org.simpleframework.inject.BeanProvider;
+import org.simpleframework.inject.Provider;
+import org.simpleframework.inject.annotation.Autowired;
+import org.simpleframework.inject.annotation.Value;
 import org.simpleframework.util.ClassUtil;
 import org.simpleframework.util.ValidationUtil;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * BeanContainer
@@ -31,6 +63,21 @@ public class BeanContainer {
      */
     private final Map<Class<?>, Object> beanMap = new ConcurrentHashMap<>();
 
+    /**
+     * 注解到 bean 的 class 集合的索引，添加和删除 bean 时维护
+     */
+    private final Map<Class<? extends Annotation>, Set<Class<?>>> annotationIndex = new ConcurrentHashMap<>();
+
+    /**
+     * 父类或接口到子类或实现类的 class 集合的索引，不包括其本身，添加和删除 bean 时维护
+     */
+    private final Map<Class<?>, Set<Class<?>>> superIndex = new ConcurrentHashMap<>();
+
+    /**
+     * bean 的名称到 class 对象的索引，包括还没有被创建的懒加载 bean，添加和删除 bean 时维护
+     */
+    private final Map<String, Class<?>> nameIndex = new ConcurrentHashMap<>();
+
     /**
      * 加载Bean的注解列表
      */
@@ -38,9 +85,95 @@ public class BeanContainer {
             = Arrays.asList(Component.class, Controller.class, RestController.class, Service.class, Repository.class, Aspect.class);
 
     /**
-     * 容器是否已经被加载
+     * 懒加载并且还没有被创建的 bean 定义
+     */
+    private final Map<Class<?>, BeanDefinition> lazyDefinitionMap = new ConcurrentHashMap<>();
+
+    /**
+     * 非单例 bean 的作用域，容器中存放的是这些 bean 的作用域代理
      */
-    private boolean loaded = false;
+    private final Map<Class<?>, BeanScope> scopedBeanMap = new ConcurrentHashMap<>();
+
+    /**
+     * 各作用域类型对应的作用域
+     */
+    private final Map<ScopeType, BeanScope> scopes = new EnumMap<>(ScopeType.class);
+
+    {
+        scopes.put(ScopeType.PROTOTYPE, new PrototypeScope());
+        scopes.put(ScopeType.THREAD, new ThreadScope());
+        scopes.put(ScopeType.REQUEST, new RequestScope());
+        scopes.put(ScopeType.POOLED, new PooledScope());
+    }
+
+    /**
+     * 懒加载的 bean 被创建后依次调用的处理器
+     */
+    private final List<BeanPostProcessor> beanPostProcessors = new CopyOnWriteArrayList<>();
+
+    /**
+     * 代替容器实例化 bean 的处理器，织入切面时注册
+     */
+    @Getter
+    private volatile BeanInstantiator beanInstantiator;
+
+    /**
+     * 创建懒加载 bean 时使用的锁 <br>
+     * 所有 bean 共用一把可重入的锁，相互依赖的 bean 在不同线程中第一次被访问时不会交叉加锁导致死锁
+     */
+    private final Object lazyCreationLock = new Object();
+
+    /**
+     * 已经织入但还没有完成注入的懒加载 bean，只在持有 lazyCreationLock 时访问，用于解决懒加载 bean 之间的循环依赖
+     */
+    private final Map<Class<?>, Object> earlyBeanMap = new HashMap<>();
+
+    /**
+     * 正在调用构造方法的懒加载 bean，只在持有 lazyCreationLock 时访问，用于检测构造方法参数的循环依赖
+     */
+    private final Set<Class<?>> constructingClasses = new HashSet<>();
+
+    /**
+     * 正在创建懒加载 bean 的线程，只在持有 lazyCreationLock 时修改
+     */
+    private volatile Thread creatingThread;
+
+    /**
+     * 编译期生成的装配代码，没有生成时为 null
+     */
+    private volatile BeanWiringRegistry wiringRegistry;
+
+    /**
+     * 配置快照，没有设置时在第一次使用时从类路径加载 <br>
+     * 快照不可变，配置文件变化后整体替换，读取配置只需要一次 volatile 读，不需要加锁
+     */
+    private volatile ConfigSnapshot config;
+
+    /**
+     * 配置的键到监听器
+     */
+    private final Map<String, List<ConfigChangeListener>> configListeners = new ConcurrentHashMap<>();
+
+    /**
+     * 启动时创建 bean 的并行度
+     */
+    private int initParallelism = 1;
+
+    /**
+     * 是否开启懒加载模式，开启后没有标记 <code>@Lazy(false)</code> 的 bean 都在第一次使用时创建
+     */
+    private boolean lazyInit = false;
+
+    /**
+     * 容器是否已经被加载，请求线程也会读取，需要保证可见性
+     */
+    private volatile boolean loaded = false;
+
+    /**
+     * 冻结后发布的只读快照，为 null 时表示容器还没有被冻结 <br>
+     * 通过 volatile 写发布，请求线程读到非 null 的快照时，快照中的内容一定已经完整可见
+     */
+    private volatile ClassValue<Object> frozenBeans;
 
     /**
      * 是否被加载过
@@ -53,6 +186,183 @@ public class BeanContainer {
         return loaded;
     }
 
+    /**
+     * 是否已经被冻结
+     *
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public boolean isFrozen() {
+        return null != frozenBeans;
+    }
+
+    /**
+     * 冻结容器，在所有 bean 织入、注入完成之后调用 <br>
+     * 冻结后 getBean 通过 ClassValue 查找，每个 class 第一次查找之后直接从 class 上取值，不再经过 ConcurrentHashMap；
+     * 添加、删除 bean 等修改操作直接抛出异常 <br>
+     * 还没有被创建的懒加载 bean 仍然在第一次获取时创建
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public synchronized void freeze() {
+        if (isFrozen()) {
+            return;
+        }
+        Map<Class<?>, Object> frozenBeanMap = Collections.unmodifiableMap(new HashMap<>(beanMap));
+        frozenBeans = new ClassValue<Object>() {
+            @Override
+            protected Object computeValue(Class<?> type) {
+                Object bean = frozenBeanMap.get(type);
+                return null != bean ? bean : getLazyBean(type);
+            }
+        };
+        log.info("BeanContainer has been frozen with {} beans", frozenBeanMap.size());
+    }
+
+    /**
+     * 检查容器是否已经被冻结，冻结后不允许修改
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void checkNotFrozen() {
+        if (isFrozen()) {
+            throw new IllegalStateException("BeanContainer has been frozen and can not be modified");
+        }
+    }
+
+    /**
+     * 获取配置快照
+     *
+     * @return {@link ConfigSnapshot }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public ConfigSnapshot getConfig() {
+        ConfigSnapshot snapshot = config;
+        if (null == snapshot) {
+            synchronized (this) {
+                if (null == config) {
+                    config = ConfigSnapshot.load(ClassUtil.getClassLoader());
+                }
+                snapshot = config;
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 设置配置快照，需要在 loadBeans 之前调用，已经注入的配置值不会改变
+     *
+     * @param config 配置快照
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public synchronized void setConfig(ConfigSnapshot config) {
+        this.config = config;
+    }
+
+    /**
+     * 替换配置快照，并通知值发生了变化的键的监听器 <br>
+     * 已经注入的 bean 中通过 @Value 注入的值不会改变，需要随配置变化的 bean 可以注册监听器，或者每次通过 getConfig 读取；
+     * 之后创建的实例（原型、线程、请求、对象池作用域以及懒加载的 bean）注入的是新的配置值
+     *
+     * @param config 新的配置快照
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public synchronized void refreshConfig(ConfigSnapshot config) {
+        ConfigSnapshot oldConfig = getConfig();
+        this.config = config;
+        for (Map.Entry<String, List<ConfigChangeListener>> entry : configListeners.entrySet()) {
+            String oldValue = oldConfig.getString(entry.getKey());
+            String newValue = config.getString(entry.getKey());
+            if (Objects.equals(oldValue, newValue)) {
+                continue;
+            }
+            for (ConfigChangeListener listener : entry.getValue()) {
+                try {
+                    listener.onChange(entry.getKey(), oldValue, newValue);
+                } catch (RuntimeException e) {
+                    log.warn("config listener of {} failed", entry.getKey(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 监听配置的变化
+     *
+     * @param key      配置的键
+     * @param listener 监听器
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void addConfigListener(String key, ConfigChangeListener listener) {
+        configListeners.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * 是否开启了懒加载模式
+     *
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public boolean isLazyInit() {
+        return lazyInit;
+    }
+
+    /**
+     * 设置懒加载模式，需要在 loadBeans 之前调用
+     *
+     * @param lazyInit 是否开启懒加载模式
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public synchronized void setLazyInit(boolean lazyInit) {
+        checkNotFrozen();
+        this.lazyInit = lazyInit;
+    }
+
+    /**
+     * 设置启动时创建 bean 的并行度，需要在 loadBeans 之前调用
+     *
+     * @param initParallelism 并行度，小于等于 1 时在当前线程中逐个创建
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public synchronized void setInitParallelism(int initParallelism) {
+        checkNotFrozen();
+        this.initParallelism = initParallelism;
+    }
+
+    /**
+     * 添加懒加载的 bean 被创建后调用的处理器，按添加的顺序调用
+     *
+     * @param beanPostProcessor 处理器
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void addBeanPostProcessor(BeanPostProcessor beanPostProcessor) {
+        checkNotFrozen();
+        beanPostProcessors.add(beanPostProcessor);
+    }
+
+    /**
+     * 设置代替容器实例化 bean 的处理器，之后创建的 bean（包括懒加载的 bean 和作用域中的实例）都先交给它处理
+     *
+     * @param beanInstantiator 处理器
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void setBeanInstantiator(BeanInstantiator beanInstantiator) {
+        checkNotFrozen();
+        this.beanInstantiator = beanInstantiator;
+    }
+
     /**
      * 获取bean实例的数量
      *
@@ -98,29 +408,692 @@ public class BeanContainer {
      * @date 2021/09/20
      */
     public synchronized void loadBeans(String packageName) {
+        loadBeans(packageName, 1);
+    }
+
+    /**
+     * 扫描并加载所有的bean
+     *
+     * @param packageName     包名
+     * @param scanParallelism 扫描包目录的并行度，小于等于 1 时顺序扫描
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public synchronized void loadBeans(String packageName, int scanParallelism) {
+        loadBeans(PackageTrie.of(packageName), scanParallelism);
+    }
+
+    /**
+     * 扫描多个根包并加载所有的bean
+     *
+     * @param packages        根包以及包含、排除规则
+     * @param scanParallelism 扫描包目录的并行度，小于等于 1 时顺序扫描
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public synchronized void loadBeans(PackageTrie packages, int scanParallelism) {
         // 检查是否已经加载完成
         if (isLoaded()) {
             log.warn("bean has been loaded!");
             return;
         }
-        Set<Class<?>> classSet = ClassUtil.extractPackageClass(packageName);
+        checkNotFrozen();
+        wiringRegistry = BeanWiringRegistry.load(ClassUtil.getClassLoader());
+        Set<Class<?>> classSet = extractCandidateClasses(packages, scanParallelism);
         // 类是否为空
         if (ValidationUtil.isEmpty(classSet)) {
-            log.warn("extract nothing from packageName {}", packageName);
+            log.warn("extract nothing from packages {}", packages.getRoots());
             return;
         }
+        List<Class<?>> eagerClasses = new ArrayList<>();
+        // 先检查名称是否重复，再创建 bean
+        Map<String, Class<?>> beanNames = new HashMap<>();
         for (Class<?> clazz : classSet) {
-            for (Class<? extends Annotation> annotation : BEAN_ANNOTATIONS) {
-                // 检查是否使用了定义的注解
-                if (clazz.isAnnotationPresent(annotation)) {
-                    // 将 class 作为 key ，实例作为 value ，放入 beanMap 中
-                    beanMap.put(clazz, ClassUtil.newInstance(clazz));
-                }
+            if (isBeanClass(clazz)) {
+                String beanName = getBeanName(clazz);
+                checkBeanName(clazz, beanNames.put(beanName, clazz));
+                checkBeanName(clazz, nameIndex.get(beanName));
+            }
+        }
+        for (Class<?> clazz : classSet) {
+            // 检查是否使用了定义的注解
+            if (!isBeanClass(clazz)) {
+                continue;
+            }
+            BeanScope beanScope = getBeanScope(clazz);
+            if (null != beanScope) {
+                // 非单例的 bean 只创建作用域代理，实例在调用方法时才创建
+                addScopedBean(clazz, beanScope);
+                continue;
+            }
+            BeanDefinition beanDefinition = new BeanDefinition(clazz, isLazy(clazz));
+            if (beanDefinition.isLazy()) {
+                // 懒加载的 bean 只记录定义，并加入索引
+                lazyDefinitionMap.put(clazz, beanDefinition);
+                index(clazz);
+            } else {
+                eagerClasses.add(clazz);
             }
         }
+        promoteConstructorDependencies(eagerClasses);
+        createBeans(eagerClasses);
         loaded = true;
     }
 
+    /**
+     * 是否标记了 bean 的注解
+     *
+     * @param clazz clazz
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static boolean isBeanClass(Class<?> clazz) {
+        for (Class<? extends Annotation> annotation : BEAN_ANNOTATIONS) {
+            if (clazz.isAnnotationPresent(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取 bean 的名称，优先使用注解上指定的名称，未指定时使用类的简单名称
+     *
+     * @param clazz clazz
+     * @return {@link String }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static String getBeanName(Class<?> clazz) {
+        String name = null;
+        if (clazz.isAnnotationPresent(Component.class)) {
+            name = clazz.getAnnotation(Component.class).value();
+        } else if (clazz.isAnnotationPresent(Controller.class)) {
+            name = clazz.getAnnotation(Controller.class).value();
+        } else if (clazz.isAnnotationPresent(RestController.class)) {
+            name = clazz.getAnnotation(RestController.class).value();
+        } else if (clazz.isAnnotationPresent(Service.class)) {
+            name = clazz.getAnnotation(Service.class).value();
+        } else if (clazz.isAnnotationPresent(Repository.class)) {
+            name = clazz.getAnnotation(Repository.class).value();
+        }
+        return ValidationUtil.isEmpty(name) ? clazz.getSimpleName() : name;
+    }
+
+    /**
+     * 检查 bean 的名称是否已经被其他 bean 使用
+     *
+     * @param clazz    clazz
+     * @param existing 已经使用该名称的 class 对象，可以为 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static void checkBeanName(Class<?> clazz, Class<?> existing) {
+        if (null != existing && existing != clazz) {
+            throw new RuntimeException("duplicate bean name '" + getBeanName(clazz) + "' for "
+                    + existing.getName() + " and " + clazz.getName());
+        }
+    }
+
+    /**
+     * 按构造方法参数的依赖图逐层创建 bean，同一层的 bean 之间没有构造方法参数依赖，并行度大于 1 时在线程池中并行创建 <br>
+     * 成员变量在之后由 DependencyInjector 注入，不参与分层 <br>
+     * 切面以及切面的构造方法依赖的 bean 最先创建，随后准备织入，其他 bean 直接创建为织入切面的代理对象，
+     * 通过构造方法注入到其他 bean 的也是代理对象
+     *
+     * @param beanClasses 需要在启动时创建的 bean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void createBeans(List<Class<?>> beanClasses) {
+        BeanDependencyGraph graph = BeanDependencyGraph.build(beanClasses);
+        for (Set<Class<?>> cycle : graph.getCycles()) {
+            log.info("circular dependency among {}, resolved by field injection", cycle);
+        }
+        int maxLayerSize = 0;
+        for (List<Class<?>> layer : graph.getLayers()) {
+            maxLayerSize = Math.max(maxLayerSize, layer.size());
+        }
+        int parallelism = Math.min(initParallelism, maxLayerSize);
+        // 只有同一层的构造方法可以并行，层数越多、每层越窄，并行的收益越小
+        log.debug("creating {} beans in {} layers, widest layer {}, parallelism {}", beanClasses.size(),
+                graph.getLayers().size(), maxLayerSize, parallelism);
+        ExecutorService executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism, new InitThreadFactory()) : null;
+        try {
+            // 切面的构造方法依赖也在其中，按层的顺序创建时同样满足依赖关系
+            Set<Class<?>> aspectClasses = collectAspectClasses(graph);
+            createLayers(graph, aspectClasses, true, executor);
+            new AspectWeaver().prepare(beanClasses);
+            createLayers(graph, aspectClasses, false, executor);
+        } finally {
+            if (null != executor) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * 切面以及切面通过构造方法依赖的 bean，这些 bean 在准备织入之前创建，不会被织入
+     *
+     * @param graph 依赖图
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static Set<Class<?>> collectAspectClasses(BeanDependencyGraph graph) {
+        Set<Class<?>> aspectClasses = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        for (Class<?> beanClass : graph.getConstructorDependencies().keySet()) {
+            if (beanClass.isAnnotationPresent(Aspect.class) && aspectClasses.add(beanClass)) {
+                queue.add(beanClass);
+            }
+        }
+        while (!queue.isEmpty()) {
+            for (Class<?> dependency : graph.getConstructorDependencies().get(queue.poll())) {
+                if (aspectClasses.add(dependency)) {
+                    log.debug("{} is created before weaving as a constructor argument of an aspect, it is not advised",
+                            dependency.getName());
+                    queue.add(dependency);
+                }
+            }
+        }
+        return aspectClasses;
+    }
+
+    /**
+     * 按层的顺序创建一部分 bean
+     *
+     * @param graph         依赖图
+     * @param aspectClasses 切面以及切面的构造方法依赖
+     * @param aspects       为 true 时创建 aspectClasses 中的 bean，否则创建其余的 bean
+     * @param executor      线程池，为 null 时在当前线程中创建
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void createLayers(BeanDependencyGraph graph, Set<Class<?>> aspectClasses, boolean aspects,
+            ExecutorService executor) {
+        for (List<Class<?>> layer : graph.getLayers()) {
+            List<Class<?>> classes = new ArrayList<>(layer.size());
+            for (Class<?> clazz : layer) {
+                if (aspectClasses.contains(clazz) == aspects) {
+                    classes.add(clazz);
+                }
+            }
+            if (classes.isEmpty()) {
+                continue;
+            }
+            List<Object> beans = createLayer(classes, executor);
+            // 创建完成后在当前线程中按顺序放入容器
+            for (int i = 0; i < classes.size(); i++) {
+                addBean(classes.get(i), beans.get(i));
+            }
+        }
+    }
+
+    /**
+     * 创建同一层的 bean
+     *
+     * @param layer    同一层的 bean
+     * @param executor 线程池，为 null 时在当前线程中创建
+     * @return {@link List<Object> }，与 layer 的顺序一致
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private List<Object> createLayer(List<Class<?>> layer, ExecutorService executor) {
+        List<Object> beans = new ArrayList<>(layer.size());
+        if (null == executor || layer.size() == 1) {
+            for (Class<?> clazz : layer) {
+                beans.add(newBean(clazz));
+            }
+            return beans;
+        }
+        List<Callable<Object>> tasks = new ArrayList<>(layer.size());
+        for (Class<?> clazz : layer) {
+            tasks.add(() -> newBean(clazz));
+        }
+        try {
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                beans.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        return beans;
+    }
+
+    /**
+     * 懒加载的 bean 作为启动时创建的 bean 的构造方法参数时，改为在启动时创建 <br>
+     * 否则它会在织入、注入的处理器注册之前被创建，既不会被代理也不会被注入
+     *
+     * @param eagerClasses 需要在启动时创建的 bean，被提前创建的懒加载 bean 会加入其中
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void promoteConstructorDependencies(List<Class<?>> eagerClasses) {
+        if (lazyDefinitionMap.isEmpty()) {
+            return;
+        }
+        Deque<Class<?>> queue = new ArrayDeque<>(eagerClasses);
+        while (!queue.isEmpty()) {
+            Constructor<?> constructor = getAutowiredConstructor(queue.poll());
+            if (null == constructor) {
+                continue;
+            }
+            for (Parameter parameter : constructor.getParameters()) {
+                if (parameter.isAnnotationPresent(Value.class)) {
+                    continue;
+                }
+                String name = getAutowiredValue(parameter);
+                Set<Class<?>> candidates = lazyDefinitionMap.containsKey(parameter.getType())
+                        ? Collections.singleton(parameter.getType()) : view(superIndex.get(parameter.getType()));
+                for (Class<?> candidate : candidates) {
+                    // 索引保持不变，创建后 addBean 重复加入索引不会产生影响
+                    if ((ValidationUtil.isEmpty(name) || name.equals(getBeanName(candidate)))
+                            && null != lazyDefinitionMap.remove(candidate)) {
+                        log.debug("lazy bean {} is created at startup as a constructor argument", candidate.getName());
+                        eagerClasses.add(candidate);
+                        queue.add(candidate);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 创建 bean，需要织入切面时直接创建代理对象；有编译期生成的装配代码时直接调用，否则通过反射调用构造方法，有注入的构造方法时先解析其参数
+     *
+     * @param clazz clazz
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private Object newBean(Class<?> clazz) {
+        return StartupRecorder.current().call(StartupRecorder.BEAN, clazz.getName(), () -> instantiate(clazz));
+    }
+
+    private Object instantiate(Class<?> clazz) {
+        BeanInstantiator instantiator = beanInstantiator;
+        Object bean = null == instantiator ? null : instantiator.instantiate(clazz);
+        if (null != bean) {
+            return bean;
+        }
+        BeanWiring<Object> wiring = getWiring(clazz);
+        bean = null == wiring ? null : wiring.newInstance(this);
+        if (null != bean) {
+            return bean;
+        }
+        Constructor<?> constructor = getAutowiredConstructor(clazz);
+        if (null == constructor) {
+            return ClassUtil.newInstance(clazz);
+        }
+        return ClassUtil.newInstance(constructor, resolveConstructorArguments(constructor));
+    }
+
+    /**
+     * 获取 bean 的编译期生成的装配代码
+     *
+     * @param clazz clazz
+     * @return {@link BeanWiring }，没有生成时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public BeanWiring<Object> getWiring(Class<?> clazz) {
+        BeanWiringRegistry registry = wiringRegistry;
+        return null == registry ? null : registry.get(clazz);
+    }
+
+    /**
+     * 获取注入点对应的 bean，规则与 resolveBeanClass 一致，供生成的装配代码使用
+     *
+     * @param type 注入点的类型
+     * @param name 指定的 bean 名称，可以为空
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Object getRequiredBean(Class<?> type, String name) {
+        Class<?> beanClass = resolveBeanClass(type, name);
+        Object bean = null == beanClass ? null : getBean(beanClass);
+        if (null == bean) {
+            throw new RuntimeException("unable to inject relevant type, target class is:" + type.getName()
+                    + " autowiredValue:" + name);
+        }
+        return bean;
+    }
+
+    /**
+     * 获取注入的构造方法：被 Autowired 标记的构造方法，没有标记时使用唯一的构造方法
+     *
+     * @param clazz clazz
+     * @return {@link Constructor }，没有参数时返回 null，使用无参构造方法创建
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Constructor<?> getAutowiredConstructor(Class<?> clazz) {
+        Constructor<?>[] constructors = clazz.getDeclaredConstructors();
+        Constructor<?> autowiredConstructor = null;
+        for (Constructor<?> constructor : constructors) {
+            if (constructor.isAnnotationPresent(Autowired.class)) {
+                if (null != autowiredConstructor) {
+                    throw new RuntimeException("multiple @Autowired constructors in " + clazz.getName());
+                }
+                autowiredConstructor = constructor;
+            }
+        }
+        if (null == autowiredConstructor && constructors.length == 1) {
+            autowiredConstructor = constructors[0];
+        }
+        return null == autowiredConstructor || autowiredConstructor.getParameterCount() == 0 ? null : autowiredConstructor;
+    }
+
+    /**
+     * 解析构造方法的参数，参数对应的 bean 需要已经被创建或者是懒加载的 bean，Provider、List、Map 类型的参数见 resolveAggregateValue，
+     * 被 Value 标记的参数注入转换后的配置值
+     *
+     * @param constructor 构造方法
+     * @return {@link Object[] }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Object[] resolveConstructorArguments(Constructor<?> constructor) {
+        Parameter[] parameters = constructor.getParameters();
+        Object[] arguments = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Value value = parameters[i].getAnnotation(Value.class);
+            if (null != value) {
+                arguments[i] = getConfig().resolve(value.value(), parameters[i].getType());
+                continue;
+            }
+            String name = getAutowiredValue(parameters[i]);
+            arguments[i] = resolveAggregateValue(parameters[i].getType(), parameters[i].getParameterizedType(), name);
+            if (null != arguments[i]) {
+                continue;
+            }
+            Class<?> beanClass = resolveBeanClass(parameters[i].getType(), name);
+            arguments[i] = null == beanClass ? null : getBean(beanClass);
+            if (null == arguments[i]) {
+                throw new RuntimeException("unable to inject constructor parameter of "
+                        + constructor.getDeclaringClass().getName() + ", parameterClass is:"
+                        + parameters[i].getType().getName() + " autowiredValue:" + name);
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * 解析不对应单个 bean 的注入点：Provider 注入延迟获取 bean 的 Provider，
+     * <code>List&lt;T&gt;</code> 和 <code>Map&lt;String, T&gt;</code> 注入所有 T 类型的 bean
+     *
+     * @param type        注入点的类型
+     * @param genericType 注入点的泛型类型
+     * @param name        指定的 bean 名称，只对 Provider 有效
+     * @return {@link Object }，普通的注入点返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Object resolveAggregateValue(Class<?> type, Type genericType, String name) {
+        if (Provider.class == type) {
+            return BeanProvider.of(this, genericType, name);
+        }
+        if (List.class == type) {
+            return getBeansOfType(getAggregateElementType(type, genericType));
+        }
+        if (Map.class == type) {
+            if (String.class != ClassUtil.getTypeArgument(genericType, 0)) {
+                throw new RuntimeException("unable to inject " + genericType.getTypeName() + ", the key must be String");
+            }
+            return getBeanMapOfType(getAggregateElementType(type, genericType));
+        }
+        return null;
+    }
+
+    /**
+     * 获取 List、Map 注入点中 bean 的类型
+     *
+     * @param type        注入点的类型，List 或 Map
+     * @param genericType 注入点的泛型类型
+     * @return {@link Class }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    static Class<?> getAggregateElementType(Class<?> type, Type genericType) {
+        Class<?> elementType = ClassUtil.getTypeArgument(genericType, Map.class == type ? 1 : 0);
+        if (null == elementType) {
+            throw new RuntimeException("unable to inject " + genericType.getTypeName()
+                    + ", the bean type must be declared");
+        }
+        return elementType;
+    }
+
+    /**
+     * 获取所有该类型的 bean（包括其本身、实现类或者子类），按 <code>@Order</code> 从小到大排序，
+     * 没有标记的排在最后，顺序相同时按名称排序；还没有被创建的懒加载 bean 会被创建
+     *
+     * @param type 接口或类
+     * @return {@link List<Object> }，不可修改
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public List<Object> getBeansOfType(Class<?> type) {
+        List<Class<?>> classList = getOrderedClassesOfType(type);
+        Object[] beans = new Object[classList.size()];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = getBean(classList.get(i));
+        }
+        return Collections.unmodifiableList(Arrays.asList(beans));
+    }
+
+    /**
+     * 获取所有该类型的 bean，键为 bean 的名称，顺序与 getBeansOfType 一致
+     *
+     * @param type 接口或类
+     * @return {@link Map<String, Object> }，不可修改
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Map<String, Object> getBeanMapOfType(Class<?> type) {
+        Map<String, Object> beans = new LinkedHashMap<>();
+        for (Class<?> clazz : getOrderedClassesOfType(type)) {
+            beans.put(getBeanName(clazz), getBean(clazz));
+        }
+        return Collections.unmodifiableMap(beans);
+    }
+
+    private List<Class<?>> getOrderedClassesOfType(Class<?> type) {
+        List<Class<?>> classList = new ArrayList<>(view(superIndex.get(type)));
+        if (beanMap.containsKey(type) || lazyDefinitionMap.containsKey(type)) {
+            classList.add(type);
+        }
+        classList.sort(Comparator.comparingInt(BeanContainer::getOrder).thenComparing(BeanContainer::getBeanName));
+        return classList;
+    }
+
+    private static int getOrder(Class<?> clazz) {
+        Order order = clazz.getAnnotation(Order.class);
+        return null == order ? Integer.MAX_VALUE : order.value();
+    }
+
+    private static String getAutowiredValue(Parameter parameter) {
+        Autowired autowired = parameter.getAnnotation(Autowired.class);
+        return null == autowired ? "" : autowired.value();
+    }
+
+    /**
+     * 解析注入点对应的 bean 的 class 对象：类型本身是 bean 时直接使用，指定了名称时按名称查找，
+     * 否则使用唯一的实现类或子类
+     *
+     * @param type 注入点的类型
+     * @param name 指定的 bean 名称，可以为空
+     * @return {@link Class }，找不到时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Class<?> resolveBeanClass(Class<?> type, String name) {
+        if (beanMap.containsKey(type) || lazyDefinitionMap.containsKey(type)) {
+            return type;
+        }
+        if (!ValidationUtil.isEmpty(name)) {
+            // 按名称直接查找，名称对应的 bean 不是该类型的实现类时视为没有找到
+            Class<?> namedClass = nameIndex.get(name);
+            return null != namedClass && type.isAssignableFrom(namedClass) ? namedClass : null;
+        }
+        Set<Class<?>> classSet = superIndex.get(type);
+        if (ValidationUtil.isEmpty(classSet)) {
+            return null;
+        }
+        if (classSet.size() == 1) {
+            return classSet.iterator().next();
+        }
+        // 多个实现类且未指定就抛出异常
+        throw new RuntimeException("multiple implemented classes for " + type.getName()
+                + ", please set @Autowired's value to pick one !");
+    }
+
+    /**
+     * 获取 bean 的作用域
+     *
+     * @param clazz clazz
+     * @return {@link BeanScope }，单例时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private BeanScope getBeanScope(Class<?> clazz) {
+        Scope scope = clazz.getAnnotation(Scope.class);
+        return null == scope ? null : scopes.get(scope.value());
+    }
+
+    /**
+     * 添加非单例的 bean，容器中存放其作用域代理，注入到其他 bean 中的也是代理
+     *
+     * @param clazz     clazz
+     * @param beanScope 作用域
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void addScopedBean(Class<?> clazz, BeanScope beanScope) {
+        ScopedProxyInterceptor interceptor = new ScopedProxyInterceptor(clazz, beanScope, () -> createScopedBean(clazz));
+        // 代理对象自身的成员变量不会被使用，不调用构造方法，构造方法注入的类也不需要依赖其他 bean
+        Object proxy = ProxyCreator.createProxyWithoutConstructor(clazz, interceptor);
+        scopedBeanMap.put(clazz, beanScope);
+        addBean(clazz, proxy);
+    }
+
+    /**
+     * 创建非单例 bean 的实例：实例化后依次调用处理器完成织入和注入，与懒加载 bean 的创建过程一致，但不需要加锁
+     *
+     * @param clazz clazz
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private Object createScopedBean(Class<?> clazz) {
+        Object bean = newBean(clazz);
+        for (BeanPostProcessor beanPostProcessor : beanPostProcessors) {
+            bean = beanPostProcessor.postProcess(clazz, bean);
+        }
+        return bean;
+    }
+
+    /**
+     * 是否为非单例的 bean，容器中存放的是其作用域代理，织入和注入只作用于作用域中的实例
+     *
+     * @param clazz clazz
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public boolean isScoped(Class<?> clazz) {
+        return scopedBeanMap.containsKey(clazz);
+    }
+
+    /**
+     * 是否懒加载，类上的 <code>@Lazy</code> 优先于容器的懒加载模式
+     *
+     * @param clazz clazz
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private boolean isLazy(Class<?> clazz) {
+        Lazy lazy = clazz.getAnnotation(Lazy.class);
+        return null == lazy ? lazyInit : lazy.value();
+    }
+
+    /**
+     * 获取候选的 bean 类，classpath 没有变化时直接使用启动快照中记录的类
+     *
+     * @param packages        根包以及包含、排除规则
+     * @param scanParallelism 扫描包目录的并行度
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private Set<Class<?>> extractCandidateClasses(PackageTrie packages, int scanParallelism) {
+        StartupSnapshot snapshot = StartupSnapshot.current();
+        if (snapshot.isReplaying()) {
+            try (StartupStep step = StartupRecorder.current().step(StartupRecorder.PACKAGE,
+                    String.join(",", packages.getRoots()))) {
+                Set<Class<?>> classSet = new LinkedHashSet<>();
+                for (String className : snapshot.getBeanClasses()) {
+                    classSet.add(ClassUtil.loadClass(className));
+                }
+                step.detail(classSet.size() + " classes from startup snapshot");
+                return classSet;
+            } catch (RuntimeException e) {
+                snapshot.invalidate("bean class can not be loaded", e);
+            }
+        }
+        Set<Class<?>> classSet = discoverCandidateClasses(packages, scanParallelism);
+        snapshot.recordBeanClasses(classSet);
+        return classSet;
+    }
+
+    /**
+     * 发现候选的 bean 类，逐个根包判断：完全被编译期生成的索引覆盖的根包直接使用索引，其他根包扫描包目录 <br>
+     * 只有部分模块启用了注解处理器时，没有索引的根包下的 bean 不会丢失
+     *
+     * @param packages        根包以及包含、排除规则
+     * @param scanParallelism 扫描包目录的并行度
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private Set<Class<?>> discoverCandidateClasses(PackageTrie packages, int scanParallelism) {
+        ClassLoader classLoader = ClassUtil.getClassLoader();
+        BeanIndex beanIndex = BeanIndex.load(classLoader);
+        Set<Class<?>> classSet = new LinkedHashSet<>();
+        List<String> scanRoots = new ArrayList<>();
+        for (String root : packages.getRoots()) {
+            // 根包所在的某个目录或 jar 包没有索引时（例如该模块没有启用注解处理器），扫描该根包
+            Set<Class<?>> indexedClassSet = null;
+            if (null != beanIndex && beanIndex.covers(root, classLoader)) {
+                try (StartupStep step = StartupRecorder.current().step(StartupRecorder.PACKAGE, root)) {
+                    indexedClassSet = beanIndex.getCandidateClasses(root, packages);
+                    step.detail(null == indexedClassSet ? "stale bean index"
+                            : indexedClassSet.size() + " classes from bean index");
+                }
+            }
+            if (null == indexedClassSet) {
+                scanRoots.add(root);
+            } else {
+                log.debug("load {} candidate classes of package {} from bean index", indexedClassSet.size(), root);
+                classSet.addAll(indexedClassSet);
+            }
+        }
+        if (!scanRoots.isEmpty()) {
+            // 只加载标记了 bean 注解的类
+            classSet.addAll(ClassUtil.extractPackageClass(packages, scanRoots, BEAN_ANNOTATIONS, scanParallelism));
+        }
+        return classSet;
+    }
+
 
     /**
      * 添加 bean 对象
@@ -133,7 +1106,14 @@ public class BeanContainer {
      */
     @SuppressWarnings("UnusedReturnValue")
     public Object addBean(Class<?> clazz, Object bean) {
-        return beanMap.put(clazz, bean);
+        checkNotFrozen();
+        checkBeanName(clazz, nameIndex.get(getBeanName(clazz)));
+        Object former = beanMap.put(clazz, bean);
+        // 替换已有的 bean（例如织入代理）时 class 不变，不需要更新索引
+        if (null == former && null == lazyDefinitionMap.remove(clazz)) {
+            index(clazz);
+        }
+        return former;
     }
 
     /**
@@ -145,7 +1125,14 @@ public class BeanContainer {
      * @date 2021/09/21
      */
     public Object remove(Class<?> clazz) {
-        return beanMap.remove(clazz);
+        checkNotFrozen();
+        Object bean = beanMap.remove(clazz);
+        scopedBeanMap.remove(clazz);
+        BeanDefinition beanDefinition = lazyDefinitionMap.remove(clazz);
+        if (null != bean || null != beanDefinition) {
+            unindex(clazz);
+        }
+        return bean;
     }
 
     /**
@@ -157,18 +1144,116 @@ public class BeanContainer {
      * @date 2021/09/21
      */
     public Object getBean(Class<?> clazz) {
-        return beanMap.get(clazz);
+        ClassValue<Object> frozen = frozenBeans;
+        // 正在创建懒加载 bean 时可能获取到提前暴露的 bean，不能被 ClassValue 缓存
+        if (null != frozen && creatingThread != Thread.currentThread()) {
+            return frozen.get(clazz);
+        }
+        Object bean = beanMap.get(clazz);
+        return null != bean ? bean : getLazyBean(clazz);
+    }
+
+    /**
+     * 根据名称获取bean对象
+     *
+     * @param name bean 的名称
+     * @return {@link Object }，没有该名称的 bean 时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Object getBean(String name) {
+        Class<?> clazz = nameIndex.get(name);
+        return null == clazz ? null : getBean(clazz);
+    }
+
+    /**
+     * 根据名称获取 bean 的 class 对象，包括还没有被创建的懒加载 bean
+     *
+     * @param name bean 的名称
+     * @return {@link Class }，没有该名称的 bean 时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Class<?> getClassByName(String name) {
+        return nameIndex.get(name);
+    }
+
+    /**
+     * 获取懒加载的 bean，在第一次获取时创建
+     *
+     * @param clazz clazz
+     * @return {@link Object }，不是懒加载的 bean 时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private Object getLazyBean(Class<?> clazz) {
+        if (lazyDefinitionMap.isEmpty()) {
+            return null;
+        }
+        BeanDefinition beanDefinition = lazyDefinitionMap.get(clazz);
+        return null == beanDefinition ? null : createLazyBean(beanDefinition);
     }
 
     /**
-     * 获取容器中所有的class对象
+     * 创建懒加载的 bean：实例化、织入、注入，与启动时 loadBeans、doAOP、doIOC 的顺序一致 <br>
+     * 完成注入之后才会放入 beanMap，其他线程只能看到完整的 bean
+     *
+     * @param beanDefinition bean 定义
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private Object createLazyBean(BeanDefinition beanDefinition) {
+        Class<?> clazz = beanDefinition.getBeanClass();
+        synchronized (lazyCreationLock) {
+            Object bean = beanMap.get(clazz);
+            if (null != bean) {
+                return bean;
+            }
+            // 循环依赖，返回已经织入但还没有完成注入的 bean
+            bean = earlyBeanMap.get(clazz);
+            if (null != bean) {
+                return bean;
+            }
+            if (!lazyDefinitionMap.containsKey(clazz)) {
+                return null;
+            }
+            if (!constructingClasses.add(clazz)) {
+                throw new RuntimeException("circular constructor dependency on lazy bean " + clazz.getName());
+            }
+            try {
+                bean = newBean(clazz);
+            } finally {
+                constructingClasses.remove(clazz);
+            }
+            Thread formerCreatingThread = creatingThread;
+            creatingThread = Thread.currentThread();
+            try {
+                for (BeanPostProcessor beanPostProcessor : beanPostProcessors) {
+                    earlyBeanMap.put(clazz, bean);
+                    bean = beanPostProcessor.postProcess(clazz, bean);
+                }
+                beanMap.put(clazz, bean);
+                lazyDefinitionMap.remove(clazz);
+                log.debug("lazy bean {} has been created", clazz.getName());
+                return bean;
+            } finally {
+                earlyBeanMap.remove(clazz);
+                creatingThread = formerCreatingThread;
+            }
+        }
+    }
+
+    /**
+     * 获取容器中所有的class对象，不包括还没有被创建的懒加载 bean
      *
      * @return {@link Set<Class> }
      * @author chenz
      * @date 2021/09/21
      */
     public Set<Class<?>> getClasses() {
-        return beanMap.keySet();
+        // 冻结后返回不可修改的视图，避免通过 keySet 删除 bean
+        return isFrozen() ? Collections.unmodifiableSet(beanMap.keySet()) : beanMap.keySet();
     }
 
     /**
@@ -183,53 +1268,127 @@ public class BeanContainer {
     }
 
     /**
-     * 根据注解筛选出bean的class集合
+     * 根据注解筛选出bean的class集合，包括还没有被创建的懒加载 bean
      *
      * @param annotation 注释
-     * @return {@link Set<Class> }
+     * @return {@link Set<Class> }，不可修改
      * @author chenz
      * @date 2021/09/21
      */
     public Set<Class<?>> getClassesByAnnotation(Class<? extends Annotation> annotation) {
-        // 获取所有class对象
-        Set<Class<?>> keySet = getClasses();
-        if (ValidationUtil.isEmpty(keySet)) {
+        if (beanMap.isEmpty() && lazyDefinitionMap.isEmpty()) {
             log.warn("nothing in beanMap");
             return Collections.emptySet();
         }
-        // 通过注解筛选class对象
-        Set<Class<?>> classSet = new HashSet<>();
-        for (Class<?> clazz : keySet) {
-            if (clazz.isAnnotationPresent(annotation)) {
-                classSet.add(clazz);
-            }
-        }
-        return classSet;
+        return view(annotationIndex.get(annotation));
     }
 
     /**
-     * 通过接口或者父类获取实现类或者子类的class集合，不包括其本身
+     * 通过接口或者父类获取实现类或者子类的class集合，不包括其本身，包括还没有被创建的懒加载 bean
      *
      * @param interfaceOrClass 接口或类
-     * @return {@link Set<Class> }
+     * @return {@link Set<Class> }，不可修改
      * @author chenz
      * @date 2021/09/21
      */
     public Set<Class<?>> getClassesBySuper(Class<?> interfaceOrClass) {
-        // 获取所有class对象
-        Set<Class<?>> keySet = getClasses();
-        if (ValidationUtil.isEmpty(keySet)) {
+        if (beanMap.isEmpty() && lazyDefinitionMap.isEmpty()) {
             log.warn("nothing in beanMap");
             return Collections.emptySet();
         }
-        // 通过注解筛选class对象
-        Set<Class<?>> classSet = new HashSet<>();
-        for (Class<?> clazz : keySet) {
-            if (interfaceOrClass.isAssignableFrom(clazz) && !clazz.equals(interfaceOrClass)) {
-                classSet.add(clazz);
+        return view(superIndex.get(interfaceOrClass));
+    }
+
+    /**
+     * 将 class 加入名称、注解和父类的索引
+     *
+     * @param clazz clazz
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void index(Class<?> clazz) {
+        nameIndex.put(getBeanName(clazz), clazz);
+        for (Annotation annotation : clazz.getAnnotations()) {
+            annotationIndex.computeIfAbsent(annotation.annotationType(), key -> ConcurrentHashMap.newKeySet()).add(clazz);
+        }
+        for (Class<?> superType : collectSuperTypes(clazz)) {
+            superIndex.computeIfAbsent(superType, key -> ConcurrentHashMap.newKeySet()).add(clazz);
+        }
+    }
+
+    /**
+     * 将 class 从名称、注解和父类的索引中移除，集合为空时移除整个键
+     *
+     * @param clazz clazz
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void unindex(Class<?> clazz) {
+        nameIndex.remove(getBeanName(clazz), clazz);
+        for (Annotation annotation : clazz.getAnnotations()) {
+            annotationIndex.computeIfPresent(annotation.annotationType(), (key, classSet) -> {
+                classSet.remove(clazz);
+                return classSet.isEmpty() ? null : classSet;
+            });
+        }
+        for (Class<?> superType : collectSuperTypes(clazz)) {
+            superIndex.computeIfPresent(superType, (key, classSet) -> {
+                classSet.remove(clazz);
+                return classSet.isEmpty() ? null : classSet;
+            });
+        }
+    }
+
+    /**
+     * 收集所有的父类和接口（包括接口继承的接口），不包括其本身
+     *
+     * @param clazz clazz
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    static Set<Class<?>> collectSuperTypes(Class<?> clazz) {
+        Set<Class<?>> superTypes = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(clazz);
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.poll();
+            if (null != current.getSuperclass() && superTypes.add(current.getSuperclass())) {
+                queue.add(current.getSuperclass());
+            }
+            for (Class<?> superInterface : current.getInterfaces()) {
+                if (superTypes.add(superInterface)) {
+                    queue.add(superInterface);
+                }
             }
         }
-        return classSet;
+        // 接口的 getSuperclass 为 null，但 Object.class.isAssignableFrom 对接口同样成立
+        if (clazz.isInterface()) {
+            superTypes.add(Object.class);
+        }
+        superTypes.remove(clazz);
+        return superTypes;
+    }
+
+    private static Set<Class<?>> view(Set<Class<?>> classSet) {
+        return null == classSet ? Collections.emptySet() : Collections.unmodifiableSet(classSet);
     }
 
+
+    /**
+     * 创建 bean 的线程工厂，线程名便于在启动报告和线程栈中识别
+     */
+    private static class InitThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "simpleframework-init-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            // 与当前线程使用同一个类加载器，bean 的构造方法中可能会加载资源
+            thread.setContextClassLoader(ClassUtil.getClassLoader());
+            return thread;
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package org.simpleframework.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * BeanDefinition
+ * <br>
+ * 扫描时记录的 bean 定义，懒加载的 bean 在第一次使用时根据定义创建
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+@AllArgsConstructor
+public class BeanDefinition {
+
+    /**
+     * bean 的 class 对象
+     */
+    private final Class<?> beanClass;
+
+    /**
+     * 是否懒加载
+     */
+    private final boolean lazy;
+}
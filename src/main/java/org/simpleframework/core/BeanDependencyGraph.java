@@ -0,0 +1,303 @@
+package org.simpleframework.core;
+
+import lombok.Getter;
+import org.simpleframework.inject.Provider;
+import org.simpleframework.inject.annotation.Autowired;
+import org.simpleframework.inject.annotation.Value;
+import org.simpleframework.util.ValidationUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BeanDependencyGraph
+ * <br>
+ * 根据 <code>@Autowired</code> 成员变量和构造方法参数构建的 bean 依赖图 <br>
+ * 用 Tarjan 算法求出强连通分量（相互依赖的 bean 落在同一个分量中）作为循环依赖报告；
+ * 再只按构造方法参数依赖用 Kahn 算法分层：同一层的 bean 之间没有构造方法参数依赖，可以并行创建，每一层只依赖之前的层 <br>
+ * 成员变量在所有 bean 创建之后才注入，不约束创建顺序，因此只使用成员变量注入的 bean 都在第一层；
+ * 并行的只是构造方法（以及其中解析的参数），成员变量注入仍在 DependencyInjector 中顺序执行 <br>
+ * 构造方法参数之间的循环依赖无法解决
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+public class BeanDependencyGraph {
+
+    /**
+     * 分层后的 bean，按创建的顺序排列
+     */
+    private final List<List<Class<?>>> layers = new ArrayList<>();
+
+    /**
+     * 循环依赖，每一项是一组相互依赖的 bean
+     */
+    private final List<Set<Class<?>>> cycles = new ArrayList<>();
+
+    /**
+     * 每个 bean 依赖的 bean
+     */
+    private final Map<Class<?>, Set<Class<?>>> dependencies = new LinkedHashMap<>();
+
+    /**
+     * 每个 bean 通过构造方法参数依赖的 bean，是 dependencies 的子集
+     */
+    private final Map<Class<?>, Set<Class<?>>> constructorDependencies = new LinkedHashMap<>();
+
+    private BeanDependencyGraph() {
+    }
+
+    /**
+     * 构建依赖图，只考虑传入的 bean 之间的依赖
+     *
+     * @param beanClasses bean 的 class 集合
+     * @return {@link BeanDependencyGraph }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static BeanDependencyGraph build(Collection<Class<?>> beanClasses) {
+        BeanDependencyGraph graph = new BeanDependencyGraph();
+        // 父类或接口到 bean 的索引，解析成员变量的类型时不需要遍历所有的 bean
+        Map<Class<?>, Set<Class<?>>> superIndex = new HashMap<>();
+        for (Class<?> beanClass : beanClasses) {
+            superIndex.computeIfAbsent(beanClass, key -> new LinkedHashSet<>()).add(beanClass);
+            for (Class<?> superType : BeanContainer.collectSuperTypes(beanClass)) {
+                superIndex.computeIfAbsent(superType, key -> new LinkedHashSet<>()).add(beanClass);
+            }
+        }
+        for (Class<?> beanClass : beanClasses) {
+            Set<Class<?>> constructorDependencySet = resolveConstructorDependencies(beanClass, superIndex);
+            if (constructorDependencySet.contains(beanClass)) {
+                throw new RuntimeException("circular constructor dependency, " + beanClass.getName()
+                        + " depends on itself");
+            }
+            Set<Class<?>> dependencySet = resolveDependencies(beanClass, superIndex);
+            dependencySet.addAll(constructorDependencySet);
+            graph.constructorDependencies.put(beanClass, constructorDependencySet);
+            graph.dependencies.put(beanClass, dependencySet);
+        }
+        graph.collectCycles(new Tarjan(graph.dependencies).run());
+        graph.layer();
+        return graph;
+    }
+
+    /**
+     * 解析 bean 通过成员变量依赖的其他 bean
+     *
+     * @param beanClass  bean 的 class 对象
+     * @param superIndex 父类或接口到 bean 的索引
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static Set<Class<?>> resolveDependencies(Class<?> beanClass, Map<Class<?>, Set<Class<?>>> superIndex) {
+        Set<Class<?>> dependencySet = new LinkedHashSet<>();
+        for (Field field : beanClass.getDeclaredFields()) {
+            Autowired autowired = field.getAnnotation(Autowired.class);
+            if (null != autowired) {
+                resolveCandidates(field.getType(), field.getGenericType(), autowired.value(), superIndex, dependencySet);
+            }
+        }
+        dependencySet.remove(beanClass);
+        return dependencySet;
+    }
+
+    /**
+     * 解析 bean 通过构造方法参数依赖的其他 bean，包括其本身
+     *
+     * @param beanClass  bean 的 class 对象
+     * @param superIndex 父类或接口到 bean 的索引
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static Set<Class<?>> resolveConstructorDependencies(Class<?> beanClass,
+            Map<Class<?>, Set<Class<?>>> superIndex) {
+        Set<Class<?>> dependencySet = new LinkedHashSet<>();
+        Constructor<?> constructor = BeanContainer.getAutowiredConstructor(beanClass);
+        if (null == constructor) {
+            return dependencySet;
+        }
+        for (Parameter parameter : constructor.getParameters()) {
+            // 配置值不依赖任何 bean
+            if (parameter.isAnnotationPresent(Value.class)) {
+                continue;
+            }
+            Autowired autowired = parameter.getAnnotation(Autowired.class);
+            resolveCandidates(parameter.getType(), parameter.getParameterizedType(),
+                    null == autowired ? "" : autowired.value(), superIndex, dependencySet);
+        }
+        return dependencySet;
+    }
+
+    /**
+     * 解析注入点可能依赖的 bean，与 BeanContainer.resolveBeanClass 的规则一致：
+     * 类型本身是 bean 时直接依赖，否则依赖其实现类，指定了名称时只依赖名称匹配的实现类 <br>
+     * Provider 不依赖任何 bean，List、Map 依赖所有该类型的 bean
+     *
+     * @param type          注入点的类型
+     * @param genericType   注入点的泛型类型
+     * @param name          指定的 bean 名称，可以为空
+     * @param superIndex    父类或接口到 bean 的索引
+     * @param dependencySet 解析出的依赖
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static void resolveCandidates(Class<?> type, Type genericType, String name,
+            Map<Class<?>, Set<Class<?>>> superIndex, Set<Class<?>> dependencySet) {
+        if (Provider.class == type) {
+            return;
+        }
+        if (List.class == type || Map.class == type) {
+            dependencySet.addAll(superIndex.getOrDefault(BeanContainer.getAggregateElementType(type, genericType),
+                    Collections.emptySet()));
+            return;
+        }
+        Set<Class<?>> candidates = superIndex.get(type);
+        if (ValidationUtil.isEmpty(candidates)) {
+            return;
+        }
+        if (candidates.contains(type)) {
+            dependencySet.add(type);
+            return;
+        }
+        for (Class<?> candidate : candidates) {
+            if (ValidationUtil.isEmpty(name) || name.equals(BeanContainer.getBeanName(candidate))) {
+                dependencySet.add(candidate);
+            }
+        }
+    }
+
+    /**
+     * 记录包含多个 bean 的强连通分量
+     *
+     * @param components 强连通分量
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void collectCycles(List<Set<Class<?>>> components) {
+        for (Set<Class<?>> component : components) {
+            if (component.size() > 1) {
+                cycles.add(Collections.unmodifiableSet(component));
+            }
+        }
+    }
+
+    /**
+     * 按 Kahn 算法分层，只有构造方法参数依赖约束创建顺序
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void layer() {
+        // 每个 bean 的入度以及被依赖关系
+        Map<Class<?>, Integer> inDegree = new LinkedHashMap<>();
+        Map<Class<?>, List<Class<?>>> dependents = new HashMap<>();
+        for (Map.Entry<Class<?>, Set<Class<?>>> entry : constructorDependencies.entrySet()) {
+            Class<?> beanClass = entry.getKey();
+            for (Class<?> dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(beanClass);
+            }
+            inDegree.put(beanClass, entry.getValue().size());
+        }
+        List<Class<?>> current = new ArrayList<>();
+        for (Map.Entry<Class<?>, Integer> entry : inDegree.entrySet()) {
+            if (entry.getValue() == 0) {
+                current.add(entry.getKey());
+            }
+        }
+        int layered = 0;
+        while (!current.isEmpty()) {
+            layers.add(Collections.unmodifiableList(current));
+            layered += current.size();
+            List<Class<?>> next = new ArrayList<>();
+            for (Class<?> beanClass : current) {
+                for (Class<?> dependent : dependents.getOrDefault(beanClass, Collections.emptyList())) {
+                    if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+            current = next;
+        }
+        // 剩下的 bean 在构造方法参数的循环依赖上，或者依赖了这样的 bean
+        if (layered < inDegree.size()) {
+            List<Class<?>> remaining = new ArrayList<>();
+            for (Map.Entry<Class<?>, Integer> entry : inDegree.entrySet()) {
+                if (entry.getValue() > 0) {
+                    remaining.add(entry.getKey());
+                }
+            }
+            throw new RuntimeException("circular constructor dependency among " + remaining);
+        }
+    }
+
+    /**
+     * Tarjan 强连通分量算法
+     */
+    private static class Tarjan {
+
+        private final Map<Class<?>, Set<Class<?>>> dependencies;
+
+        private final Map<Class<?>, Integer> index = new HashMap<>();
+
+        private final Map<Class<?>, Integer> lowLink = new HashMap<>();
+
+        private final List<Class<?>> stack = new ArrayList<>();
+
+        private final Set<Class<?>> onStack = new LinkedHashSet<>();
+
+        private final List<Set<Class<?>>> components = new ArrayList<>();
+
+        private Tarjan(Map<Class<?>, Set<Class<?>>> dependencies) {
+            this.dependencies = dependencies;
+        }
+
+        private List<Set<Class<?>>> run() {
+            for (Class<?> beanClass : dependencies.keySet()) {
+                if (!index.containsKey(beanClass)) {
+                    visit(beanClass);
+                }
+            }
+            return components;
+        }
+
+        private void visit(Class<?> beanClass) {
+            index.put(beanClass, index.size());
+            lowLink.put(beanClass, index.get(beanClass));
+            stack.add(beanClass);
+            onStack.add(beanClass);
+            for (Class<?> dependency : dependencies.get(beanClass)) {
+                if (!index.containsKey(dependency)) {
+                    visit(dependency);
+                    lowLink.put(beanClass, Math.min(lowLink.get(beanClass), lowLink.get(dependency)));
+                } else if (onStack.contains(dependency)) {
+                    lowLink.put(beanClass, Math.min(lowLink.get(beanClass), index.get(dependency)));
+                }
+            }
+            if (lowLink.get(beanClass).equals(index.get(beanClass))) {
+                Set<Class<?>> component = new LinkedHashSet<>();
+                Class<?> member;
+                do {
+                    member = stack.remove(stack.size() - 1);
+                    onStack.remove(member);
+                    component.add(member);
+                } while (member != beanClass);
+                components.add(component);
+            }
+        }
+    }
+}
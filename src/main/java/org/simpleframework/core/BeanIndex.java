@@ -0,0 +1,207 @@
+package org.simpleframework.core;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.simpleframework.core.scan.PackageTrie;
+import org.simpleframework.util.ClassUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * BeanIndex
+ * <br>
+ * 编译期生成的 bean 索引（由 simpleframework-index 模块的注解处理器生成）<br>
+ * 根包所在的每个 classes 目录和 jar 包中都有索引时，BeanContainer 直接按索引加载该根包下的 bean，不再遍历目录；
+ * 其他根包仍然扫描，索引中的类已经不存在时（删除或者重命名之后没有重新编译）该根包同样回退到扫描
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BeanIndex {
+
+    /**
+     * 索引文件的位置，需要与 BeanIndexProcessor 保持一致
+     */
+    public static final String INDEX_LOCATION = "META-INF/simpleframework/bean.index";
+
+    /**
+     * 所有索引文件中记录的类名
+     */
+    private final Set<String> classNames = new LinkedHashSet<>();
+
+    /**
+     * 有索引文件的 classes 目录或 jar 包，即索引文件的地址去掉 INDEX_LOCATION 之后的部分
+     */
+    private final Set<String> indexedLocations = new HashSet<>();
+
+    /**
+     * 读取类加载器下所有的索引文件（每个 jar 或 classes 目录各有一份）
+     *
+     * @param classLoader 类加载器
+     * @return {@link BeanIndex }，不存在任何索引文件时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static BeanIndex load(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            if (!urls.hasMoreElements()) {
+                return null;
+            }
+            BeanIndex beanIndex = new BeanIndex();
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                beanIndex.read(url);
+                String location = url.toString();
+                beanIndex.indexedLocations.add(location.substring(0, location.length() - INDEX_LOCATION.length()));
+            }
+            return beanIndex;
+        } catch (IOException e) {
+            log.warn("unable to read bean index, fall back to scanning", e);
+            return null;
+        }
+    }
+
+    /**
+     * 获取指定包以及其子包下被索引的类，跳过已经不存在的类
+     *
+     * @param packageName 包名
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Set<Class<?>> getCandidateClasses(String packageName) {
+        String prefix = packageName + ".";
+        Set<Class<?>> classSet = new LinkedHashSet<>();
+        for (String className : classNames) {
+            if (className.startsWith(prefix)) {
+                Class<?> clazz = loadIndexedClass(className);
+                if (null != clazz) {
+                    classSet.add(clazz);
+                }
+            }
+        }
+        return classSet.isEmpty() ? Collections.emptySet() : classSet;
+    }
+
+    /**
+     * 根包是否完全被索引覆盖：根包所在的每个 classes 目录和 jar 包中都有索引文件
+     *
+     * @param packageName 根包
+     * @param classLoader 类加载器
+     * @return boolean，找不到根包时返回 false
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public boolean covers(String packageName, ClassLoader classLoader) {
+        String packagePath = packageName.replace('.', '/');
+        try {
+            Enumeration<URL> urls = classLoader.getResources(packagePath);
+            if (!urls.hasMoreElements()) {
+                return false;
+            }
+            while (urls.hasMoreElements()) {
+                String location = urls.nextElement().toString();
+                if (location.endsWith("/")) {
+                    location = location.substring(0, location.length() - 1);
+                }
+                if (!location.endsWith(packagePath)
+                        || !indexedLocations.contains(location.substring(0, location.length() - packagePath.length()))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("unable to locate package {}, fall back to scanning", packageName, e);
+            return false;
+        }
+    }
+
+    /**
+     * 获取根包下满足包含、排除规则的被索引的类
+     *
+     * @param packageName 根包
+     * @param packages    根包以及包含、排除规则
+     * @return {@link Set<Class> }，有无法加载的类时返回 null，由调用方回退到扫描
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Set<Class<?>> getCandidateClasses(String packageName, PackageTrie packages) {
+        String prefix = packageName + ".";
+        Set<Class<?>> classSet = new LinkedHashSet<>();
+        for (String className : classNames) {
+            int index = className.lastIndexOf('.');
+            if (!className.startsWith(prefix) || !packages.contains(className.substring(0, index))) {
+                continue;
+            }
+            Class<?> clazz = loadIndexedClass(className);
+            if (null == clazz) {
+                return null;
+            }
+            classSet.add(clazz);
+        }
+        return classSet;
+    }
+
+    /**
+     * 加载索引中的类
+     *
+     * @param className 类名
+     * @return {@link Class }，类已经不存在时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static Class<?> loadIndexedClass(String className) {
+        try {
+            return Class.forName(className, true, ClassUtil.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("bean index is stale, class {} can not be loaded", className, e);
+            return null;
+        }
+    }
+
+    /**
+     * 索引中记录的类的数量
+     *
+     * @return int
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public int size() {
+        return classNames.size();
+    }
+
+    /**
+     * 读取单个索引文件，每行一个类名，# 开头的行为注释
+     *
+     * @param url 索引文件地址
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void read(URL url) throws IOException {
+        try (InputStream in = url.openStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    classNames.add(line);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.simpleframework.core;
+
+/**
+ * BeanInstantiator
+ * <br>
+ * 代替容器实例化 bean 的处理器，由 AspectWeaver 在创建完切面之后、创建其他 bean 之前注册 <br>
+ * 需要织入切面的类直接实例化为代理对象，构造方法只执行一次，通过构造方法注入到其他 bean 的也是代理对象
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@FunctionalInterface
+public interface BeanInstantiator {
+
+    /**
+     * 实例化 bean
+     *
+     * @param beanClass bean 的 class 对象
+     * @return {@link Object }，不需要处理时返回 null，由容器调用构造方法
+     * @author chenz
+     * @date 2026/10/18
+     */
+    Object instantiate(Class<?> beanClass);
+}
@@ -0,0 +1,26 @@
+package org.simpleframework.core;
+
+/**
+ * BeanPostProcessor
+ * <br>
+ * 懒加载的 bean 被创建后依次调用的处理器，由 DependencyInjector 在注入时注册 <br>
+ * 启动时创建的 bean 仍然由 doIOC 统一处理，织入在实例化时由 BeanInstantiator 完成
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@FunctionalInterface
+public interface BeanPostProcessor {
+
+    /**
+     * 处理新创建的 bean
+     *
+     * @param beanClass bean 的 class 对象
+     * @param bean      bean 对象
+     * @return {@link Object } 处理后的 bean，例如代理对象
+     * @author chenz
+     * @date 2026/10/18
+     */
+    Object postProcess(Class<?> beanClass, Object bean);
+}
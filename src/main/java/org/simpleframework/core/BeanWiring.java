@@ -0,0 +1,56 @@
+package org.simpleframework.core;
+
+import java.util.Set;
+
+/**
+ * BeanWiring
+ * <br>
+ * 编译期生成的 bean 装配代码（由 simpleframework-index 模块的 BeanWiringProcessor 在装配模式下生成）<br>
+ * 直接调用构造方法、直接给成员变量赋值，依赖在编译期已经解析，启动时不需要通过反射访问成员变量
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public interface BeanWiring<T> {
+
+    /**
+     * 创建 bean，构造方法的参数直接从容器中获取
+     *
+     * @param beanContainer 容器
+     * @return {@link T }，构造方法不可访问时返回 null，由容器通过反射创建
+     * @author chenz
+     * @date 2026/10/18
+     */
+    T newInstance(BeanContainer beanContainer);
+
+    /**
+     * 注入生成的代码可以直接访问的成员变量
+     *
+     * @param bean          bean 对象，可能是织入后的代理
+     * @param beanContainer 容器
+     * @author chenz
+     * @date 2026/10/18
+     */
+    void inject(T bean, BeanContainer beanContainer);
+
+    /**
+     * 生成的代码无法直接赋值的成员变量名称，例如 private 的成员变量，这些成员变量仍然需要通过注入计划注入
+     *
+     * @return {@link Set<String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    Set<String> getReflectiveFields();
+
+    /**
+     * 是否所有被 Autowired 标记的成员变量都已经由 inject 注入
+     *
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    default boolean isComplete() {
+        return getReflectiveFields().isEmpty();
+    }
+}
@@ -0,0 +1,129 @@
+package org.simpleframework.core;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.simpleframework.util.ClassUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BeanWiringRegistry
+ * <br>
+ * 编译期生成的装配代码的注册表，读取 <code>META-INF/simpleframework/bean.wiring</code>，
+ * 每行为 <code>bean 类名=装配类名</code> <br>
+ * 装配类在第一次使用时加载并实例化
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BeanWiringRegistry {
+
+    /**
+     * 注册表文件的位置，需要与 BeanWiringProcessor 保持一致
+     */
+    public static final String WIRING_LOCATION = "META-INF/simpleframework/bean.wiring";
+
+    /**
+     * bean 类名到装配类名
+     */
+    private final Map<String, String> wiringClassNames = new HashMap<>();
+
+    /**
+     * 已经实例化的装配类
+     */
+    private final Map<Class<?>, BeanWiring<Object>> wirings = new ConcurrentHashMap<>();
+
+    /**
+     * 读取类加载器下所有的注册表文件
+     *
+     * @param classLoader 类加载器
+     * @return {@link BeanWiringRegistry }，不存在任何注册表文件时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static BeanWiringRegistry load(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> urls = classLoader.getResources(WIRING_LOCATION);
+            if (!urls.hasMoreElements()) {
+                return null;
+            }
+            BeanWiringRegistry registry = new BeanWiringRegistry();
+            while (urls.hasMoreElements()) {
+                registry.read(urls.nextElement());
+            }
+            return registry;
+        } catch (IOException e) {
+            log.warn("unable to read bean wiring, fall back to reflection", e);
+            return null;
+        }
+    }
+
+    /**
+     * 获取 bean 的装配代码
+     *
+     * @param beanClass bean 的 class 对象
+     * @return {@link BeanWiring }，没有生成装配代码时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    @SuppressWarnings("unchecked")
+    public BeanWiring<Object> get(Class<?> beanClass) {
+        BeanWiring<Object> wiring = wirings.get(beanClass);
+        if (null != wiring) {
+            return wiring;
+        }
+        String wiringClassName = wiringClassNames.get(beanClass.getName());
+        if (null == wiringClassName) {
+            return null;
+        }
+        // 装配类与 bean 位于同一个包，使用 bean 的类加载器加载
+        wiring = (BeanWiring<Object>) ClassUtil.newInstance(ClassUtil.loadClass(wiringClassName, beanClass.getClassLoader()));
+        BeanWiring<Object> former = wirings.putIfAbsent(beanClass, wiring);
+        return null == former ? wiring : former;
+    }
+
+    /**
+     * 注册表中记录的装配类的数量
+     *
+     * @return int
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public int size() {
+        return wiringClassNames.size();
+    }
+
+    /**
+     * 读取单个注册表文件，# 开头的行为注释
+     *
+     * @param url 注册表文件地址
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void read(URL url) throws IOException {
+        try (InputStream in = url.openStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                int index = line.indexOf('=');
+                if (!line.isEmpty() && !line.startsWith("#") && index > 0) {
+                    wiringClassNames.put(line.substring(0, index).trim(), line.substring(index + 1).trim());
+                }
+            }
+        }
+    }
+}
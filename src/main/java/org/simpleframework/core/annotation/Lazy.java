@@ -0,0 +1,22 @@
+package org.simpleframework.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lazy
+ * <br>
+ * 标记的 bean 在第一次 getBean 时才会被创建、织入和注入 <br>
+ * 容器开启懒加载模式时，可以使用 <code>@Lazy(false)</code> 让 bean 在启动时创建
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Lazy {
+    boolean value() default true;
+}
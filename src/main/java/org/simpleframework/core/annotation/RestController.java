@@ -14,4 +14,10 @@ import java.lang.annotation.Target;
  */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
-public @interface RestController {}
+public @interface RestController {
+
+    /**
+     * bean 的名称，为空时使用类的简单名称，不同包下的同名类需要指定不同的名称，否则启动时失败
+     */
+    String value() default "";
+}
@@ -0,0 +1,30 @@
+package org.simpleframework.core.annotation;
+
+import org.simpleframework.core.scope.ScopeType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Scope
+ * <br>
+ * bean 的作用域，默认为单例 <br>
+ * 非单例的 bean 在容器中以作用域代理的形式存在，注入到单例 bean 中的是代理，每次调用方法时再从作用域中获取实例
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Scope {
+
+    ScopeType value() default ScopeType.SINGLETON;
+
+    /**
+     * 对象池中最多保留的空闲实例数，只对 POOLED 作用域有效
+     */
+    int poolSize() default 16;
+}
@@ -0,0 +1,25 @@
+package org.simpleframework.core.config;
+
+/**
+ * ConfigChangeListener
+ * <br>
+ * 配置变化的监听器，在新的快照替换旧快照之后、在监听配置文件的线程中调用
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * 配置发生了变化
+     *
+     * @param key      配置的键
+     * @param oldValue 原来的值，新增的配置为 null
+     * @param newValue 新的值，删除的配置为 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    void onChange(String key, String oldValue, String newValue);
+}
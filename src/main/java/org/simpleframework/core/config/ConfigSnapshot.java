@@ -0,0 +1,383 @@
+package org.simpleframework.core.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.simpleframework.util.ConverterUtil;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ConfigSnapshot
+ * <br>
+ * 配置的不可变快照，启动时读取一次 <code>simpleframework.yml</code> 和 <code>application.properties</code>，
+ * 配置文件变化后重新读取成新的快照整体替换，不会修改已有的快照 <br>
+ * yml 中的层级结构展开为以 <code>.</code> 分隔的键，列表展开为以逗号分隔的值，两个文件中都有的键以 properties 为准 <br>
+ * <code>@Value("key:default")</code> 表达式按目标类型转换后缓存，同一个表达式只会解析、转换一次
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Slf4j
+public final class ConfigSnapshot {
+
+    public static final String CONFIG_FILE_YAML = "simpleframework.yml";
+
+    public static final String CONFIG_FILE_PROPERTIES = "application.properties";
+
+    /**
+     * 配置文件，按顺序读取，后读取的文件覆盖先读取的文件中相同的键
+     */
+    public static final List<String> CONFIG_FILES = Collections.unmodifiableList(
+            Arrays.asList(CONFIG_FILE_YAML, CONFIG_FILE_PROPERTIES));
+
+    /**
+     * 时长的单位，ms 需要在 m、s 之前匹配
+     */
+    private static final Map<String, ChronoUnit> DURATION_UNITS = new LinkedHashMap<>();
+
+    static {
+        DURATION_UNITS.put("ms", ChronoUnit.MILLIS);
+        DURATION_UNITS.put("s", ChronoUnit.SECONDS);
+        DURATION_UNITS.put("m", ChronoUnit.MINUTES);
+        DURATION_UNITS.put("h", ChronoUnit.HOURS);
+        DURATION_UNITS.put("d", ChronoUnit.DAYS);
+    }
+
+    private static final ConfigSnapshot EMPTY = new ConfigSnapshot(Collections.emptyMap());
+
+    /**
+     * 展开后的配置，按键排序
+     */
+    private final Map<String, String> values;
+
+    /**
+     * 已经转换过的表达式，键为表达式和目标类型
+     */
+    private final Map<String, Object> convertedValues = new ConcurrentHashMap<>();
+
+    private ConfigSnapshot(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * 空的配置快照
+     *
+     * @return {@link ConfigSnapshot }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static ConfigSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 由已有的配置创建快照
+     *
+     * @param values 配置
+     * @return {@link ConfigSnapshot }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static ConfigSnapshot of(Map<String, String> values) {
+        return new ConfigSnapshot(Collections.unmodifiableMap(new TreeMap<>(values)));
+    }
+
+    /**
+     * 从类加载器中读取配置文件，文件不存在或者读取失败时跳过
+     *
+     * @param classLoader 类加载器
+     * @return {@link ConfigSnapshot }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static ConfigSnapshot load(ClassLoader classLoader) {
+        Map<String, String> values = new TreeMap<>();
+        for (String fileName : CONFIG_FILES) {
+            try {
+                readFile(classLoader, fileName, values);
+            } catch (IOException | RuntimeException e) {
+                log.warn("The {} can not load", fileName, e);
+            }
+        }
+        return new ConfigSnapshot(Collections.unmodifiableMap(values));
+    }
+
+    /**
+     * 从类加载器中读取配置文件，与 load 不同的是任意一个文件读取失败时直接抛出异常，用于重新加载时保留原有的快照
+     *
+     * @param classLoader 类加载器
+     * @return {@link ConfigSnapshot }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static ConfigSnapshot read(ClassLoader classLoader) throws IOException {
+        return read(classLoader, Collections.emptyMap());
+    }
+
+    /**
+     * 重新读取配置文件，位于目录中的配置文件直接从文件系统读取，任意一个文件读取失败时直接抛出异常 <br>
+     * 类加载器可能缓存资源的内容（例如 web 容器的类加载器），配置文件变化后从类加载器读取到的可能仍然是旧的内容
+     *
+     * @param classLoader 类加载器，读取 paths 中没有的配置文件
+     * @param paths       配置文件的文件名和所在的路径，文件已经被删除时跳过
+     * @return {@link ConfigSnapshot }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static ConfigSnapshot read(ClassLoader classLoader, Map<String, Path> paths) throws IOException {
+        Map<String, String> values = new TreeMap<>();
+        for (String fileName : CONFIG_FILES) {
+            try {
+                Path path = paths.get(fileName);
+                if (null == path) {
+                    readFile(classLoader, fileName, values);
+                } else {
+                    readFile(path, fileName, values);
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("unable to parse " + fileName, e);
+            }
+        }
+        return new ConfigSnapshot(Collections.unmodifiableMap(values));
+    }
+
+    private static void readFile(ClassLoader classLoader, String fileName, Map<String, String> values) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(fileName)) {
+            if (null != in) {
+                readFile(in, fileName, values);
+            }
+        }
+    }
+
+    private static void readFile(Path path, String fileName, Map<String, String> values) throws IOException {
+        InputStream in;
+        try {
+            in = Files.newInputStream(path);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        try {
+            readFile(in, fileName, values);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void readFile(InputStream in, String fileName, Map<String, String> values) throws IOException {
+        if (CONFIG_FILE_YAML.equals(fileName)) {
+            readYaml(in, values);
+        } else {
+            readProperties(in, values);
+        }
+    }
+
+    /**
+     * 读取 yml，展开层级结构后放入 values
+     *
+     * @param in     输入流
+     * @param values 展开后的配置
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static void readYaml(InputStream in, Map<String, String> values) throws IOException {
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            Object root = new Yaml().load(reader);
+            if (root instanceof Map) {
+                flatten("", (Map<?, ?>) root, values);
+            }
+        }
+    }
+
+    /**
+     * 读取 properties 放入 values，已有的键会被覆盖
+     *
+     * @param in     输入流
+     * @param values 配置
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static void readProperties(InputStream in, Map<String, String> values) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key).trim());
+        }
+    }
+
+    private static void flatten(String prefix, Map<?, ?> map, Map<String, String> values) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            String key = prefix + entry.getKey();
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                flatten(key + ".", (Map<?, ?>) value, values);
+            } else if (value instanceof Collection) {
+                StringJoiner joiner = new StringJoiner(",");
+                for (Object element : (Collection<?>) value) {
+                    joiner.add(String.valueOf(element));
+                }
+                values.put(key, joiner.toString());
+            } else {
+                values.put(key, null == value ? "" : String.valueOf(value).trim());
+            }
+        }
+    }
+
+    /**
+     * 获取配置
+     *
+     * @param key 键
+     * @return {@link String }，不存在时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public String getString(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * 获取配置，不存在时返回默认值
+     *
+     * @param key          键
+     * @param defaultValue 默认值
+     * @return {@link String }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public String getString(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * 是否存在配置
+     *
+     * @param key 键
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * 所有配置，不可修改
+     *
+     * @return {@link Map<String, String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    /**
+     * 解析 <code>key:default</code> 形式的表达式并转换为目标类型，结果会被缓存 <br>
+     * 只有第一个 <code>:</code> 作为键和默认值的分隔符，默认值中可以包含 <code>:</code>
+     *
+     * @param expression 表达式
+     * @param type       目标类型，支持基本类型及其包装类、String、枚举和 Duration
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Object resolve(String expression, Class<?> type) {
+        String cacheKey = type.getName() + "@" + expression;
+        Object value = convertedValues.get(cacheKey);
+        if (null != value) {
+            return value;
+        }
+        value = convert(type, lookup(expression));
+        // null 不能放入 ConcurrentHashMap，包装类的空值每次重新转换
+        if (null != value) {
+            convertedValues.putIfAbsent(cacheKey, value);
+        }
+        return value;
+    }
+
+    private String lookup(String expression) {
+        int index = expression.indexOf(':');
+        String key = (index < 0 ? expression : expression.substring(0, index)).trim();
+        String value = values.get(key);
+        if (null != value) {
+            return value;
+        }
+        if (index < 0) {
+            throw new RuntimeException("unable to resolve config value, key is:" + key);
+        }
+        return expression.substring(index + 1).trim();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(Class<?> type, String value) {
+        if (value.isEmpty() && type.isPrimitive()) {
+            throw new RuntimeException("unable to convert empty config value to " + type.getName());
+        }
+        if (type == String.class) {
+            return value;
+        }
+        try {
+            if (type.isEnum()) {
+                return value.isEmpty() ? null : Enum.valueOf((Class<? extends Enum>) type, value.trim().toUpperCase());
+            }
+            if (type == Duration.class) {
+                return value.isEmpty() ? null : parseDuration(value);
+            }
+            if (type == char.class || type == Character.class) {
+                return value.isEmpty() ? null : value.charAt(0);
+            }
+            return ConverterUtil.convert(type, value);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("unable to convert config value " + value + " to " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 解析时长，支持 ISO-8601 格式以及 <code>500ms</code>、<code>30s</code>、<code>5m</code>、<code>2h</code>、<code>1d</code>，
+     * 没有单位时为毫秒
+     *
+     * @param value 配置值
+     * @return {@link Duration }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase();
+        if (text.startsWith("p") || text.startsWith("-p")) {
+            return Duration.parse(text.toUpperCase());
+        }
+        for (Map.Entry<String, ChronoUnit> unit : DURATION_UNITS.entrySet()) {
+            if (text.endsWith(unit.getKey())) {
+                long amount = Long.parseLong(text.substring(0, text.length() - unit.getKey().length()).trim());
+                return Duration.of(amount, unit.getValue());
+            }
+        }
+        return Duration.ofMillis(Long.parseLong(text));
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigSnapshot" + values.keySet();
+    }
+}
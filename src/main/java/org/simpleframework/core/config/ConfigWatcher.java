@@ -0,0 +1,178 @@
+package org.simpleframework.core.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ConfigWatcher
+ * <br>
+ * 通过 WatchService 监听配置文件所在的目录，配置文件变化后在独立的守护线程中重新读取，再交给 consumer 替换快照 <br>
+ * 编辑器保存文件时可能触发多个事件，收到事件后等待一小段时间，合并成一次重新加载；读取失败时保留原有的快照 <br>
+ * 只能监听位于目录中的配置文件，打包在 jar 中的配置文件不会被监听；重新读取时直接读取文件，不经过可能缓存了旧内容的类加载器
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Slf4j
+public class ConfigWatcher implements Closeable {
+
+    /**
+     * 合并连续事件的等待时间
+     */
+    private static final long QUIET_MILLIS = 100;
+
+    private final ClassLoader classLoader;
+
+    private final Consumer<ConfigSnapshot> consumer;
+
+    /**
+     * 位于目录中的配置文件的文件名和路径，重新加载时直接读取文件
+     */
+    private final Map<String, Path> paths;
+
+    private final WatchService watchService;
+
+    /**
+     * 监听的配置文件的文件名
+     */
+    private final Set<Path> fileNames = new HashSet<>();
+
+    private final Thread thread;
+
+    private ConfigWatcher(ClassLoader classLoader, Consumer<ConfigSnapshot> consumer, Map<String, Path> paths)
+            throws IOException {
+        this.classLoader = classLoader;
+        this.consumer = consumer;
+        this.paths = paths;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        for (Path directory : getDirectories()) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+        for (String fileName : ConfigSnapshot.CONFIG_FILES) {
+            fileNames.add(Paths.get(fileName));
+        }
+        this.thread = new Thread(this::watch, "simpleframework-config-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * 开始监听类加载器中的配置文件
+     *
+     * @param classLoader 读取配置文件的类加载器
+     * @param consumer    接收重新读取的快照
+     * @return {@link ConfigWatcher }，没有可以监听的配置文件时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static ConfigWatcher start(ClassLoader classLoader, Consumer<ConfigSnapshot> consumer) {
+        Map<String, Path> paths = new HashMap<>();
+        for (String fileName : ConfigSnapshot.CONFIG_FILES) {
+            URL url = classLoader.getResource(fileName);
+            if (null != url && "file".equals(url.getProtocol())) {
+                try {
+                    paths.put(fileName, Paths.get(url.toURI()));
+                } catch (URISyntaxException e) {
+                    log.warn("unable to watch config file {}", url, e);
+                }
+            }
+        }
+        if (paths.isEmpty()) {
+            log.info("no config file can be watched, hot reload is disabled");
+            return null;
+        }
+        try {
+            ConfigWatcher watcher = new ConfigWatcher(classLoader, consumer, paths);
+            watcher.thread.start();
+            log.info("watching config files {}", paths.values());
+            return watcher;
+        } catch (IOException e) {
+            log.warn("unable to watch config files {}, hot reload is disabled", paths.values(), e);
+            return null;
+        }
+    }
+
+    private Set<Path> getDirectories() {
+        Set<Path> directories = new HashSet<>();
+        for (Path path : paths.values()) {
+            directories.add(path.getParent());
+        }
+        return directories;
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean changed = drain(watchService.take());
+                // 合并短时间内的连续事件
+                WatchKey key;
+                while (null != (key = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS))) {
+                    changed |= drain(key);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // 已经关闭
+        }
+    }
+
+    /**
+     * 取出目录中的事件，并判断是否有配置文件发生了变化
+     */
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (context instanceof Path && fileNames.contains(((Path) context).getFileName()))) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reload() {
+        try {
+            // 类加载器可能缓存了旧的内容，位于目录中的配置文件直接从文件系统读取
+            ConfigSnapshot snapshot = ConfigSnapshot.read(classLoader, paths);
+            consumer.accept(snapshot);
+            log.info("config has been reloaded");
+        } catch (IOException | RuntimeException e) {
+            log.warn("unable to reload config, keep the current one", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("unable to close config watcher", e);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.simpleframework.core.scan;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.annotation.Annotation;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * ClassFileAnnotationReader
+ * <br>
+ * 直接解析 class 文件的常量池和类上的 <code>RuntimeVisibleAnnotations</code> 属性，<br>
+ * 在不加载、不初始化类的情况下判断类上是否标记了指定的注解
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@SuppressWarnings("squid:S3776")
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ClassFileAnnotationReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    /**
+     * 常量池中各类型的 tag
+     */
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELD_REF = 9;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    /**
+     * 将注解类型转换成 class 文件中使用的类型描述符，例如 <code>Lorg/simpleframework/core/annotation/Component;</code>
+     *
+     * @param annotations 注解列表
+     * @return {@link Set<String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Set<String> toDescriptors(Collection<Class<? extends Annotation>> annotations) {
+        Set<String> descriptors = new HashSet<>();
+        for (Class<? extends Annotation> annotation : annotations) {
+            descriptors.add("L" + annotation.getName().replace('.', '/') + ";");
+        }
+        return descriptors;
+    }
+
+    /**
+     * 判断 class 文件的类上是否标记了任意一个指定的注解
+     *
+     * @param classFile   class 文件的字节
+     * @param descriptors 注解的类型描述符
+     * @return boolean
+     * @throws IllegalArgumentException 不是合法的 class 文件
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static boolean hasAnyAnnotation(byte[] classFile, Set<String> descriptors) {
+        try {
+            return doHasAnyAnnotation(ByteBuffer.wrap(classFile), descriptors);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("malformed class file", e);
+        }
+    }
+
+    private static boolean doHasAnyAnnotation(ByteBuffer buffer, Set<String> descriptors) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("bad class file magic");
+        }
+        // minor_version, major_version
+        skip(buffer, 4);
+        int constantPoolCount = u2(buffer);
+        // 只记录 utf8 常量的偏移量，其他常量直接跳过
+        int[] utf8Offsets = new int[constantPoolCount];
+        boolean candidate = false;
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = u1(buffer);
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    utf8Offsets[i] = buffer.position();
+                    int length = u2(buffer);
+                    // 常量池中连注解的描述符都没有，肯定没有标记该注解，后面无需再解析
+                    // 只有形如 Lxxx; 的常量才可能是描述符，避免为每个常量都创建字符串
+                    if (!candidate && length > 2 && buffer.get(buffer.position()) == 'L'
+                            && buffer.get(buffer.position() + length - 1) == ';'
+                            && descriptors.contains(readUtf8(buffer, utf8Offsets[i]))) {
+                        candidate = true;
+                    }
+                    skip(buffer, length);
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    skip(buffer, 2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    skip(buffer, 3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELD_REF:
+                case CONSTANT_METHOD_REF:
+                case CONSTANT_INTERFACE_METHOD_REF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    skip(buffer, 4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    // long 和 double 占用两个常量池位置
+                    skip(buffer, 8);
+                    i++;
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown constant pool tag " + tag);
+            }
+        }
+        if (!candidate) {
+            return false;
+        }
+        // access_flags, this_class, super_class
+        skip(buffer, 6);
+        int interfacesCount = u2(buffer);
+        skip(buffer, interfacesCount * 2);
+        // 跳过字段和方法
+        skipMembers(buffer);
+        skipMembers(buffer);
+        // 类的属性
+        int attributesCount = u2(buffer);
+        for (int i = 0; i < attributesCount; i++) {
+            String attributeName = readUtf8(buffer, utf8Offsets[u2(buffer)]);
+            int attributeLength = buffer.getInt();
+            int attributeEnd = buffer.position() + attributeLength;
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                int annotationsCount = u2(buffer);
+                for (int j = 0; j < annotationsCount; j++) {
+                    if (descriptors.contains(readUtf8(buffer, utf8Offsets[u2(buffer)]))) {
+                        return true;
+                    }
+                    skipElementValuePairs(buffer);
+                }
+            }
+            buffer.position(attributeEnd);
+        }
+        return false;
+    }
+
+    /**
+     * 跳过字段表或方法表
+     */
+    private static void skipMembers(ByteBuffer buffer) {
+        int membersCount = u2(buffer);
+        for (int i = 0; i < membersCount; i++) {
+            // access_flags, name_index, descriptor_index
+            skip(buffer, 6);
+            int attributesCount = u2(buffer);
+            for (int j = 0; j < attributesCount; j++) {
+                skip(buffer, 2);
+                skip(buffer, buffer.getInt());
+            }
+        }
+    }
+
+    /**
+     * 跳过注解中的键值对
+     */
+    private static void skipElementValuePairs(ByteBuffer buffer) {
+        int pairsCount = u2(buffer);
+        for (int i = 0; i < pairsCount; i++) {
+            // element_name_index
+            skip(buffer, 2);
+            skipElementValue(buffer);
+        }
+    }
+
+    private static void skipElementValue(ByteBuffer buffer) {
+        int tag = u1(buffer);
+        switch (tag) {
+            case 'e':
+                // 枚举: type_name_index, const_name_index
+                skip(buffer, 4);
+                break;
+            case '@':
+                // 嵌套注解
+                skip(buffer, 2);
+                skipElementValuePairs(buffer);
+                break;
+            case '[':
+                int valuesCount = u2(buffer);
+                for (int i = 0; i < valuesCount; i++) {
+                    skipElementValue(buffer);
+                }
+                break;
+            default:
+                // 基本类型、String 以及 Class: const_value_index / class_info_index
+                skip(buffer, 2);
+                break;
+        }
+    }
+
+    /**
+     * 读取指定偏移量处的 utf8 常量（偏移量指向长度字段）
+     * <br>
+     * class 文件中使用的是 modified UTF-8，类名和注解描述符中不会出现需要特殊处理的字符
+     */
+    private static String readUtf8(ByteBuffer buffer, int offset) {
+        int length = ((buffer.get(offset) & 0xFF) << 8) | (buffer.get(offset + 1) & 0xFF);
+        return new String(buffer.array(), buffer.arrayOffset() + offset + 2, length, StandardCharsets.UTF_8);
+    }
+
+    private static int u1(ByteBuffer buffer) {
+        return buffer.get() & 0xFF;
+    }
+
+    private static int u2(ByteBuffer buffer) {
+        return buffer.getShort() & 0xFFFF;
+    }
+
+    private static void skip(ByteBuffer buffer, int length) {
+        buffer.position(buffer.position() + length);
+    }
+}
@@ -0,0 +1,391 @@
+package org.simpleframework.core.scan;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.simpleframework.core.startup.StartupRecorder;
+import org.simpleframework.core.startup.StartupStep;
+import org.simpleframework.util.ClassUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * JarClassScanner
+ * <br>
+ * 扫描 jar 包中指定包下的类 <br>
+ * 通过内存映射的 FileChannel 直接读取 zip 的中央目录，只遍历包前缀下的条目，<br>
+ * 其他条目既不会被解压也不会创建字符串，依赖的 jar 包再多也只有少量的页会被读入内存
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Slf4j
+@SuppressWarnings({"squid:S112", "squid:S3776"})
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class JarClassScanner {
+
+    public static final String JAR_PROTOCOL = "jar";
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /**
+     * zip 中各个结构的签名
+     */
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    /**
+     * 扫描 jar 包中指定包以及其子包下的类
+     *
+     * @param url         包对应的 jar 资源地址，例如 <code>jar:file:/app.jar!/com/chen/demo</code>
+     * @param packageName 包名
+     * @param descriptors 注解的类型描述符，为 null 时不过滤
+     * @param classLoader 类加载器
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Set<Class<?>> extractClasses(URL url, String packageName, Set<String> descriptors,
+            ClassLoader classLoader) throws IOException {
+        return extractClasses(url, packageName, descriptors, classLoader, PackageTrie.of(packageName));
+    }
+
+    /**
+     * 扫描 jar 包中指定包以及其子包下满足包含、排除规则的类
+     *
+     * @param url         包对应的 jar 资源地址，例如 <code>jar:file:/app.jar!/com/chen/demo</code>
+     * @param packageName 包名
+     * @param descriptors 注解的类型描述符，为 null 时不过滤
+     * @param classLoader 类加载器
+     * @param packages    包含、排除规则，被排除的包下的条目不会被解压
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Set<Class<?>> extractClasses(URL url, String packageName, Set<String> descriptors,
+            ClassLoader classLoader, PackageTrie packages) throws IOException {
+        try (StartupStep step = StartupRecorder.current().step(StartupRecorder.PACKAGE, packageName)) {
+            Set<Class<?>> classSet = extractClasses(url, packageName, descriptors, classLoader, new PackageFilter(packages));
+            step.detail(classSet.size() + " classes from " + url);
+            return classSet;
+        }
+    }
+
+    private static Set<Class<?>> extractClasses(URL url, String packageName, Set<String> descriptors,
+            ClassLoader classLoader, PackageFilter filter) throws IOException {
+        String prefix = packageName.replace('.', '/') + "/";
+        File jarFile = resolveJarFile(url);
+        // 嵌套在其他 jar 中的 jar 无法直接映射，使用 JarFile 逐个读取
+        if (null == jarFile || jarFile.length() > Integer.MAX_VALUE) {
+            return extractClassesByJarFile(url, prefix, descriptors, classLoader, filter);
+        }
+        Set<Class<?>> classSet = new HashSet<>();
+        try (FileChannel channel = FileChannel.open(jarFile.toPath(), StandardOpenOption.READ)) {
+            // 映射整个文件，只有真正访问到的页才会被读取
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            scanCentralDirectory(mapped, prefix, descriptors, classLoader, filter, classSet);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("unable to read central directory of {}, fall back to JarFile", jarFile, e);
+            return extractClassesByJarFile(url, prefix, descriptors, classLoader, filter);
+        }
+        return classSet;
+    }
+
+    /**
+     * 遍历中央目录，处理包前缀下的 class 文件
+     */
+    private static void scanCentralDirectory(ByteBuffer zip, String prefix, Set<String> descriptors,
+            ClassLoader classLoader, PackageFilter filter, Set<Class<?>> classSet) {
+        int endOffset = findEndOfCentralDirectory(zip);
+        long entryCount = zip.getShort(endOffset + 10) & 0xFFFF;
+        long directoryOffset = zip.getInt(endOffset + 16) & ZIP64_MAGIC;
+        // 条目数或偏移量溢出时需要从 zip64 结构中读取
+        if (entryCount == 0xFFFF || directoryOffset == ZIP64_MAGIC) {
+            int locatorOffset = endOffset - ZIP64_LOCATOR_SIZE;
+            if (locatorOffset < 0 || zip.getInt(locatorOffset) != ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+                throw new IllegalArgumentException("zip64 end of central directory locator not found");
+            }
+            int zip64EndOffset = toInt(zip.getLong(locatorOffset + 8));
+            if (zip.getInt(zip64EndOffset) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                throw new IllegalArgumentException("zip64 end of central directory not found");
+            }
+            entryCount = zip.getLong(zip64EndOffset + 32);
+            directoryOffset = zip.getLong(zip64EndOffset + 48);
+        }
+
+        byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+        int offset = toInt(directoryOffset);
+        for (long i = 0; i < entryCount; i++) {
+            if (zip.getInt(offset) != CENTRAL_DIRECTORY_SIGNATURE) {
+                throw new IllegalArgumentException("bad central directory header at " + offset);
+            }
+            int method = zip.getShort(offset + 10) & 0xFFFF;
+            long compressedSize = zip.getInt(offset + 20) & ZIP64_MAGIC;
+            long size = zip.getInt(offset + 24) & ZIP64_MAGIC;
+            int nameLength = zip.getShort(offset + 28) & 0xFFFF;
+            int extraLength = zip.getShort(offset + 30) & 0xFFFF;
+            int commentLength = zip.getShort(offset + 32) & 0xFFFF;
+            long localHeaderOffset = zip.getInt(offset + 42) & ZIP64_MAGIC;
+            int nameOffset = offset + CENTRAL_DIRECTORY_HEADER_SIZE;
+            // 先比较字节前缀和后缀，不符合的条目不会创建任何对象
+            if (startsWith(zip, nameOffset, nameLength, prefixBytes) && endsWithClassSuffix(zip, nameOffset, nameLength)) {
+                if (compressedSize == ZIP64_MAGIC || size == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+                    throw new IllegalArgumentException("zip64 sized class entries are not supported");
+                }
+                String entryName = readString(zip, nameOffset, nameLength);
+                if (!filter.accept(entryName)) {
+                    offset = nameOffset + nameLength + extraLength + commentLength;
+                    continue;
+                }
+                byte[] classFile = readEntry(zip, toInt(localHeaderOffset), method, toInt(compressedSize), toInt(size));
+                if (null == descriptors || hasAnyAnnotation(entryName, classFile, descriptors)) {
+                    classSet.add(ClassUtil.loadClass(toClassName(entryName), classLoader));
+                }
+            }
+            offset = nameOffset + nameLength + extraLength + commentLength;
+        }
+    }
+
+    /**
+     * 从文件末尾向前查找中央目录结束记录
+     */
+    private static int findEndOfCentralDirectory(ByteBuffer zip) {
+        int limit = Math.max(0, zip.limit() - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_LENGTH);
+        for (int offset = zip.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; offset >= limit; offset--) {
+            if (zip.getInt(offset) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return offset;
+            }
+        }
+        throw new IllegalArgumentException("end of central directory not found");
+    }
+
+    /**
+     * 读取条目的内容，只有被选中的条目才会被解压
+     */
+    private static byte[] readEntry(ByteBuffer zip, int localHeaderOffset, int method, int compressedSize, int size) {
+        if (zip.getInt(localHeaderOffset) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new IllegalArgumentException("bad local file header at " + localHeaderOffset);
+        }
+        int nameLength = zip.getShort(localHeaderOffset + 26) & 0xFFFF;
+        int extraLength = zip.getShort(localHeaderOffset + 28) & 0xFFFF;
+        int dataOffset = localHeaderOffset + LOCAL_FILE_HEADER_SIZE + nameLength + extraLength;
+        byte[] compressed = new byte[compressedSize];
+        ByteBuffer data = zip.duplicate();
+        data.position(dataOffset);
+        data.get(compressed);
+        if (method == STORED) {
+            return compressed;
+        }
+        if (method != DEFLATED) {
+            throw new IllegalArgumentException("unsupported compression method " + method);
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            byte[] classFile = new byte[size];
+            int inflated = 0;
+            while (inflated < size && !inflater.finished()) {
+                int count = inflater.inflate(classFile, inflated, size - inflated);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != size) {
+                throw new IllegalArgumentException("truncated deflated entry at " + localHeaderOffset);
+            }
+            return classFile;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("corrupt deflated entry at " + localHeaderOffset, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 无法映射时使用 JarFile 遍历所有条目
+     */
+    private static Set<Class<?>> extractClassesByJarFile(URL url, String prefix, Set<String> descriptors,
+            ClassLoader classLoader, PackageFilter filter) throws IOException {
+        Set<Class<?>> classSet = new HashSet<>();
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            log.warn("unsupported jar resource: {}", url);
+            return classSet;
+        }
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        jarConnection.setUseCaches(false);
+        try (JarFile jar = jarConnection.getJarFile()) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                if (!entryName.startsWith(prefix) || !entryName.endsWith(CLASS_FILE_SUFFIX) || !filter.accept(entryName)) {
+                    continue;
+                }
+                if (null != descriptors) {
+                    byte[] classFile;
+                    try (InputStream in = jar.getInputStream(entry)) {
+                        classFile = readFully(in);
+                    }
+                    if (!hasAnyAnnotation(entryName, classFile, descriptors)) {
+                        continue;
+                    }
+                }
+                classSet.add(ClassUtil.loadClass(toClassName(entryName), classLoader));
+            }
+        }
+        return classSet;
+    }
+
+    /**
+     * 获取 jar 资源对应的本地文件，嵌套 jar 返回 null
+     */
+    private static File resolveJarFile(URL url) throws IOException {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return null;
+        }
+        // getJarFileURL 只解析地址，不会打开 jar 文件
+        URL jarFileUrl = ((JarURLConnection) connection).getJarFileURL();
+        if (!"file".equalsIgnoreCase(jarFileUrl.getProtocol())) {
+            return null;
+        }
+        try {
+            File file = new File(jarFileUrl.toURI());
+            return file.isFile() ? file : null;
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasAnyAnnotation(String entryName, byte[] classFile, Set<String> descriptors) {
+        try {
+            return ClassFileAnnotationReader.hasAnyAnnotation(classFile, descriptors);
+        } catch (IllegalArgumentException e) {
+            log.warn("unable to read class file {}, fall back to loading it", entryName, e);
+            return true;
+        }
+    }
+
+    private static boolean startsWith(ByteBuffer zip, int offset, int length, byte[] prefix) {
+        if (length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (zip.get(offset + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean endsWithClassSuffix(ByteBuffer zip, int offset, int length) {
+        int suffixLength = CLASS_FILE_SUFFIX.length();
+        if (length <= suffixLength) {
+            return false;
+        }
+        for (int i = 0; i < suffixLength; i++) {
+            if (zip.get(offset + length - suffixLength + i) != CLASS_FILE_SUFFIX.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String readString(ByteBuffer zip, int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer slice = zip.duplicate();
+        slice.position(offset);
+        slice.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String toClassName(String entryName) {
+        return entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.');
+    }
+
+    /**
+     * 按条目所在的包过滤，同一个包下的条目在中央目录中通常是连续的，缓存上一个包的判断结果
+     */
+    private static class PackageFilter {
+
+        private final PackageTrie packages;
+
+        private String lastDirectory;
+
+        private boolean lastAccepted;
+
+        private PackageFilter(PackageTrie packages) {
+            this.packages = packages;
+        }
+
+        private boolean accept(String entryName) {
+            int index = entryName.lastIndexOf('/');
+            String directory = index < 0 ? "" : entryName.substring(0, index);
+            if (!directory.equals(lastDirectory)) {
+                lastDirectory = directory;
+                lastAccepted = packages.contains(directory.replace('/', '.'));
+            }
+            return lastAccepted;
+        }
+    }
+
+    private static int toInt(long value) {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("zip offset out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        byte[] buffer = new byte[4096];
+        int length = 0;
+        int read;
+        while ((read = in.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            if (length == buffer.length) {
+                byte[] larger = new byte[buffer.length * 2];
+                System.arraycopy(buffer, 0, larger, 0, length);
+                buffer = larger;
+            }
+        }
+        byte[] result = new byte[length];
+        System.arraycopy(buffer, 0, result, 0, length);
+        return result;
+    }
+}
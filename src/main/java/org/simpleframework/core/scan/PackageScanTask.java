@@ -0,0 +1,149 @@
+package org.simpleframework.core.scan;
+
+import lombok.extern.slf4j.Slf4j;
+import org.simpleframework.core.startup.StartupRecorder;
+import org.simpleframework.core.startup.StartupStep;
+import org.simpleframework.util.ClassUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * PackageScanTask
+ * <br>
+ * 扫描包目录的 fork/join 任务，每个子目录对应一个子任务 <br>
+ * 每个任务只处理自己目录下的 class 文件，结果放在各自的集合中，最后再逐级合并 <br>
+ * 被排除的子包在创建子任务之前就会被跳过，不会再列出其目录；不并行时子任务直接在当前线程中执行
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Slf4j
+public class PackageScanTask extends RecursiveTask<Set<Class<?>>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /**
+     * 要扫描的目录
+     */
+    private final File directory;
+
+    /**
+     * 该目录对应的包名
+     */
+    private final String packageName;
+
+    /**
+     * 注解的类型描述符，为 null 时不过滤
+     */
+    private final Set<String> descriptors;
+
+    /**
+     * 加载类使用的类加载器，工作线程的上下文类加载器不可靠，需要显式传递
+     */
+    private final transient ClassLoader classLoader;
+
+    /**
+     * 包含、排除规则
+     */
+    private final transient PackageTrie packages;
+
+    /**
+     * 是否将子任务提交到 ForkJoinPool 中并行执行
+     */
+    private final boolean fork;
+
+    public PackageScanTask(File directory, String packageName, Set<String> descriptors, ClassLoader classLoader,
+            PackageTrie packages, boolean fork) {
+        this.directory = directory;
+        this.packageName = packageName;
+        this.descriptors = descriptors;
+        this.classLoader = classLoader;
+        this.packages = packages;
+        this.fork = fork;
+    }
+
+    /**
+     * 在当前线程中顺序扫描
+     *
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Set<Class<?>> scan() {
+        return compute();
+    }
+
+    @Override
+    protected Set<Class<?>> compute() {
+        // 只记录当前目录的耗时，不包括子任务
+        StartupStep step = StartupRecorder.current().step(StartupRecorder.PACKAGE, packageName);
+        File[] files = directory.listFiles();
+        if (null == files) {
+            step.end();
+            return new HashSet<>();
+        }
+        // 先为所有子目录创建子任务并提交，再处理当前目录下的文件
+        List<PackageScanTask> subTasks = new ArrayList<>();
+        for (File file : files) {
+            if (file.isDirectory()) {
+                String subPackageName = packageName + "." + file.getName();
+                if (packages.isPruned(subPackageName)) {
+                    continue;
+                }
+                PackageScanTask subTask = new PackageScanTask(file, subPackageName, descriptors, classLoader,
+                        packages, fork);
+                if (fork) {
+                    subTask.fork();
+                }
+                subTasks.add(subTask);
+            }
+        }
+        Set<Class<?>> classSet = new HashSet<>();
+        // 父包已经检查过排除规则，这里只需要检查包含规则
+        if (packages.isIncluded(packageName)) {
+            for (File file : files) {
+                String fileName = file.getName();
+                if (fileName.endsWith(CLASS_FILE_SUFFIX) && file.isFile() && hasAnyAnnotation(file)) {
+                    String className = packageName + "." + fileName.substring(0, fileName.length() - CLASS_FILE_SUFFIX.length());
+                    classSet.add(ClassUtil.loadClass(className, classLoader));
+                }
+            }
+        }
+        step.detail(classSet.size() + " classes").end();
+        // 合并子任务的结果
+        for (PackageScanTask subTask : subTasks) {
+            classSet.addAll(fork ? subTask.join() : subTask.compute());
+        }
+        return classSet;
+    }
+
+    /**
+     * 读取 class 文件判断是否标记了指定的注解
+     *
+     * @param file class 文件
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private boolean hasAnyAnnotation(File file) {
+        if (null == descriptors) {
+            return true;
+        }
+        try {
+            return ClassFileAnnotationReader.hasAnyAnnotation(Files.readAllBytes(file.toPath()), descriptors);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("unable to read class file {}, fall back to loading it", file, e);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package org.simpleframework.core.scan;
+
+import org.simpleframework.util.ValidationUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * PackageTrie
+ * <br>
+ * 由扫描根包、包含规则和排除规则编译成的包前缀树 <br>
+ * 相互重叠的根包只会保留最外层的一个，整棵子树被排除的包在扫描时直接跳过，不会再列出其目录 <br>
+ * 规则以 <code>.</code> 分隔包名的每一段，<code>*</code> 匹配一段中的任意字符，<code>**</code> 匹配任意多段，<br>
+ * 以 <code>*.</code> 开头的规则可以匹配任意层级，例如 <code>*.dto</code> 会排除所有名为 dto 的包及其子包
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class PackageTrie {
+
+    private static final String ANY_SEGMENTS = "**";
+
+    /**
+     * 根包组成的前缀树
+     */
+    private final Node roots = new Node();
+
+    /**
+     * 没有通配符的排除规则组成的前缀树
+     */
+    private final Node excludes = new Node();
+
+    /**
+     * 没有通配符的包含规则组成的前缀树
+     */
+    private final Node includes = new Node();
+
+    /**
+     * 含有通配符的排除规则
+     */
+    private final List<Pattern[]> excludePatterns = new ArrayList<>();
+
+    /**
+     * 含有通配符的包含规则
+     */
+    private final List<Pattern[]> includePatterns = new ArrayList<>();
+
+    private boolean hasIncludes = false;
+
+    private PackageTrie() {
+    }
+
+    /**
+     * 只有根包，没有包含和排除规则
+     *
+     * @param packageNames 根包
+     * @return {@link PackageTrie }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static PackageTrie of(String... packageNames) {
+        return compile(Arrays.asList(packageNames), Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * 编译扫描根包以及包含、排除规则
+     *
+     * @param packageNames 根包
+     * @param includes     包含规则，为空时不限制
+     * @param excludes     排除规则
+     * @return {@link PackageTrie }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static PackageTrie compile(Collection<String> packageNames, Collection<String> includes,
+            Collection<String> excludes) {
+        PackageTrie trie = new PackageTrie();
+        for (String packageName : packageNames) {
+            if (!ValidationUtil.isEmpty(packageName)) {
+                trie.roots.insert(split(packageName));
+            }
+        }
+        for (String include : includes) {
+            if (!ValidationUtil.isEmpty(include)) {
+                trie.hasIncludes = true;
+                trie.addRule(include, trie.includes, trie.includePatterns);
+            }
+        }
+        for (String exclude : excludes) {
+            if (!ValidationUtil.isEmpty(exclude)) {
+                trie.addRule(exclude, trie.excludes, trie.excludePatterns);
+            }
+        }
+        return trie;
+    }
+
+    /**
+     * 获取需要扫描的根包，被其他根包覆盖或者被排除的根包不会返回
+     *
+     * @return {@link List<String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public List<String> getRoots() {
+        List<String> rootNames = new ArrayList<>();
+        collectRoots(roots, new ArrayList<>(), rootNames);
+        return rootNames;
+    }
+
+    /**
+     * 扫描目录时判断子包是否需要跳过，调用方保证其父包都没有被跳过
+     *
+     * @param packageName 包名
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public boolean isPruned(String packageName) {
+        String[] segments = split(packageName);
+        return excludes.hasTerminalOnPath(segments) || matchesAny(excludePatterns, segments);
+    }
+
+    /**
+     * 判断包下的类是否需要加载：位于某个根包下，包及其父包都没有被排除，并且满足包含规则
+     *
+     * @param packageName 包名
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public boolean contains(String packageName) {
+        String[] segments = split(packageName);
+        if (!roots.hasTerminalOnPath(segments) || excludes.hasTerminalOnPath(segments)) {
+            return false;
+        }
+        // 通配符排除规则需要对每一级父包进行匹配
+        for (int length = 1; length <= segments.length; length++) {
+            if (matchesAny(excludePatterns, Arrays.copyOf(segments, length))) {
+                return false;
+            }
+        }
+        return isIncluded(segments);
+    }
+
+    /**
+     * 判断包下的类是否满足包含规则，扫描目录时父包已经检查过排除规则，只需要检查包含规则
+     *
+     * @param packageName 包名
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public boolean isIncluded(String packageName) {
+        return isIncluded(split(packageName));
+    }
+
+    private boolean isIncluded(String[] segments) {
+        if (!hasIncludes) {
+            return true;
+        }
+        // 包含规则同样作用于子包
+        if (includes.hasTerminalOnPath(segments)) {
+            return true;
+        }
+        for (int length = 1; length <= segments.length; length++) {
+            if (matchesAny(includePatterns, Arrays.copyOf(segments, length))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addRule(String rule, Node literals, List<Pattern[]> patterns) {
+        if (rule.indexOf('*') < 0) {
+            literals.insert(split(rule));
+            return;
+        }
+        String[] segments = split(rule);
+        // *.dto 表示任意层级下的 dto 包
+        if (segments.length > 1 && "*".equals(segments[0])) {
+            segments[0] = ANY_SEGMENTS;
+        }
+        Pattern[] pattern = new Pattern[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            // ** 用 null 表示，其余每段编译成正则，* 匹配段内的任意字符
+            pattern[i] = ANY_SEGMENTS.equals(segments[i]) ? null
+                    : Pattern.compile(Pattern.quote(segments[i]).replace("*", "\\E[^.]*\\Q"));
+        }
+        patterns.add(pattern);
+    }
+
+    private void collectRoots(Node node, List<String> path, List<String> rootNames) {
+        String[] segments = path.toArray(new String[0]);
+        if (excludes.hasTerminalOnPath(segments) || matchesAny(excludePatterns, segments)) {
+            return;
+        }
+        if (node.terminal) {
+            // 子节点上的根包已经被当前根包覆盖
+            rootNames.add(String.join(".", path));
+            return;
+        }
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            path.add(child.getKey());
+            collectRoots(child.getValue(), path, rootNames);
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private static boolean matchesAny(List<Pattern[]> patterns, String[] segments) {
+        for (Pattern[] pattern : patterns) {
+            if (matches(pattern, 0, segments, 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 逐段匹配包名，<code>**</code> 可以匹配零到多段
+     */
+    private static boolean matches(Pattern[] pattern, int patternIndex, String[] segments, int segmentIndex) {
+        if (patternIndex == pattern.length) {
+            return segmentIndex == segments.length;
+        }
+        if (null == pattern[patternIndex]) {
+            for (int i = segmentIndex; i <= segments.length; i++) {
+                if (matches(pattern, patternIndex + 1, segments, i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return segmentIndex < segments.length
+                && pattern[patternIndex].matcher(segments[segmentIndex]).matches()
+                && matches(pattern, patternIndex + 1, segments, segmentIndex + 1);
+    }
+
+    private static String[] split(String packageName) {
+        String trimmed = packageName.trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\.");
+    }
+
+    /**
+     * 前缀树节点，每个节点对应包名中的一段
+     */
+    private static class Node {
+
+        private final Map<String, Node> children = new TreeMap<>();
+
+        /**
+         * 是否有规则（或根包）在该节点结束
+         */
+        private boolean terminal;
+
+        private void insert(String[] segments) {
+            Node node = this;
+            for (String segment : segments) {
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            node.terminal = true;
+        }
+
+        /**
+         * 包名或其任意一级父包上是否有规则结束
+         */
+        private boolean hasTerminalOnPath(String[] segments) {
+            Node node = this;
+            for (String segment : segments) {
+                node = node.children.get(segment);
+                if (null == node) {
+                    return false;
+                }
+                if (node.terminal) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
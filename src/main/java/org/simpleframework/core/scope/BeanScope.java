@@ -0,0 +1,37 @@
+package org.simpleframework.core.scope;
+
+import java.util.function.Supplier;
+
+/**
+ * BeanScope
+ * <br>
+ * 作用域，管理非单例 bean 的实例
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public interface BeanScope {
+
+    /**
+     * 获取作用域中的实例，不存在时通过 factory 创建
+     *
+     * @param beanClass bean 的 class 对象
+     * @param factory   创建实例的工厂，创建的实例已经完成织入和注入
+     * @return {@link Object }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    Object get(Class<?> beanClass, Supplier<Object> factory);
+
+    /**
+     * 一次方法调用结束后释放实例
+     *
+     * @param beanClass bean 的 class 对象
+     * @param bean      get 返回的实例
+     * @author chenz
+     * @date 2026/10/18
+     */
+    default void release(Class<?> beanClass, Object bean) {
+    }
+}
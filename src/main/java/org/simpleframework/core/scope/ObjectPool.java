@@ -0,0 +1,92 @@
+package org.simpleframework.core.scope;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * ObjectPool
+ * <br>
+ * 有界的无锁对象池，空闲实例放在固定数量的槽位中，借出和归还都只通过 CAS 修改槽位 <br>
+ * 每个线程从自己的槽位开始查找，线程数不超过槽位数时大多数情况下不会和其他线程竞争同一个槽位 <br>
+ * 池中没有空闲实例时直接创建新的实例，归还时槽位已满则丢弃，池中的实例数不会超过槽位数
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class ObjectPool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+
+    private final Supplier<T> factory;
+
+    public ObjectPool(int capacity, Supplier<T> factory) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity of object pool must be positive: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.factory = factory;
+    }
+
+    /**
+     * 借出实例，池中没有空闲实例时创建新的实例
+     *
+     * @return {@link T }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public T borrow() {
+        int length = slots.length();
+        int start = probe();
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            T object = slots.get(index);
+            if (null != object && slots.compareAndSet(index, object, null)) {
+                return object;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * 归还实例，池已满时丢弃
+     *
+     * @param object 借出的实例
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void giveBack(T object) {
+        int length = slots.length();
+        int start = probe();
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            if (null == slots.get(index) && slots.compareAndSet(index, null, object)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 空闲实例的数量
+     *
+     * @return int
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public int idleCount() {
+        int count = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (null != slots.get(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 线程查找槽位的起点，同一个线程借出和归还使用同一个槽位
+     */
+    private int probe() {
+        return (int) (Thread.currentThread().getId() % slots.length());
+    }
+}
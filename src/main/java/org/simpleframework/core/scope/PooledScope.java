@@ -0,0 +1,52 @@
+package org.simpleframework.core.scope;
+
+import org.simpleframework.core.annotation.Scope;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * PooledScope
+ * <br>
+ * 对象池作用域，每个 bean 一个对象池，调用方法时借出实例，调用结束后归还
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class PooledScope implements BeanScope {
+
+    private final Map<Class<?>, ObjectPool<Object>> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(Class<?> beanClass, Supplier<Object> factory) {
+        return getPool(beanClass, factory).borrow();
+    }
+
+    @Override
+    public void release(Class<?> beanClass, Object bean) {
+        ObjectPool<Object> pool = pools.get(beanClass);
+        if (null != pool) {
+            pool.giveBack(bean);
+        }
+    }
+
+    /**
+     * 获取 bean 的对象池，第一次获取时创建
+     *
+     * @param beanClass bean 的 class 对象
+     * @param factory   池中没有空闲实例时创建实例的工厂
+     * @return {@link ObjectPool<Object> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    ObjectPool<Object> getPool(Class<?> beanClass, Supplier<Object> factory) {
+        ObjectPool<Object> pool = pools.get(beanClass);
+        if (null != pool) {
+            return pool;
+        }
+        Scope scope = beanClass.getAnnotation(Scope.class);
+        return pools.computeIfAbsent(beanClass, key -> new ObjectPool<>(null == scope ? 16 : scope.poolSize(), factory));
+    }
+}
@@ -0,0 +1,20 @@
+package org.simpleframework.core.scope;
+
+import java.util.function.Supplier;
+
+/**
+ * PrototypeScope
+ * <br>
+ * 原型作用域，每次都创建新的实例
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class PrototypeScope implements BeanScope {
+
+    @Override
+    public Object get(Class<?> beanClass, Supplier<Object> factory) {
+        return factory.get();
+    }
+}
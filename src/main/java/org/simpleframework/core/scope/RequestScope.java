@@ -0,0 +1,55 @@
+package org.simpleframework.core.scope;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * RequestScope
+ * <br>
+ * 请求作用域，DispatcherServlet 在处理请求前后调用 begin、end，同一个请求中获取到的是同一个实例 <br>
+ * 请求在一个线程中处理，实例只被该线程访问
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class RequestScope implements BeanScope {
+
+    private static final ThreadLocal<Map<Class<?>, Object>> REQUEST_BEANS = new ThreadLocal<>();
+
+    /**
+     * 开始处理请求
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static void begin() {
+        REQUEST_BEANS.set(new HashMap<>());
+    }
+
+    /**
+     * 请求处理结束，丢弃请求中创建的实例
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static void end() {
+        REQUEST_BEANS.remove();
+    }
+
+    @Override
+    public Object get(Class<?> beanClass, Supplier<Object> factory) {
+        Map<Class<?>, Object> beanMap = REQUEST_BEANS.get();
+        if (null == beanMap) {
+            throw new IllegalStateException("no request is being processed by current thread, unable to get "
+                    + "request scoped bean " + beanClass.getName());
+        }
+        Object bean = beanMap.get(beanClass);
+        if (null == bean) {
+            bean = factory.get();
+            beanMap.put(beanClass, bean);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,38 @@
+package org.simpleframework.core.scope;
+
+/**
+ * ScopeType
+ * <br>
+ * bean 的作用域类型
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public enum ScopeType {
+
+    /**
+     * 容器中只有一个实例
+     */
+    SINGLETON,
+
+    /**
+     * 每次调用方法时创建新的实例
+     */
+    PROTOTYPE,
+
+    /**
+     * 每个线程一个实例
+     */
+    THREAD,
+
+    /**
+     * 每个请求一个实例，请求结束时丢弃
+     */
+    REQUEST,
+
+    /**
+     * 调用方法时从对象池中借出实例，调用结束后归还，同一时刻一个实例只会被一个线程使用
+     */
+    POOLED
+}
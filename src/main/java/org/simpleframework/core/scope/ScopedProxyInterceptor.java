@@ -0,0 +1,43 @@
+package org.simpleframework.core.scope;
+
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * ScopedProxyInterceptor
+ * <br>
+ * 作用域代理的方法拦截器，每次调用方法时从作用域中获取实例，在实例上调用后再释放 <br>
+ * 代理对象自身的成员变量不会被使用
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class ScopedProxyInterceptor implements MethodInterceptor {
+
+    private final Class<?> beanClass;
+
+    private final BeanScope beanScope;
+
+    private final Supplier<Object> factory;
+
+    public ScopedProxyInterceptor(Class<?> beanClass, BeanScope beanScope, Supplier<Object> factory) {
+        this.beanClass = beanClass;
+        this.beanScope = beanScope;
+        this.factory = factory;
+    }
+
+    @Override
+    public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+        Object bean = beanScope.get(beanClass, factory);
+        try {
+            // 实例可能是织入后的代理，通过 invoke 调用时仍然会经过切面
+            return methodProxy.invoke(bean, args);
+        } finally {
+            beanScope.release(beanClass, bean);
+        }
+    }
+}
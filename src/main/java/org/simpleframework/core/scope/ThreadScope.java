@@ -0,0 +1,31 @@
+package org.simpleframework.core.scope;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * ThreadScope
+ * <br>
+ * 线程作用域，每个线程一个实例，实例只被所在的线程访问，不需要加锁 <br>
+ * 实例随线程一直存在，适合线程数固定的线程池
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class ThreadScope implements BeanScope {
+
+    private final ThreadLocal<Map<Class<?>, Object>> beans = ThreadLocal.withInitial(HashMap::new);
+
+    @Override
+    public Object get(Class<?> beanClass, Supplier<Object> factory) {
+        Map<Class<?>, Object> beanMap = beans.get();
+        Object bean = beanMap.get(beanClass);
+        if (null == bean) {
+            bean = factory.get();
+            beanMap.put(beanClass, bean);
+        }
+        return bean;
+    }
+}
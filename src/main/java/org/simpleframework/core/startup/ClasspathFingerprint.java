@@ -0,0 +1,138 @@
+package org.simpleframework.core.startup;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ClasspathFingerprint
+ * <br>
+ * 根据 classpath 中每个条目的路径、大小和修改时间计算指纹 <br>
+ * jar 包只读取文件属性，目录会遍历其中的所有文件（只读取属性，不读取内容），任何 class 或资源的变化都会改变指纹
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ClasspathFingerprint {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * 计算类加载器以及 java.class.path 中所有条目的指纹
+     *
+     * @param classLoader 类加载器
+     * @param extra       影响启动结果的其他信息，例如扫描的包以及包含、排除规则
+     * @return {@link String }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static String compute(ClassLoader classLoader, String extra) {
+        MessageDigest digest = newDigest();
+        update(digest, extra);
+        for (File entry : collectEntries(classLoader)) {
+            update(digest, entry.getAbsolutePath());
+            if (entry.isDirectory()) {
+                updateDirectory(digest, entry.toPath());
+            } else {
+                update(digest, entry.length() + ":" + entry.lastModified());
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 收集 classpath 条目，父类加载器的条目在前
+     */
+    private static Set<File> collectEntries(ClassLoader classLoader) {
+        Set<File> entries = new LinkedHashSet<>();
+        String classPath = System.getProperty("java.class.path", "");
+        for (String path : classPath.split(File.pathSeparator)) {
+            if (!path.isEmpty()) {
+                entries.add(new File(path));
+            }
+        }
+        Set<File> loaderEntries = new LinkedHashSet<>();
+        for (ClassLoader loader = classLoader; null != loader; loader = loader.getParent()) {
+            if (loader instanceof URLClassLoader) {
+                Set<File> current = new LinkedHashSet<>();
+                for (URL url : ((URLClassLoader) loader).getURLs()) {
+                    if ("file".equalsIgnoreCase(url.getProtocol())) {
+                        try {
+                            current.add(new File(url.toURI()));
+                        } catch (URISyntaxException | IllegalArgumentException e) {
+                            current.add(new File(url.getPath()));
+                        }
+                    }
+                }
+                current.addAll(loaderEntries);
+                loaderEntries = current;
+            }
+        }
+        entries.addAll(loaderEntries);
+        return entries;
+    }
+
+    private static void updateDirectory(MessageDigest digest, Path directory) {
+        // 遍历顺序与文件系统有关，排序后再计算
+        Set<String> files = new TreeSet<>();
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    files.add(directory.relativize(file) + ":" + attributes.size() + ":"
+                            + attributes.lastModifiedTime().toMillis());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            // 无法遍历时使用随机值，保证不会使用过期的快照
+            log.warn("unable to walk classpath directory {}", directory, e);
+            files.add(String.valueOf(System.nanoTime()));
+        }
+        for (String file : files) {
+            update(digest, file);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
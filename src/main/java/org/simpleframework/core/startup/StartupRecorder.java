@@ -0,0 +1,154 @@
+package org.simpleframework.core.startup;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * StartupRecorder
+ * <br>
+ * 启动耗时记录器，记录每个阶段、扫描的包、实例化的 bean、织入的代理以及注册的路由的耗时 <br>
+ * 由 DispatcherServlet 在初始化开始时创建并在结束时生成报告，其余位置通过 {@link #current()} 获取，
+ * 没有开始记录时返回的记录器不会记录任何信息 <br>
+ * 并行扫描时工作线程也会记录步骤，因此步骤保存在并发队列中
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class StartupRecorder {
+
+    public static final String PHASE = "phase";
+    public static final String PACKAGE = "package";
+    public static final String BEAN = "bean";
+    public static final String POINTCUT = "pointcut";
+    public static final String PROXY = "proxy";
+    public static final String ROUTE = "route";
+
+    private static final StartupRecorder DISABLED = new StartupRecorder(false);
+
+    /**
+     * 当前正在记录的记录器
+     */
+    private static volatile StartupRecorder current = DISABLED;
+
+    private final boolean enabled;
+
+    private final long startNanos;
+
+    private final Queue<StartupStep> steps = new ConcurrentLinkedQueue<>();
+
+    private StartupRecorder(boolean enabled) {
+        this.enabled = enabled;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 开始记录，之后通过 {@link #current()} 获取的都是新创建的记录器
+     *
+     * @return {@link StartupRecorder }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static StartupRecorder start() {
+        StartupRecorder recorder = new StartupRecorder(true);
+        current = recorder;
+        return recorder;
+    }
+
+    /**
+     * 获取当前的记录器
+     *
+     * @return {@link StartupRecorder }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static StartupRecorder current() {
+        return current;
+    }
+
+    /**
+     * 开始一个步骤
+     *
+     * @param category 步骤类别
+     * @param name     步骤名称
+     * @return {@link StartupStep }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public StartupStep step(String category, String name) {
+        if (!enabled) {
+            return StartupStep.DISABLED;
+        }
+        return new StartupStep(this, category, name, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 在一个步骤中执行操作，不需要设置附加信息时使用
+     *
+     * @param category 步骤类别
+     * @param name     步骤名称
+     * @param action   操作
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void run(String category, String name, Runnable action) {
+        StartupStep step = step(category, name);
+        try {
+            action.run();
+        } finally {
+            step.end();
+        }
+    }
+
+    /**
+     * 在一个步骤中执行操作并返回结果，不需要设置附加信息时使用
+     *
+     * @param category 步骤类别
+     * @param name     步骤名称
+     * @param action   操作
+     * @return {@link T }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public <T> T call(String category, String name, Supplier<T> action) {
+        StartupStep step = step(category, name);
+        try {
+            return action.get();
+        } finally {
+            step.end();
+        }
+    }
+
+    /**
+     * 结束记录并生成报告
+     *
+     * @return {@link StartupReport }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public StartupReport finish() {
+        long totalNanos = System.nanoTime() - startNanos;
+        if (current == this) {
+            current = DISABLED;
+        }
+        return new StartupReport(totalNanos, new ArrayList<>(steps));
+    }
+
+    void end(StartupStep step) {
+        step.setDurationNanos(System.nanoTime() - startNanos - step.getOffsetNanos());
+        steps.add(step);
+    }
+
+    /**
+     * 是否正在记录
+     *
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
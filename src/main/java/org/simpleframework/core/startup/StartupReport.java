@@ -0,0 +1,98 @@
+package org.simpleframework.core.startup;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * StartupReport
+ * <br>
+ * 启动耗时报告，按类别分组，每组内按开始时间排序，可以输出为 json 或一行摘要
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+public class StartupReport {
+
+    private final long totalNanos;
+
+    private final List<StartupStep> phases;
+
+    private final List<StartupStep> packages;
+
+    private final List<StartupStep> beans;
+
+    private final List<StartupStep> pointcuts;
+
+    private final List<StartupStep> proxies;
+
+    private final List<StartupStep> routes;
+
+    StartupReport(long totalNanos, List<StartupStep> steps) {
+        this.totalNanos = totalNanos;
+        steps.sort(Comparator.comparingLong(StartupStep::getOffsetNanos));
+        this.phases = filter(steps, StartupRecorder.PHASE);
+        this.packages = filter(steps, StartupRecorder.PACKAGE);
+        this.beans = filter(steps, StartupRecorder.BEAN);
+        this.pointcuts = filter(steps, StartupRecorder.POINTCUT);
+        this.proxies = filter(steps, StartupRecorder.PROXY);
+        this.routes = filter(steps, StartupRecorder.ROUTE);
+    }
+
+    /**
+     * 输出为 json
+     *
+     * @return {@link String }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public String toJson() {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        return gson.toJson(this);
+    }
+
+    /**
+     * 一行摘要，包括总耗时、各阶段耗时以及包、bean、代理和路由的数量
+     *
+     * @return {@link String }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public String summary() {
+        StringBuilder builder = new StringBuilder("started in ").append(toMillis(totalNanos)).append(" ms [");
+        for (int i = 0; i < phases.size(); i++) {
+            StartupStep phase = phases.get(i);
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(phase.getName()).append(' ').append(toMillis(phase.getDurationNanos())).append(" ms");
+        }
+        return builder.append("] packages=").append(packages.size())
+                .append(" beans=").append(beans.size())
+                .append(" pointcuts=").append(pointcuts.size())
+                .append(" proxies=").append(proxies.size())
+                .append(" routes=").append(routes.size())
+                .toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static List<StartupStep> filter(List<StartupStep> steps, String category) {
+        List<StartupStep> result = new ArrayList<>();
+        for (StartupStep step : steps) {
+            if (category.equals(step.getCategory())) {
+                result.add(step);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,344 @@
+package org.simpleframework.core.startup;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * StartupSnapshot
+ * <br>
+ * 启动快照，保存扫描到的 bean 类、切面与类的粗筛结果以及路由表 <br>
+ * 快照以 classpath 指纹为键，指纹一致时直接回放快照中的结果，不再扫描、匹配切点和遍历 controller 方法；
+ * 指纹不一致或者快照不存在时正常启动并记录结果，初始化结束后写入文件 <br>
+ * 与 {@link StartupRecorder} 一样，由 DispatcherServlet 打开和关闭，其余位置通过 {@link #current()} 获取
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Slf4j
+public class StartupSnapshot {
+
+    private static final StartupSnapshot DISABLED = new StartupSnapshot();
+
+    /**
+     * 当前使用的快照
+     */
+    private static volatile StartupSnapshot current = DISABLED;
+
+    /**
+     * classpath 指纹
+     */
+    private String fingerprint;
+
+    /**
+     * bean 类名
+     */
+    private List<String> beanClasses;
+
+    /**
+     * 被代理的类名与粗筛匹配的切面类名
+     */
+    private Map<String, List<String>> aspectMatches = new TreeMap<>();
+
+    /**
+     * 路由表
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * 快照文件
+     */
+    private transient Path path;
+
+    /**
+     * 是否配置了快照文件
+     */
+    private transient boolean enabled;
+
+    /**
+     * 是否正在回放快照
+     */
+    private transient boolean replaying;
+
+    /**
+     * 回放失败时标记为过期，关闭时删除快照文件
+     */
+    private transient boolean stale;
+
+    private StartupSnapshot() {
+    }
+
+    /**
+     * 打开快照，指纹一致时回放，否则开始记录
+     *
+     * @param path        快照文件
+     * @param fingerprint classpath 指纹
+     * @return {@link StartupSnapshot }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static StartupSnapshot open(Path path, String fingerprint) {
+        StartupSnapshot snapshot = read(path);
+        if (null == snapshot || !fingerprint.equals(snapshot.fingerprint) || null == snapshot.beanClasses) {
+            snapshot = new StartupSnapshot();
+            snapshot.fingerprint = fingerprint;
+        } else {
+            snapshot.replaying = true;
+            log.info("classpath is unchanged, replay startup snapshot {}", path);
+        }
+        snapshot.path = path;
+        snapshot.enabled = true;
+        current = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * 获取当前的快照，没有打开快照时返回的快照既不会回放也不会记录
+     *
+     * @return {@link StartupSnapshot }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static StartupSnapshot current() {
+        return current;
+    }
+
+    /**
+     * 是否正在回放快照
+     *
+     * @return boolean
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public boolean isReplaying() {
+        return replaying;
+    }
+
+    /**
+     * 获取 bean 类名
+     *
+     * @return {@link List<String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public List<String> getBeanClasses() {
+        return null == beanClasses ? Collections.emptyList() : Collections.unmodifiableList(beanClasses);
+    }
+
+    /**
+     * 记录 bean 类
+     *
+     * @param classSet bean 类
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void recordBeanClasses(Collection<Class<?>> classSet) {
+        if (!isRecording()) {
+            return;
+        }
+        List<String> classNames = new ArrayList<>();
+        for (Class<?> clazz : classSet) {
+            classNames.add(clazz.getName());
+        }
+        Collections.sort(classNames);
+        this.beanClasses = classNames;
+    }
+
+    /**
+     * 获取类粗筛匹配的切面类名
+     *
+     * @param targetClass 目标类
+     * @return {@link List<String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public List<String> getAspectMatches(Class<?> targetClass) {
+        List<String> aspectClasses = aspectMatches.get(targetClass.getName());
+        return null == aspectClasses ? Collections.emptyList() : Collections.unmodifiableList(aspectClasses);
+    }
+
+    /**
+     * 记录类粗筛匹配的切面类，没有匹配任何切面时不记录，并行创建 bean 时会在多个线程中调用
+     *
+     * @param targetClass   目标类
+     * @param aspectClasses 切面类
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public synchronized void recordAspectMatches(Class<?> targetClass, Collection<Class<?>> aspectClasses) {
+        if (!isRecording() || aspectClasses.isEmpty()) {
+            return;
+        }
+        List<String> classNames = new ArrayList<>();
+        for (Class<?> aspectClass : aspectClasses) {
+            classNames.add(aspectClass.getName());
+        }
+        aspectMatches.put(targetClass.getName(), classNames);
+    }
+
+    /**
+     * 获取路由表
+     *
+     * @return {@link List<Route> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public List<Route> getRoutes() {
+        return Collections.unmodifiableList(routes);
+    }
+
+    /**
+     * 记录路由
+     *
+     * @param route 路由
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void recordRoute(Route route) {
+        if (isRecording()) {
+            routes.add(route);
+        }
+    }
+
+    /**
+     * 快照与当前的类不一致（例如类被删除）时调用，之后的步骤不再回放，关闭时删除快照文件
+     *
+     * @param reason 原因
+     * @param e      异常
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void invalidate(String reason, Exception e) {
+        if (!enabled) {
+            return;
+        }
+        log.warn("startup snapshot {} is stale: {}", path, reason, e);
+        replaying = false;
+        stale = true;
+    }
+
+    /**
+     * 结束使用快照，记录的快照写入文件
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        if (current == this) {
+            current = DISABLED;
+        }
+        try {
+            if (stale) {
+                Files.deleteIfExists(path);
+            } else if (!replaying) {
+                if (null != path.getParent()) {
+                    Files.createDirectories(path.getParent());
+                }
+                Files.write(path, new Gson().toJson(this).getBytes(StandardCharsets.UTF_8));
+                log.info("startup snapshot has been written to {}", path.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            log.warn("unable to write startup snapshot to {}", path, e);
+        }
+    }
+
+    /**
+     * 启动失败时放弃快照：不再作为当前的快照，记录了一部分的快照不会写入文件，过期的快照文件仍然删除
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void discard() {
+        if (!enabled) {
+            return;
+        }
+        if (current == this) {
+            current = DISABLED;
+        }
+        replaying = false;
+        if (stale) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("unable to delete startup snapshot {}", path, e);
+            }
+        }
+        log.info("startup failed, startup snapshot {} is discarded", path);
+    }
+
+    private boolean isRecording() {
+        return enabled && !replaying && !stale;
+    }
+
+    private static StartupSnapshot read(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            String json = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            return new Gson().fromJson(json, StartupSnapshot.class);
+        } catch (IOException | JsonParseException e) {
+            log.warn("unable to read startup snapshot {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Route
+     * <br>
+     * 路由表中的一项
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+
+        /**
+         * http 请求方法
+         */
+        private String httpMethod;
+
+        /**
+         * http 请求路径
+         */
+        private String httpPath;
+
+        /**
+         * controller 类名
+         */
+        private String controllerClass;
+
+        /**
+         * 方法名
+         */
+        private String methodName;
+
+        /**
+         * 方法参数类型名
+         */
+        private List<String> parameterTypes;
+
+        /**
+         * 请求参数名，与方法参数一一对应
+         */
+        private List<String> parameterNames;
+    }
+}
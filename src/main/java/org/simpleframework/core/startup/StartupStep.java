@@ -0,0 +1,98 @@
+package org.simpleframework.core.startup;
+
+import lombok.Getter;
+
+/**
+ * StartupStep
+ * <br>
+ * 启动过程中的一个步骤，记录相对于启动开始的偏移和耗时（纳秒）<br>
+ * 实现了 AutoCloseable，可以配合 try-with-resources 使用
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+public class StartupStep implements AutoCloseable {
+
+    /**
+     * 未开启记录时使用的空步骤，结束时不会记录任何信息
+     */
+    static final StartupStep DISABLED = new StartupStep(null, null, null, 0L);
+
+    private final transient StartupRecorder recorder;
+
+    /**
+     * 步骤类别，例如 phase、package、bean
+     */
+    private final String category;
+
+    /**
+     * 步骤名称，例如阶段名、包名、类名
+     */
+    private final String name;
+
+    /**
+     * 相对于启动开始的偏移
+     */
+    private final long offsetNanos;
+
+    /**
+     * 耗时
+     */
+    private long durationNanos;
+
+    /**
+     * 附加信息
+     */
+    private String detail;
+
+    /**
+     * 执行该步骤的线程
+     */
+    private final String thread;
+
+    StartupStep(StartupRecorder recorder, String category, String name, long offsetNanos) {
+        this.recorder = recorder;
+        this.category = category;
+        this.name = name;
+        this.offsetNanos = offsetNanos;
+        this.thread = null == recorder ? null : Thread.currentThread().getName();
+    }
+
+    /**
+     * 设置附加信息
+     *
+     * @param detail 附加信息
+     * @return {@link StartupStep }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public StartupStep detail(Object detail) {
+        if (null != recorder) {
+            this.detail = String.valueOf(detail);
+        }
+        return this;
+    }
+
+    /**
+     * 结束步骤并记录耗时
+     *
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void end() {
+        if (null != recorder) {
+            recorder.end(this);
+        }
+    }
+
+    @Override
+    public void close() {
+        end();
+    }
+
+    void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+}
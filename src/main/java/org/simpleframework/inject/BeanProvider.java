@@ -0,0 +1,74 @@
+package org.simpleframework.inject;
+
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.util.ClassUtil;
+
+import java.lang.reflect.Type;
+
+/**
+ * BeanProvider
+ * <br>
+ * 从容器中延迟获取 bean 的 Provider，解析规则与直接注入时一致
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class BeanProvider<T> implements Provider<T> {
+
+    private final BeanContainer beanContainer;
+
+    private final Class<T> type;
+
+    /**
+     * 指定的 bean 名称，可以为空
+     */
+    private final String name;
+
+    /**
+     * 第一次获取后缓存的 bean，多个线程同时第一次获取时得到的是同一个 bean
+     */
+    private volatile T bean;
+
+    public BeanProvider(BeanContainer beanContainer, Class<T> type, String name) {
+        this.beanContainer = beanContainer;
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * 根据注入点的泛型类型创建 Provider
+     *
+     * @param beanContainer 容器
+     * @param genericType   注入点的泛型类型，例如 <code>Provider&lt;UserService&gt;</code>
+     * @param name          指定的 bean 名称，可以为空
+     * @return {@link BeanProvider }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static BeanProvider<?> of(BeanContainer beanContainer, Type genericType, String name) {
+        Class<?> type = ClassUtil.getTypeArgument(genericType, 0);
+        if (null != type) {
+            return new BeanProvider<>(beanContainer, type, name);
+        }
+        throw new RuntimeException("unable to inject " + genericType.getTypeName()
+                + ", the bean type of Provider must be declared");
+    }
+
+    @Override
+    public T get() {
+        T current = bean;
+        if (null != current) {
+            return current;
+        }
+        Class<?> beanClass = beanContainer.resolveBeanClass(type, name);
+        Object target = null == beanClass ? null : beanContainer.getBean(beanClass);
+        if (null == target) {
+            throw new RuntimeException("unable to provide relevant type, target class is:" + type.getName()
+                    + " autowiredValue:" + name);
+        }
+        current = type.cast(target);
+        bean = current;
+        return current;
+    }
+}
@@ -2,12 +2,12 @@ package org.simpleframework.inject;
 
 import lombok.extern.slf4j.Slf4j;
 import org.simpleframework.core.BeanContainer;
-import org.simpleframework.inject.annotation.Autowired;
-import org.simpleframework.util.ClassUtil;
+import org.simpleframework.core.BeanWiring;
 import org.simpleframework.util.ValidationUtil;
 
-import java.lang.reflect.Field;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DependencyInjector
@@ -24,12 +24,22 @@ public class DependencyInjector {
 
     private final BeanContainer beanContainer;
 
+    /**
+     * 每个类的注入计划
+     */
+    private final Map<Class<?>, InjectionPlan> injectionPlans = new ConcurrentHashMap<>();
+
     public DependencyInjector() {
         beanContainer = BeanContainer.getInstance();
     }
 
     @SuppressWarnings("all")
     public void doIOC() {
+        // 懒加载的 bean 在创建时再注入
+        beanContainer.addBeanPostProcessor((beanClass, bean) -> {
+            injectFields(beanClass, bean);
+            return bean;
+        });
         // 遍历 bean 容器中所有的 class 对象
         Set<Class<?>> classSet = beanContainer.getClasses();
         if (ValidationUtil.isEmpty(classSet)) {
@@ -37,82 +47,52 @@ public class DependencyInjector {
             return;
         }
         for (Class<?> clazz : classSet) {
-            // 遍历所有成员变量
-            Field[] fields = clazz.getDeclaredFields();
-            if (ValidationUtil.isEmpty(fields)) {
-                continue;
-            }
-            for (Field field : fields) {
-                // 找出 Autowired 标记的变量
-                if (field.isAnnotationPresent(Autowired.class)) {
-                    Autowired autowired = field.getAnnotation(Autowired.class);
-                    String autowiredValue = autowired.value();
-                    // 获取成员变量的类型
-                    Class<?> fieldClass = field.getType();
-                    // 获取成员实例
-                    Object fieldInstance = getFieldInstance(fieldClass, autowiredValue);
-                    if (null == fieldInstance) {
-                        throw new RuntimeException("unable to inject relevant type, target fieldClass is:"
-                                + fieldClass.getName() + "autowiredValue:" + autowiredValue);
-                    }
-                    Object bean = beanContainer.getBean(clazz);
-                    ClassUtil.setField(field, bean, fieldInstance);
-                }
+            // 非单例 bean 的作用域代理不注入，由作用域中的实例创建时注入
+            if (!beanContainer.isScoped(clazz)) {
+                injectFields(clazz, beanContainer.getBean(clazz));
             }
         }
     }
 
     /**
-     * 获取属性实例
+     * 注入 bean 中被 Autowired 标记的成员变量，有编译期生成的装配代码时直接调用，否则按注入计划注入
      *
-     * @param fieldClass     属性类
-     * @param autowiredValue autowired的值
-     * @return {@link Object }
+     * @param clazz bean 的 class 对象
+     * @param bean  bean 对象
      * @author chenz
-     * @date 2021/09/21
+     * @date 2026/10/18
      */
-    private Object getFieldInstance(Class<?> fieldClass, String autowiredValue) {
-        Object fieldInstance = beanContainer.getBean(fieldClass);
-        if (null != fieldInstance) {
-            return fieldInstance;
-        }
-        Class<?> implementClass = getImplementClass(fieldClass, autowiredValue);
-        if (null == implementClass) {
-            return null;
+    private void injectFields(Class<?> clazz, Object bean) {
+        // 优先使用编译期生成的装配代码，装配代码无法直接赋值的成员变量仍然按注入计划注入
+        BeanWiring<Object> wiring = beanContainer.getWiring(clazz);
+        if (null != wiring) {
+            wiring.inject(bean, beanContainer);
+            if (wiring.isComplete()) {
+                return;
+            }
         }
-        return beanContainer.getBean(implementClass);
+        getInjectionPlan(clazz).inject(bean, beanContainer);
     }
 
     /**
-     * 获取实现类
+     * 获取类的注入计划，第一次获取时解析并缓存
      *
-     * @param fieldClass     属性类
-     * @param autowiredValue autowired的值
-     * @return {@link Class }
+     * @param clazz bean 的 class 对象
+     * @return {@link InjectionPlan }
      * @author chenz
-     * @date 2021/09/21
+     * @date 2026/10/18
      */
-    @SuppressWarnings("all")
-    private Class<?> getImplementClass(Class<?> fieldClass, String autowiredValue) {
-        Set<Class<?>> classSet = beanContainer.getClassesBySuper(fieldClass);
-        if (ValidationUtil.isEmpty(classSet)) {
-            return null;
-        }
-        if (ValidationUtil.isEmpty(autowiredValue)) {
-            if (classSet.size() == 1) {
-                return classSet.iterator().next();
-            }
-            // 多个实现类且未指定就抛出异常
-            throw new RuntimeException("multiple implemented classes for " + fieldClass.getName()
-                    + ", please set @Autowired's value to pick one !");
-        }
-        // 寻找匹配的实现类并注入
-        for (Class<?> clazz : classSet) {
-            if (autowiredValue.equals(clazz.getSimpleName())) {
-                return clazz;
-            }
+    InjectionPlan getInjectionPlan(Class<?> clazz) {
+        InjectionPlan injectionPlan = injectionPlans.get(clazz);
+        if (null != injectionPlan) {
+            return injectionPlan;
         }
-        // 没找到匹配的实现类
-        return null;
+        // 解析目标 bean 时可能创建懒加载的 bean 并递归解析其注入计划，不能在 computeIfAbsent 中解析
+        // 有编译期生成的装配代码时只注入其无法直接赋值的成员变量，其余的成员变量已经由装配代码注入
+        BeanWiring<Object> wiring = beanContainer.getWiring(clazz);
+        injectionPlan = null == wiring ? InjectionPlan.compile(clazz, beanContainer)
+                : InjectionPlan.compile(clazz, beanContainer, field -> wiring.getReflectiveFields().contains(field.getName()));
+        InjectionPlan former = injectionPlans.putIfAbsent(clazz, injectionPlan);
+        return null == former ? injectionPlan : former;
     }
 }
@@ -0,0 +1,199 @@
+package org.simpleframework.inject;
+
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.inject.annotation.Autowired;
+import org.simpleframework.inject.annotation.Value;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * InjectionPlan
+ * <br>
+ * 一个类的注入计划，记录所有被 Autowired 标记的成员变量、注入的目标 bean 以及对应的 setter <br>
+ * 每个类只在第一次注入时解析一次，之后创建的实例（懒加载 bean 等）直接按计划注入，不再遍历成员变量、读取注解；
+ * setter 为 MethodHandle，创建时已经完成访问检查，注入时不再调用 setAccessible <br>
+ * 类型为 Provider 的成员变量注入的是 BeanProvider，目标 bean 在第一次 get 时才解析；
+ * 类型为 List、Map 的成员变量注入的是生成计划时所有该类型的 bean 组成的不可修改集合；
+ * 被 Value 标记的成员变量在每次注入时从容器当前的配置快照中读取，热加载之后创建的实例注入的是新的配置值，
+ * 快照中缓存了转换结果，同一个快照中的表达式只转换一次
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class InjectionPlan {
+
+    /**
+     * 统一 setter 的类型，注入时使用 invokeExact 调用
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final List<InjectionPoint> injectionPoints;
+
+    private InjectionPlan(List<InjectionPoint> injectionPoints) {
+        this.injectionPoints = injectionPoints;
+    }
+
+    /**
+     * 解析类中被 Autowired 标记的成员变量，生成注入计划
+     *
+     * @param clazz         bean 的 class 对象
+     * @param beanContainer 解析目标 bean 的容器
+     * @return {@link InjectionPlan }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static InjectionPlan compile(Class<?> clazz, BeanContainer beanContainer) {
+        return compile(clazz, beanContainer, field -> true);
+    }
+
+    /**
+     * 解析类中被 Autowired 标记的成员变量，只为满足条件的成员变量生成注入计划，
+     * 例如有编译期生成的装配代码时只需要注入其无法直接赋值的成员变量
+     *
+     * @param clazz         bean 的 class 对象
+     * @param beanContainer 解析目标 bean 的容器
+     * @param filter        需要注入的成员变量
+     * @return {@link InjectionPlan }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static InjectionPlan compile(Class<?> clazz, BeanContainer beanContainer, Predicate<Field> filter) {
+        List<InjectionPoint> injectionPoints = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (!filter.test(field)) {
+                continue;
+            }
+            // 配置值在注入时读取，生成计划时先解析一次，表达式或者类型转换有误时尽早失败
+            Value configValue = field.getAnnotation(Value.class);
+            if (null != configValue) {
+                beanContainer.getConfig().resolve(configValue.value(), field.getType());
+                injectionPoints.add(new InjectionPoint(field, null, null, configValue.value(), unreflectSetter(field)));
+                continue;
+            }
+            Autowired autowired = field.getAnnotation(Autowired.class);
+            if (null == autowired) {
+                continue;
+            }
+            // Provider 和集合在生成计划时解析一次，所有实例共用
+            Object value = beanContainer.resolveAggregateValue(field.getType(), field.getGenericType(), autowired.value());
+            if (null != value) {
+                injectionPoints.add(new InjectionPoint(field, null, value, null, unreflectSetter(field)));
+                continue;
+            }
+            Class<?> targetClass = beanContainer.resolveBeanClass(field.getType(), autowired.value());
+            if (null == targetClass) {
+                throw new RuntimeException("unable to inject relevant type, target fieldClass is:"
+                        + field.getType().getName() + "autowiredValue:" + autowired.value());
+            }
+            injectionPoints.add(new InjectionPoint(field, targetClass, null, null, unreflectSetter(field)));
+        }
+        return new InjectionPlan(injectionPoints.isEmpty() ? Collections.emptyList() : injectionPoints);
+    }
+
+    /**
+     * 获取成员变量的 setter，并统一为 (Object, Object)void 的类型
+     *
+     * @param field 成员变量
+     * @return {@link MethodHandle }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static MethodHandle unreflectSetter(Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            // 静态变量的 setter 没有目标对象参数
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return setter.asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("unable to access field " + field, e);
+        }
+    }
+
+    /**
+     * 按计划注入 bean
+     *
+     * @param bean          bean 对象
+     * @param beanContainer 获取目标 bean 的容器
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void inject(Object bean, BeanContainer beanContainer) {
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            Object target;
+            if (null != injectionPoint.expression) {
+                target = beanContainer.getConfig().resolve(injectionPoint.expression, injectionPoint.field.getType());
+            } else {
+                target = null == injectionPoint.targetClass ? injectionPoint.value
+                        : beanContainer.getBean(injectionPoint.targetClass);
+            }
+            if (null == target && null != injectionPoint.targetClass) {
+                throw new RuntimeException("unable to inject relevant type, target bean "
+                        + injectionPoint.targetClass.getName() + " has been removed");
+            }
+            try {
+                injectionPoint.setter.invokeExact(bean, target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException("unable to inject field " + injectionPoint.field, e);
+            }
+        }
+    }
+
+    /**
+     * 需要注入的成员变量数量
+     *
+     * @return int
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public int size() {
+        return injectionPoints.size();
+    }
+
+    /**
+     * 注入点，一个被 Autowired 标记的成员变量
+     */
+    private static class InjectionPoint {
+
+        private final Field field;
+
+        /**
+         * 注入的目标 bean 的 class 对象，注入 Provider、集合或配置值时为 null
+         */
+        private final Class<?> targetClass;
+
+        /**
+         * 注入的 Provider 或集合，注入 bean 或配置值时为 null
+         */
+        private final Object value;
+
+        /**
+         * 配置值的 <code>key:default</code> 表达式，不是配置值时为 null
+         */
+        private final String expression;
+
+        private final MethodHandle setter;
+
+        private InjectionPoint(Field field, Class<?> targetClass, Object value, String expression,
+                MethodHandle setter) {
+            this.field = field;
+            this.targetClass = targetClass;
+            this.value = value;
+            this.expression = expression;
+            this.setter = setter;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.simpleframework.inject;
+
+/**
+ * Provider
+ * <br>
+ * 延迟获取 bean 的注入点，注入时不要求目标 bean 已经存在，第一次调用 get 时才解析并获取，之后直接返回缓存的 bean <br>
+ * 只在少数路径上使用的重量级依赖不会在启动时被创建和织入，相互依赖的 bean 也可以通过它打破循环
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@FunctionalInterface
+public interface Provider<T> {
+
+    /**
+     * 获取 bean
+     *
+     * @return {@link T }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    T get();
+}
@@ -12,7 +12,7 @@ import java.lang.annotation.Target;
  * @version 1.0
  * @date 2021/9/20
  */
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.CONSTRUCTOR, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Autowired {
     String value() default "";
@@ -0,0 +1,22 @@
+package org.simpleframework.inject.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Value
+ * <br>
+ * 注入配置值，格式为 <code>key:default</code>，没有默认值且配置不存在时注入失败 <br>
+ * 配置值在注入时按成员变量或构造方法参数的类型转换一次，之后直接读取成员变量即可
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Value {
+    String value();
+}
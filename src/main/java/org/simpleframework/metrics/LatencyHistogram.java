@@ -0,0 +1,156 @@
+package org.simpleframework.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram
+ * <br>
+ * 记录耗时（纳秒）的直方图，按 HdrHistogram 的方式分桶：小于 32 的值每个值一个桶，之后每个 2 的幂区间等分为 32 个桶，
+ * 相对误差不超过 1/32；超过 2^36 纳秒（约 68 秒）的值记录在最后一个桶中，占用的内存固定 <br>
+ * 记录时不加锁：按线程分散到多个条带，每个条带是一个 AtomicLongArray，只对对应的桶做一次原子自增；
+ * 读取时把各个条带相加成快照，快照不会阻塞记录 <br>
+ * 条带数为不小于 CPU 核数的 2 的幂，最多 8 个；每个条带 1024 个桶占用 8KB，每个直方图最多占用 64KB
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class LatencyHistogram {
+
+    /**
+     * 每个 2 的幂区间划分的桶数为 2^SUB_BUCKET_BITS
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * 可以区分的最大值的位数，更大的值记录在最后一个桶中
+     */
+    private static final int MAXIMUM_VALUE_BITS = 36;
+
+    static final long MAXIMUM_VALUE = (1L << MAXIMUM_VALUE_BITS) - 1;
+
+    static final int BUCKET_COUNT = bucketIndex(MAXIMUM_VALUE) + 1;
+
+    /**
+     * 条带数的上限，限制每个直方图占用的内存
+     */
+    private static final int MAXIMUM_STRIPE_COUNT = 8;
+
+    /**
+     * 条带数，为不小于 CPU 核数的 2 的幂，最多 MAXIMUM_STRIPE_COUNT 个
+     */
+    static final int STRIPE_COUNT = Math.min(MAXIMUM_STRIPE_COUNT,
+            ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * 黄金分割常数，用于打散线程 id
+     */
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    @Getter
+    private final String name;
+
+    private final AtomicLongArray[] stripes = new AtomicLongArray[STRIPE_COUNT];
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new AtomicLongArray(BUCKET_COUNT);
+        }
+    }
+
+    /**
+     * 记录一次耗时，负数按 0 记录，超过 MAXIMUM_VALUE 的值按 MAXIMUM_VALUE 记录
+     *
+     * @param nanos 耗时（纳秒）
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public void record(long nanos) {
+        // 先截断，总耗时和最大值与桶中记录的值保持一致，总耗时也不会溢出
+        long value = Math.min(Math.max(0, nanos), MAXIMUM_VALUE);
+        stripes[stripeIndex(Thread.currentThread().getId())].getAndIncrement(bucketIndex(value));
+        totalNanos.add(value);
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * 当前的统计结果，与正在进行的记录并发时，调用次数和分位数之间可能相差几次调用
+     *
+     * @return {@link LatencySnapshot }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += stripe.get(i);
+            }
+        }
+        return new LatencySnapshot(name, counts, totalNanos.sum(), maxNanos.get());
+    }
+
+    /**
+     * 线程对应的条带，线程 id 通常是连续的，乘以黄金分割常数后取高位，使各个线程均匀地分散到各个条带
+     *
+     * @param threadId 线程 id
+     * @return int
+     * @author chenz
+     * @date 2026/10/18
+     */
+    static int stripeIndex(long threadId) {
+        return (int) ((threadId * GOLDEN_RATIO) >>> 32) & (STRIPE_COUNT - 1);
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * 值所在的桶
+     *
+     * @param value 不超过 MAXIMUM_VALUE 的非负数
+     * @return int
+     * @author chenz
+     * @date 2026/10/18
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // 最高位为 2^(shift + SUB_BUCKET_BITS)，右移 shift 位后落在 [32, 64) 中
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * 桶中的最大值
+     *
+     * @param index 桶的下标
+     * @return long
+     * @author chenz
+     * @date 2026/10/18
+     */
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = SUB_BUCKET_COUNT + (index & (SUB_BUCKET_COUNT - 1));
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
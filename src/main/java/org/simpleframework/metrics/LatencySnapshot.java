@@ -0,0 +1,107 @@
+package org.simpleframework.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LatencySnapshot
+ * <br>
+ * LatencyHistogram 某一时刻的统计结果，耗时的单位均为纳秒，分位数为所在桶的最大值，相对误差不超过 1/32
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class LatencySnapshot {
+
+    @Getter
+    private final String name;
+
+    /**
+     * 每个桶的调用次数
+     */
+    private final long[] counts;
+
+    @Getter
+    private final long count;
+
+    @Getter
+    private final long totalNanos;
+
+    @Getter
+    private final long maxNanos;
+
+    LatencySnapshot(String name, long[] counts, long totalNanos, long maxNanos) {
+        this.name = name;
+        this.counts = counts;
+        long sum = 0;
+        for (long bucketCount : counts) {
+            sum += bucketCount;
+        }
+        this.count = sum;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * 分位数
+     *
+     * @param percentile 百分比，例如 99.9
+     * @return long，没有任何调用时返回 0
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        // 第 rank 次调用所在的桶，rank 从 1 开始
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // 桶的最大值可能超过实际记录到的最大值
+                return Math.min(LatencyHistogram.highestValueOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getP50() {
+        return getPercentile(50);
+    }
+
+    public long getP99() {
+        return getPercentile(99);
+    }
+
+    public long getP999() {
+        return getPercentile(99.9);
+    }
+
+    /**
+     * 平均耗时
+     *
+     * @return long，没有任何调用时返回 0
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    @Override
+    public String toString() {
+        return name + "{count=" + count + ", p50=" + toMicros(getP50()) + "us, p99=" + toMicros(getP99())
+                + "us, p999=" + toMicros(getP999()) + "us, max=" + toMicros(maxNanos) + "us}";
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,60 @@
+package org.simpleframework.metrics;
+
+import org.simpleframework.aop.annotation.Aspect;
+import org.simpleframework.aop.annotation.Order;
+import org.simpleframework.aop.aspect.DefaultAspect;
+import org.simpleframework.aop.aspect.Invocation;
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.inject.annotation.Autowired;
+import org.simpleframework.metrics.annotation.Timed;
+import org.simpleframework.util.ValidationUtil;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TimedAspect
+ * <br>
+ * 实现 Timed：在最外层记录整个调用的耗时，包括其他切面和命中缓存的调用 <br>
+ * 调用路径上只有两次 System.nanoTime 和直方图的一次原子自增，不加锁也不打印日志
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component("simpleframework.timedAspect")
+@Order(Integer.MIN_VALUE)
+@Aspect(pointcut = "execution(@org.simpleframework.metrics.annotation.Timed * *(..))")
+public class TimedAspect extends DefaultAspect {
+
+    @Autowired
+    private TimerRegistry timerRegistry;
+
+    /**
+     * 每个方法对应的直方图
+     */
+    private final Map<Method, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public Object around(Invocation invocation) throws Throwable {
+        LatencyHistogram histogram = histograms.get(invocation.getMethod());
+        if (null == histogram) {
+            histogram = histograms.computeIfAbsent(invocation.getMethod(), this::createHistogram);
+        }
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    private LatencyHistogram createHistogram(Method method) {
+        Timed timed = method.getAnnotation(Timed.class);
+        String name = ValidationUtil.isEmpty(timed.value())
+                ? method.getDeclaringClass().getName() + "." + method.getName()
+                : timed.value();
+        return timerRegistry.getOrCreate(name);
+    }
+}
@@ -0,0 +1,74 @@
+package org.simpleframework.metrics;
+
+import org.simpleframework.core.annotation.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TimerRegistry
+ * <br>
+ * 按名称管理 Timed 创建的直方图，使用了 Timed 时由 AspectWeaver 注册到容器中，
+ * 可以注入后获取各个方法的调用次数和 p50、p99、p999 耗时；bean 的名称带有框架的前缀，不会与用户的同名类冲突
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component("simpleframework.timerRegistry")
+public class TimerRegistry {
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * 获取直方图，不存在时创建
+     *
+     * @param name 计时器的名称
+     * @return {@link LatencyHistogram }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public LatencyHistogram getOrCreate(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * 获取计时器的统计结果
+     *
+     * @param name 计时器的名称
+     * @return {@link LatencySnapshot }，还没有被调用过时返回 null
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public LatencySnapshot getSnapshot(String name) {
+        LatencyHistogram histogram = histograms.get(name);
+        return null == histogram ? null : histogram.snapshot();
+    }
+
+    /**
+     * 所有计时器的名称
+     *
+     * @return {@link Set<String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Set<String> getTimerNames() {
+        return Collections.unmodifiableSet(histograms.keySet());
+    }
+
+    /**
+     * 所有计时器的统计结果，按名称排序
+     *
+     * @return {@link Map<String, LatencySnapshot> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public Map<String, LatencySnapshot> snapshots() {
+        Map<String, LatencySnapshot> snapshots = new LinkedHashMap<>();
+        histograms.keySet().stream().sorted().forEach(name -> snapshots.put(name, histograms.get(name).snapshot()));
+        return snapshots;
+    }
+}
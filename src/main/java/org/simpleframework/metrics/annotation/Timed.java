@@ -0,0 +1,26 @@
+package org.simpleframework.metrics.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Timed
+ * <br>
+ * 记录方法每次调用的耗时，包括抛出异常的调用，可以从 TimerRegistry 中获取调用次数和耗时的分位数 <br>
+ * 需要标记在实现类的方法上，接口中的方法上的注解不会生效
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Timed {
+
+    /**
+     * 计时器的名称，为空时使用类名和方法名，同名的方法记录在同一个计时器中
+     */
+    String value() default "";
+}
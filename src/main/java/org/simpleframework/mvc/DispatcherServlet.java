@@ -1,16 +1,22 @@
 package org.simpleframework.mvc;
 
-import com.google.gson.reflect.TypeToken;
 import lombok.extern.slf4j.Slf4j;
 import org.simpleframework.aop.AspectWeaver;
 import org.simpleframework.core.BeanContainer;
+import org.simpleframework.core.config.ConfigSnapshot;
+import org.simpleframework.core.config.ConfigWatcher;
+import org.simpleframework.core.scan.PackageTrie;
+import org.simpleframework.core.scope.RequestScope;
+import org.simpleframework.core.startup.ClasspathFingerprint;
+import org.simpleframework.core.startup.StartupRecorder;
+import org.simpleframework.core.startup.StartupReport;
+import org.simpleframework.core.startup.StartupSnapshot;
 import org.simpleframework.inject.DependencyInjector;
 import org.simpleframework.mvc.processor.RequestProcessor;
 import org.simpleframework.mvc.processor.impl.ControllerRequestProcessor;
 import org.simpleframework.mvc.processor.impl.JspRequestProcessor;
 import org.simpleframework.mvc.processor.impl.PreRequestProcessor;
 import org.simpleframework.mvc.processor.impl.StaticRequestProcessor;
-import org.yaml.snakeyaml.Yaml;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -18,11 +24,12 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Properties;
 
 /**
  * DispatcherServlet
@@ -37,73 +44,187 @@ import java.util.Properties;
 public class DispatcherServlet extends HttpServlet {
 
     /**
-     * simpleframework 配置文件
+     * 存放请求所需要经过的处理器
      */
-    private static final String SIMPLEFRAMEWORK_CONFIG_FILE_YAML = "simpleframework.yml";
-    private static final String SIMPLEFRAMEWORK_CONFIG_FILE_PROPERTIES = "application.properties";
+    private static final List<RequestProcessor> PROCESSOR = new ArrayList<>();
 
     /**
-     * 存放请求所需要经过的处理器
+     * 配置文件的监听器，没有开启热加载时为 null
      */
-    private static final List<RequestProcessor> PROCESSOR = new ArrayList<>();
+    private ConfigWatcher configWatcher;
 
     @Override
     public void init() throws ServletException {
+        StartupRecorder recorder = StartupRecorder.start();
+        // 启动时读取 simpleframework.yml 和 application.properties，bean 通过 @Value 注入当前快照中转换好的配置值
+        ConfigSnapshot config = ConfigSnapshot.load(Thread.currentThread().getContextClassLoader());
         BeanContainer beanContainer = BeanContainer.getInstance();
-        beanContainer.loadBeans(getSimpleframeworkScanPackagesProperties());
-
-        new AspectWeaver().doAOP();
-        new DependencyInjector().doIOC();
+        beanContainer.setConfig(config);
+        if (Boolean.parseBoolean(config.getString("simpleframework.config.watch", "false"))) {
+            configWatcher = ConfigWatcher.start(Thread.currentThread().getContextClassLoader(), beanContainer::refreshConfig);
+        }
+        boolean initialized = false;
+        try {
+            PackageTrie packages = PackageTrie.compile(
+                    splitPackages(getSimpleframeworkScanPackagesProperties(config)),
+                    splitPackages(config.getString("simpleframework.scan.includes")),
+                    splitPackages(config.getString("simpleframework.scan.excludes")));
+            beanContainer.setInitParallelism(getParallelismProperties(config, "simpleframework.init.parallelism"));
+            beanContainer.setLazyInit(Boolean.parseBoolean(config.getString("simpleframework.lazy", "false").trim()));
+            openStartupSnapshot(recorder, config);
+            recorder.run(StartupRecorder.PHASE, "loadBeans", () -> beanContainer.loadBeans(packages,
+                    getParallelismProperties(config, "simpleframework.scan.parallelism")));
+            recorder.run(StartupRecorder.PHASE, "doAOP", () -> new AspectWeaver().doAOP());
+            recorder.run(StartupRecorder.PHASE, "doIOC", () -> new DependencyInjector().doIOC());
 
-        // 初始化请求处理器责任链
-        PROCESSOR.add(new PreRequestProcessor());
-        PROCESSOR.add(new StaticRequestProcessor(getServletContext()));
-        PROCESSOR.add(new JspRequestProcessor(getServletContext()));
-        PROCESSOR.add(new ControllerRequestProcessor());
+            // 初始化请求处理器责任链
+            recorder.run(StartupRecorder.PHASE, "PreRequestProcessor", () -> PROCESSOR.add(new PreRequestProcessor()));
+            recorder.run(StartupRecorder.PHASE, "StaticRequestProcessor",
+                    () -> PROCESSOR.add(new StaticRequestProcessor(getServletContext())));
+            recorder.run(StartupRecorder.PHASE, "JspRequestProcessor",
+                    () -> PROCESSOR.add(new JspRequestProcessor(getServletContext())));
+            recorder.run(StartupRecorder.PHASE, "ControllerRequestProcessor",
+                    () -> PROCESSOR.add(new ControllerRequestProcessor()));
+            // 初始化完成后容器只读，冻结后请求线程通过只读快照获取 bean
+            recorder.run(StartupRecorder.PHASE, "freeze", beanContainer::freeze);
+            initialized = true;
+        } finally {
+            // 失败时同样结束记录和快照，否则静态的 current 仍然指向它们，同一个 JVM 中之后的部署会继续使用过时的状态
+            StartupReport report = recorder.finish();
+            if (initialized) {
+                StartupSnapshot.current().close();
+                reportStartup(report, config.getString("simpleframework.startup.report"));
+            } else {
+                // 记录了一部分的快照不写入文件
+                StartupSnapshot.current().discard();
+                // init 失败时 servlet 容器不会调用 destroy，需要在这里停止监听线程
+                closeConfigWatcher();
+                log.warn("simpleframework failed to start, partial {}", report.summary());
+                log.debug("partial startup report: {}", report.toJson());
+            }
+        }
     }
 
     @Override
     protected void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
-        // 创建责任链对象实例
-        RequestProcessorChain processorChain = new RequestProcessorChain(PROCESSOR.iterator(), req, resp);
-        // 通过责任链模式依次调用请求处理器对请求进行处理
-        processorChain.doRequestProcessorChain();
-        // 对结果进行渲染
-        processorChain.doRender();
+        // 请求作用域的 bean 在请求结束后丢弃
+        RequestScope.begin();
+        try {
+            // 创建责任链对象实例
+            RequestProcessorChain processorChain = new RequestProcessorChain(PROCESSOR.iterator(), req, resp);
+            // 通过责任链模式依次调用请求处理器对请求进行处理
+            processorChain.doRequestProcessorChain();
+            // 对结果进行渲染
+            processorChain.doRender();
+        } finally {
+            RequestScope.end();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closeConfigWatcher();
+    }
+
+    private void closeConfigWatcher() {
+        if (null != configWatcher) {
+            configWatcher.close();
+            configWatcher = null;
+        }
+    }
+
+    private String getSimpleframeworkScanPackagesProperties(ConfigSnapshot config) {
+        String scanPackages = config.getString("simpleframework.scan.packages");
+        log.info("this is scanPackages: {}", scanPackages);
+        return scanPackages;
     }
 
     /**
-     * 得到 simpleframework 扫描包配置
+     * 打开启动快照，之后通过 StartupSnapshot.current() 获取；未配置快照文件时当前的快照既不会回放也不会记录
      *
-     * @return {@link String }
+     * @param recorder   启动耗时记录器
+     * @param config     配置
      * @author chenz
-     * @date 2021/09/21
+     * @date 2026/10/18
      */
-    private String getSimpleframeworkScanPackagesYAML() {
-        Yaml yaml = new Yaml();
-        InputStream resourceStream =
-                Thread.currentThread().getContextClassLoader().getResourceAsStream(SIMPLEFRAMEWORK_CONFIG_FILE_YAML);
-        if (null == resourceStream) {
-            log.warn("The {} can not load", SIMPLEFRAMEWORK_CONFIG_FILE_YAML);
+    private void openStartupSnapshot(StartupRecorder recorder, ConfigSnapshot config) {
+        String snapshotFile = config.getString("simpleframework.snapshot.file");
+        if (null == snapshotFile || snapshotFile.trim().isEmpty()) {
+            return;
         }
-        Map<String, String> config = yaml.loadAs(resourceStream, new TypeToken<Map<String, String>>(){}.getRawType().asSubclass(String.class));
-        String scanPackages = config.get("simpleframework.scan.packages");
-        log.info("The scan packages path is {}", scanPackages);
-        return scanPackages;
+        // 扫描的包以及规则不同时，扫描的结果也不同
+        String scanConfig = config.getString("simpleframework.scan.packages") + "|"
+                + config.getString("simpleframework.scan.includes") + "|"
+                + config.getString("simpleframework.scan.excludes");
+        String fingerprint = recorder.call(StartupRecorder.PHASE, "fingerprint",
+                () -> ClasspathFingerprint.compute(Thread.currentThread().getContextClassLoader(), scanConfig));
+        StartupSnapshot.open(Paths.get(snapshotFile.trim()), fingerprint);
     }
 
-    private String getSimpleframeworkScanPackagesProperties() {
-        Properties properties = new Properties();
-        InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(SIMPLEFRAMEWORK_CONFIG_FILE_PROPERTIES);
+    /**
+     * 输出启动耗时：摘要写入日志，json 报告写入配置的文件，未配置文件时以 debug 级别写入日志
+     *
+     * @param report     启动耗时报告
+     * @param reportPath 报告文件路径
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void reportStartup(StartupReport report, String reportPath) {
+        log.info("simpleframework {}", report.summary());
+        if (null == reportPath || reportPath.trim().isEmpty()) {
+            log.debug("startup report: {}", report.toJson());
+            return;
+        }
+        Path path = Paths.get(reportPath.trim());
         try {
-            properties.load(in);
+            if (null != path.getParent()) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, report.toJson().getBytes(StandardCharsets.UTF_8));
+            log.info("startup report has been written to {}", path.toAbsolutePath());
         } catch (IOException e) {
-            log.warn("The application.properties can not load");
-            e.printStackTrace();
+            log.warn("unable to write startup report to {}", path, e);
         }
+    }
 
-        String scanPackages = properties.getProperty("simpleframework.scan.packages");
-        log.info("this is scanPackages: {}", scanPackages);
-        return scanPackages;
+    /**
+     * 拆分以逗号分隔的包名或规则
+     *
+     * @param value 配置值
+     * @return {@link List<String> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private List<String> splitPackages(String value) {
+        List<String> packageNames = new ArrayList<>();
+        if (null == value) {
+            return packageNames;
+        }
+        for (String packageName : value.split(",")) {
+            if (!packageName.trim().isEmpty()) {
+                packageNames.add(packageName.trim());
+            }
+        }
+        return packageNames;
+    }
+
+    /**
+     * 得到并行度配置，未配置时为 1，配置为 0 时使用 CPU 核数
+     *
+     * @param config     配置
+     * @param key        配置项
+     * @return int
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private int getParallelismProperties(ConfigSnapshot config, String key) {
+        String parallelism = config.getString(key, "1").trim();
+        try {
+            int value = Integer.parseInt(parallelism);
+            return value == 0 ? Runtime.getRuntime().availableProcessors() : value;
+        } catch (NumberFormatException e) {
+            log.warn("invalid {}: {}, use 1 instead", key, parallelism);
+            return 1;
+        }
     }
 }
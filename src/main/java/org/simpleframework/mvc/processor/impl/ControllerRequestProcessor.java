@@ -2,6 +2,9 @@ package org.simpleframework.mvc.processor.impl;
 
 import lombok.extern.slf4j.Slf4j;
 import org.simpleframework.core.BeanContainer;
+import org.simpleframework.core.startup.StartupRecorder;
+import org.simpleframework.core.startup.StartupSnapshot;
+import org.simpleframework.core.startup.StartupStep;
 import org.simpleframework.mvc.RequestProcessorChain;
 import org.simpleframework.mvc.annotation.RequestMapping;
 import org.simpleframework.mvc.annotation.RequestParam;
@@ -13,6 +16,7 @@ import org.simpleframework.mvc.render.impl.ResourceNotFoundResultRender;
 import org.simpleframework.mvc.render.impl.ViewResultRender;
 import org.simpleframework.mvc.type.ControllerMethod;
 import org.simpleframework.mvc.type.RequestPathInfo;
+import org.simpleframework.util.ClassUtil;
 import org.simpleframework.util.ConverterUtil;
 import org.simpleframework.util.ValidationUtil;
 
@@ -43,10 +47,76 @@ public class ControllerRequestProcessor implements RequestProcessor {
 
     public ControllerRequestProcessor() {
         this.beanContainer = BeanContainer.getInstance();
+        // classpath 没有变化时直接使用启动快照中的路由表
+        StartupSnapshot snapshot = StartupSnapshot.current();
+        if (snapshot.isReplaying()) {
+            try {
+                replayPathControllerMethodMap(snapshot.getRoutes());
+                return;
+            } catch (RuntimeException | NoSuchMethodException e) {
+                snapshot.invalidate("route can not be resolved", e);
+                this.pathControllerMethodMap.clear();
+            }
+        }
         Set<Class<?>> requestMappingSet = this.beanContainer.getClassesByAnnotation(RequestMapping.class);
         initPathControllerMethodMap(requestMappingSet);
     }
 
+    /**
+     * 根据启动快照中的路由表初始化路径控制器方法映射
+     *
+     * @param routes 路由表
+     * @throws NoSuchMethodException 方法不存在
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private void replayPathControllerMethodMap(List<StartupSnapshot.Route> routes) throws NoSuchMethodException {
+        for (StartupSnapshot.Route route : routes) {
+            StartupStep step = StartupRecorder.current().step(StartupRecorder.ROUTE,
+                    route.getControllerClass() + "#" + route.getMethodName());
+            Class<?> controllerClass = ClassUtil.loadClass(route.getControllerClass());
+            Method method = findDeclaredMethod(controllerClass, route.getMethodName(), route.getParameterTypes());
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            Map<String, Class<?>> methodParams = new LinkedHashMap<>();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                methodParams.put(route.getParameterNames().get(i), parameterTypes[i]);
+            }
+            log.info("可访问路径: {}", route.getHttpPath());
+            this.pathControllerMethodMap.put(new RequestPathInfo(route.getHttpMethod(), route.getHttpPath()),
+                    new ControllerMethod(controllerClass, method, methodParams));
+            step.detail(route.getHttpMethod() + " " + route.getHttpPath()).end();
+        }
+    }
+
+    /**
+     * 按方法名和参数类型名查找方法，参数类型名可以是基本类型，不需要加载参数类型
+     *
+     * @param clazz          类
+     * @param methodName     方法名
+     * @param parameterTypes 参数类型名
+     * @return {@link Method }
+     * @throws NoSuchMethodException 方法不存在
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private Method findDeclaredMethod(Class<?> clazz, String methodName, List<String> parameterTypes)
+            throws NoSuchMethodException {
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (method.getName().equals(methodName) && toTypeNames(method.getParameterTypes()).equals(parameterTypes)) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(clazz.getName() + "." + methodName + parameterTypes);
+    }
+
+    private static List<String> toTypeNames(Class<?>[] types) {
+        List<String> typeNames = new ArrayList<>();
+        for (Class<?> type : types) {
+            typeNames.add(type.getName());
+        }
+        return typeNames;
+    }
+
     /**
      * 初始化路径控制器方法映射
      *
@@ -92,6 +162,8 @@ public class ControllerRequestProcessor implements RequestProcessor {
     @SuppressWarnings("squid:S112")
     private void initControllerMethodMap(Class<?> requestMappingClass, String basePath, Method[] methods) {
         for (Method method : methods) {
+            StartupStep step = StartupRecorder.current().step(StartupRecorder.ROUTE,
+                    requestMappingClass.getName() + "#" + method.getName());
             // 判断 method 的注解是否是 RequestMapping
             RequestMapping methodRequest = method.getDeclaredAnnotation(RequestMapping.class);
             // 获取 RequestMapping 的值作为二级路径
@@ -135,6 +207,10 @@ public class ControllerRequestProcessor implements RequestProcessor {
             // 将 controllerMethod 放进 controller map 里
             log.info("可访问路径: {}", requestPathInfo.getHttpPath());
             this.pathControllerMethodMap.put(requestPathInfo, controllerMethod);
+            StartupSnapshot.current().recordRoute(new StartupSnapshot.Route(httpMethod, url,
+                    requestMappingClass.getName(), method.getName(), toTypeNames(method.getParameterTypes()),
+                    new ArrayList<>(methodParams.keySet())));
+            step.detail(httpMethod + " " + url).end();
         }
     }
 
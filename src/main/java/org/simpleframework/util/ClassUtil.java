@@ -4,16 +4,26 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.simpleframework.core.scan.ClassFileAnnotationReader;
+import org.simpleframework.core.scan.JarClassScanner;
+import org.simpleframework.core.scan.PackageScanTask;
+import org.simpleframework.core.scan.PackageTrie;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.net.URL;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * 类相关通用方法通过类加载器获取资源信息
@@ -55,27 +65,133 @@ public class ClassUtil {
      * @author chenz
      * @date 2021/09/21
      */
-    @SneakyThrows
     public static Set<Class<?>> extractPackageClass(String packageName) {
+        return extractPackageClass(packageName, null);
+    }
+
+    /**
+     * 根据传入的包名，获取该包以及其子包下所有标记了指定注解之一的类
+     * <br>
+     * 先读取 class 文件的字节判断注解，只有符合条件的类才会被加载，工具类、DTO 等不会被加载和初始化
+     *
+     * @param packageName 包名
+     * @param annotations 注解列表，为 null 时不过滤
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Set<Class<?>> extractPackageClass(String packageName,
+            Collection<Class<? extends Annotation>> annotations) {
+        return extractPackageClass(packageName, annotations, 1);
+    }
+
+    /**
+     * 根据传入的包名，获取该包以及其子包下所有标记了指定注解之一的类
+     * <br>
+     * 并行度大于 1 时使用 ForkJoinPool 并行扫描，每个子目录一个任务
+     *
+     * @param packageName 包名
+     * @param annotations 注解列表，为 null 时不过滤
+     * @param parallelism 扫描的并行度，小于等于 1 时在当前线程中顺序扫描
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Set<Class<?>> extractPackageClass(String packageName,
+            Collection<Class<? extends Annotation>> annotations, int parallelism) {
+        return extractPackageClass(PackageTrie.of(packageName), annotations, parallelism);
+    }
+
+    /**
+     * 扫描多个根包，获取其中满足包含、排除规则并且标记了指定注解之一的类
+     * <br>
+     * 重叠的根包只扫描一次，被排除的子包不会列出目录
+     *
+     * @param packages    根包以及包含、排除规则
+     * @param annotations 注解列表，为 null 时不过滤
+     * @param parallelism 扫描的并行度，小于等于 1 时在当前线程中顺序扫描
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Set<Class<?>> extractPackageClass(PackageTrie packages,
+            Collection<Class<? extends Annotation>> annotations, int parallelism) {
+        return extractPackageClass(packages, packages.getRoots(), annotations, parallelism);
+    }
+
+    /**
+     * 只扫描给定的根包，包含、排除规则仍然按 packages 判断
+     *
+     * @param packages    根包以及包含、排除规则
+     * @param rootNames   需要扫描的根包，为 packages 的根包的子集
+     * @param annotations 注解列表，为 null 时不过滤
+     * @param parallelism 扫描的并行度，小于等于 1 时在当前线程中顺序扫描
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    @SneakyThrows
+    public static Set<Class<?>> extractPackageClass(PackageTrie packages, Collection<String> rootNames,
+            Collection<Class<? extends Annotation>> annotations, int parallelism) {
         // 获取类加载器
         ClassLoader classLoader = getClassLoader();
-        // 通过类加载器获取加载的资源
-        URL url = classLoader.getResource(packageName.replace(".", File.separator));
-        if (null == url) {
-            log.warn("unable to retrieve anything from package: {}", packageName);
-            return Collections.emptySet();
-        }
-        // 依据不同的资源类型那个，采用不同的方式获取资源的集合
-        Set<Class<?>> classSet = null;
-        // 文件类型的资源
-        if (url.getProtocol().equalsIgnoreCase(FILE_PROTOCOL)) {
-            classSet = new HashSet<>();
-            File packageDirectory = new File(url.getPath());
-            extractClassFile(classSet, packageDirectory, packageName);
+        Set<String> descriptors = null == annotations ? null : ClassFileAnnotationReader.toDescriptors(annotations);
+        // 扫描只在启动时执行一次，使用独立的线程池，避免占用 commonPool
+        ForkJoinPool forkJoinPool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        Set<Class<?>> classSet = new HashSet<>();
+        try {
+            for (String packageName : rootNames) {
+                // 通过类加载器获取加载的资源，同一个包可能分布在多个目录或 jar 包中
+                Enumeration<URL> urls = classLoader.getResources(packageName.replace('.', '/'));
+                if (!urls.hasMoreElements()) {
+                    log.warn("unable to retrieve anything from package: {}", packageName);
+                    continue;
+                }
+                while (urls.hasMoreElements()) {
+                    URL url = urls.nextElement();
+                    // 依据不同的资源类型那个，采用不同的方式获取资源的集合
+                    if (url.getProtocol().equalsIgnoreCase(FILE_PROTOCOL)) {
+                        // 文件类型的资源，ForkJoinPool 的工作线程的上下文类加载器不一定是当前的类加载器，需要显式传递
+                        PackageScanTask task = new PackageScanTask(new File(url.getPath()), packageName, descriptors,
+                                classLoader, packages, null != forkJoinPool);
+                        classSet.addAll(null == forkJoinPool ? task.scan() : invoke(forkJoinPool, task));
+                    } else if (url.getProtocol().equalsIgnoreCase(JarClassScanner.JAR_PROTOCOL)) {
+                        // jar 包中的资源
+                        classSet.addAll(JarClassScanner.extractClasses(url, packageName, descriptors, classLoader,
+                                packages));
+                    } else {
+                        log.warn("unsupported resource protocol {} of package {}", url.getProtocol(), packageName);
+                    }
+                }
+            }
+        } finally {
+            if (null != forkJoinPool) {
+                forkJoinPool.shutdown();
+            }
         }
         return classSet;
     }
 
+    /**
+     * 在 ForkJoinPool 中执行并行扫描任务
+     *
+     * @param forkJoinPool 线程池
+     * @param task         扫描任务
+     * @return {@link Set<Class> }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static Set<Class<?>> invoke(ForkJoinPool forkJoinPool, PackageScanTask task) {
+        try {
+            return forkJoinPool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
 
     /**
      * 实例化class
@@ -96,6 +212,49 @@ public class ClassUtil {
         }
     }
 
+    /**
+     * 获取泛型类型的类型参数，例如 <code>List&lt;UserService&gt;</code> 的第 0 个类型参数为 UserService
+     *
+     * @param genericType 泛型类型
+     * @param index       类型参数的位置
+     * @return {@link Class }，不是泛型类型或者类型参数不是具体的类时返回 null，类型参数本身是泛型类型时返回其原始类型
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Class<?> getTypeArgument(Type genericType, int index) {
+        if (!(genericType instanceof ParameterizedType)) {
+            return null;
+        }
+        Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+        if (index >= arguments.length) {
+            return null;
+        }
+        Type argument = arguments[index];
+        if (argument instanceof ParameterizedType) {
+            argument = ((ParameterizedType) argument).getRawType();
+        }
+        return argument instanceof Class ? (Class<?>) argument : null;
+    }
+
+    /**
+     * 使用指定的构造方法和参数实例化class
+     *
+     * @param constructor 构造方法
+     * @param arguments   构造方法的参数
+     * @return {@link T }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static <T> T newInstance(Constructor<T> constructor, Object... arguments) {
+        try {
+            constructor.setAccessible(true);
+            return constructor.newInstance(arguments);
+        } catch (InvocationTargetException|InstantiationException|IllegalAccessException e) {
+            log.error("newInstance error", e);
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * 递归获取目标package里面的所有class文件（包括子package里的class文件）
      *
@@ -160,9 +319,23 @@ public class ClassUtil {
      * @author chenz
      * @date 2021/09/21
      */
-    private static Class<?> loadClass(String className) {
+    public static Class<?> loadClass(String className) {
+        // 使用上下文类加载器，与获取资源时保持一致（例如 web 容器中的 WebappClassLoader）
+        return loadClass(className, getClassLoader());
+    }
+
+    /**
+     * 使用指定的类加载器加载类
+     *
+     * @param className   类名
+     * @param classLoader 类加载器
+     * @return {@link Class }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Class<?> loadClass(String className, ClassLoader classLoader) {
         try {
-            return Class.forName(className);
+            return Class.forName(className, true, classLoader);
         } catch (ClassNotFoundException e) {
             log.error("load class error ", e);
             throw new RuntimeException(e);
@@ -0,0 +1,29 @@
+package org.simpleframework.advised;
+
+import lombok.Getter;
+import org.simpleframework.aop.annotation.Aspect;
+import org.simpleframework.aop.annotation.Order;
+import org.simpleframework.aop.aspect.DefaultAspect;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AuditAspect
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Order(0)
+@Aspect(pointcut = "execution(* org.simpleframework.advised.AuditRepository.*(..))")
+public class AuditAspect extends DefaultAspect {
+
+    @Getter
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    public void before(Class<?> targetClass, Method method, Object[] args) {
+        calls.incrementAndGet();
+    }
+}
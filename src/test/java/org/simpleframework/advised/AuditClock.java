@@ -0,0 +1,18 @@
+package org.simpleframework.advised;
+
+import org.simpleframework.core.annotation.Component;
+
+/**
+ * AuditClock
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component
+public class AuditClock {
+
+    public long now() {
+        return 42L;
+    }
+}
@@ -0,0 +1,34 @@
+package org.simpleframework.advised;
+
+import org.simpleframework.core.annotation.Repository;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AuditRepository
+ * <br>
+ * 被切面增强，同时通过构造方法注入依赖
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Repository
+public class AuditRepository {
+
+    /**
+     * 构造方法被调用的次数
+     */
+    public static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+    private final AuditClock auditClock;
+
+    public AuditRepository(AuditClock auditClock) {
+        this.auditClock = auditClock;
+        CONSTRUCTIONS.incrementAndGet();
+    }
+
+    public String find(String id) {
+        return id + "@" + auditClock.now();
+    }
+}
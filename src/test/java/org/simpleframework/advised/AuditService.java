@@ -0,0 +1,28 @@
+package org.simpleframework.advised;
+
+import lombok.Getter;
+import org.simpleframework.core.annotation.Service;
+
+/**
+ * AuditService
+ * <br>
+ * 通过构造方法注入被切面增强的 AuditRepository
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+@Service
+public class AuditService {
+
+    private final AuditRepository auditRepository;
+
+    public AuditService(AuditRepository auditRepository) {
+        this.auditRepository = auditRepository;
+    }
+
+    public String find(String id) {
+        return auditRepository.find(id);
+    }
+}
@@ -0,0 +1,151 @@
+package org.simpleframework.aop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.aop.aspect.AspectInfo;
+import org.simpleframework.aop.aspect.DefaultAspect;
+import org.simpleframework.aop.aspect.Invocation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AspectListExecutorTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class AspectListExecutorTest {
+
+    @DisplayName("织入时为每个方法计算好切面，调用其他方法不会影响已经匹配的切面：adviceMapTest")
+    @Test
+    void adviceMapTest() throws Exception {
+        CountingAspect aspect = new CountingAspect();
+        AspectInfo aspectInfo = new AspectInfo(1, aspect,
+                new PointcutLocator("execution(* org.simpleframework.aop.AspectTarget.testRight(..))"));
+        AspectListExecutor executor = new AspectListExecutor(AspectTarget.class, Collections.singletonList(aspectInfo));
+
+        assertEquals(1, executor.getAdvices(AspectTarget.class.getMethod("testRight")).length);
+        assertNull(executor.getAdvices(AspectTarget.class.getMethod("testThrowing")));
+        assertNull(executor.getAdvices(Object.class.getMethod("toString")));
+
+        AspectTarget proxy = (AspectTarget) ProxyCreator.createProxy(AspectTarget.class, executor);
+        // 没有切面的方法直接调用
+        assertNotNull(proxy.toString());
+        assertEquals(0, aspect.count.get());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executorService.submit(proxy::testRight));
+            }
+            for (Future<Integer> future : futures) {
+                assertEquals(Integer.valueOf(10), future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertEquals(100, aspect.count.get());
+    }
+
+    @DisplayName("没有切面的方法不经过拦截器，代理类按目标类和被增强的方法复用：routingTest")
+    @Test
+    void routingTest() throws Exception {
+        CountingAspect aspect = new CountingAspect();
+        AspectInfo aspectInfo = new AspectInfo(1, aspect,
+                new PointcutLocator("execution(* org.simpleframework.aop.AspectTarget.testRight(..))"));
+        AspectListExecutor executor = new AspectListExecutor(AspectTarget.class, Collections.singletonList(aspectInfo));
+        AspectTarget first = (AspectTarget) ProxyCreator.createProxy(AspectTarget.class, executor);
+        AspectTarget second = (AspectTarget) ProxyCreator.createProxy(AspectTarget.class, executor);
+        assertNotSame(first, second);
+        assertSame(first.getClass(), second.getClass());
+
+        // 没有切面的方法没有被代理类重写
+        assertEquals(AspectTarget.class, first.getClass().getMethod("testThrowing").getDeclaringClass());
+        assertEquals(Object.class, first.getClass().getMethod("toString").getDeclaringClass());
+        assertNotEquals(AspectTarget.class, first.getClass().getMethod("testRight").getDeclaringClass());
+        assertEquals(Integer.valueOf(10), second.testRight());
+        assertEquals(1, aspect.count.get());
+    }
+
+    @DisplayName("around 按 order 嵌套执行，可以替换返回值，目标方法的异常继续抛出：aroundTest")
+    @Test
+    void aroundTest() {
+        List<String> events = new ArrayList<>();
+        AspectInfo outer = new AspectInfo(1, new RecordingAspect("outer", events),
+                new PointcutLocator("execution(* org.simpleframework.aop.AspectTarget.*(..))"));
+        AspectInfo inner = new AspectInfo(2, new RecordingAspect("inner", events),
+                new PointcutLocator("execution(* org.simpleframework.aop.AspectTarget.*(..))"));
+        AspectInfo doubling = new AspectInfo(3, new DoublingAspect(),
+                new PointcutLocator("execution(* org.simpleframework.aop.AspectTarget.testRight(..))"));
+        // 传入的顺序与 order 无关
+        AspectListExecutor executor = new AspectListExecutor(AspectTarget.class, Arrays.asList(doubling, inner, outer));
+        AspectTarget proxy = (AspectTarget) ProxyCreator.createProxy(AspectTarget.class, executor);
+
+        assertEquals(Integer.valueOf(20), proxy.testRight());
+        assertEquals(Arrays.asList("outer before", "inner before", "inner afterReturning", "outer afterReturning"),
+                events);
+
+        events.clear();
+        RuntimeException exception = assertThrows(RuntimeException.class, proxy::testThrowing);
+        assertEquals("我是异常", exception.getMessage());
+        assertEquals(Arrays.asList("outer before", "inner before", "inner afterThrow", "outer afterThrow"), events);
+    }
+
+    private static class RecordingAspect extends DefaultAspect {
+
+        private final String name;
+
+        private final List<String> events;
+
+        private RecordingAspect(String name, List<String> events) {
+            this.name = name;
+            this.events = events;
+        }
+
+        @Override
+        public void before(Class<?> targetClass, Method method, Object[] args) {
+            events.add(name + " before");
+        }
+
+        @Override
+        public Object afterReturning(Class<?> targetClass, Method method, Object[] args, Object returnValue) {
+            events.add(name + " afterReturning");
+            return returnValue;
+        }
+
+        @Override
+        public void afterThrow(Class<?> targetClass, Method method, Object[] args, Throwable throwable) {
+            events.add(name + " afterThrow");
+        }
+    }
+
+    private static class DoublingAspect extends DefaultAspect {
+
+        @Override
+        public Object around(Invocation invocation) throws Throwable {
+            return (Integer) invocation.proceed() * 2;
+        }
+    }
+
+    private static class CountingAspect extends DefaultAspect {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void before(Class<?> targetClass, Method method, Object[] args) {
+            count.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.simpleframework.aop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.cache.CacheAspect;
+import org.simpleframework.cache.CacheManager;
+import org.simpleframework.collision.CollisionCatalog;
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.inject.DependencyInjector;
+import org.simpleframework.metrics.TimedAspect;
+import org.simpleframework.metrics.TimerRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BuiltInAspectTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class BuiltInAspectTest {
+
+    @DisplayName("用户的类与内置切面依赖的 bean 同名时，内置的 bean 仍然会注册：nameCollisionTest")
+    @Test
+    void nameCollisionTest() {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.loadBeans("org.simpleframework.collision");
+        new AspectWeaver().doAOP();
+        new DependencyInjector().doIOC();
+
+        assertNotNull(beanContainer.getBean(org.simpleframework.collision.CacheManager.class));
+        CacheManager cacheManager = (CacheManager) beanContainer.getBean(CacheManager.class);
+        assertNotNull(cacheManager);
+        assertNotNull(beanContainer.getBean(CacheAspect.class));
+
+        CollisionCatalog catalog = (CollisionCatalog) beanContainer.getBean(CollisionCatalog.class);
+        assertEquals("item-1", catalog.queryName(1));
+        assertEquals("item-1", catalog.queryName(1));
+        assertEquals(1, catalog.getQueryCount());
+        assertEquals(1, cacheManager.getCache("collisionCatalog").size());
+
+        assertNotNull(beanContainer.getBean(org.simpleframework.collision.TimerRegistry.class));
+        TimerRegistry timerRegistry = (TimerRegistry) beanContainer.getBean(TimerRegistry.class);
+        assertNotNull(timerRegistry);
+        assertNotNull(beanContainer.getBean(TimedAspect.class));
+        // 计时在缓存之外，命中缓存的调用同样被记录
+        assertEquals(2, timerRegistry.getSnapshot("collisionCatalog.queryName").getCount());
+    }
+}
@@ -0,0 +1,46 @@
+package org.simpleframework.aop;
+
+import net.sf.cglib.proxy.Enhancer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.advised.AuditAspect;
+import org.simpleframework.advised.AuditRepository;
+import org.simpleframework.advised.AuditService;
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.inject.DependencyInjector;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConstructorAdviceTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class ConstructorAdviceTest {
+
+    @DisplayName("被增强的 bean 通过构造方法注入时注入的是代理，构造方法只调用一次：constructorAdviceTest")
+    @Test
+    void constructorAdviceTest() {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.loadBeans("org.simpleframework.advised");
+        new AspectWeaver().doAOP();
+        new DependencyInjector().doIOC();
+
+        AuditRepository auditRepository = (AuditRepository) beanContainer.getBean(AuditRepository.class);
+        assertTrue(Enhancer.isEnhanced(auditRepository.getClass()));
+        // 代理在创建 bean 时直接创建，没有先创建原始对象
+        assertEquals(1, AuditRepository.CONSTRUCTIONS.get());
+        AuditService auditService = (AuditService) beanContainer.getBean(AuditService.class);
+        assertSame(auditRepository, auditService.getAuditRepository());
+
+        AuditAspect auditAspect = (AuditAspect) beanContainer.getBean(AuditAspect.class);
+        assertEquals("1@42", auditService.find("1"));
+        assertEquals(1, auditAspect.getCalls().get());
+        // doAOP 不会再次织入已经是代理的 bean
+        new AspectWeaver().doAOP();
+        assertSame(auditRepository, beanContainer.getBean(AuditRepository.class));
+        assertEquals(1, AuditRepository.CONSTRUCTIONS.get());
+    }
+}
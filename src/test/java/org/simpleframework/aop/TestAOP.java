@@ -8,6 +8,8 @@ import org.simpleframework.ioc.TestIOC;
 import org.simpleframework.core.BeanContainer;
 import org.simpleframework.inject.DependencyInjector;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * TestAOP
  *
@@ -35,6 +37,8 @@ class TestAOP {
     @Test
     void test() {
         TestIOC bean = (TestIOC) beanContainer.getBean(TestIOC.class);
-        bean.test();
+        // 目标方法抛出的异常在 afterThrow 之后继续抛出
+        RuntimeException exception = assertThrows(RuntimeException.class, bean::test);
+        assertEquals("我是异常", exception.getMessage());
     }
 }
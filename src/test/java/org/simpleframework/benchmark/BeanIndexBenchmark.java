@@ -0,0 +1,168 @@
+package org.simpleframework.benchmark;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.simpleframework.core.BeanIndex;
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.util.ClassUtil;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * BeanIndexBenchmark
+ * <br>
+ * 对比扫描包目录、按字节码过滤扫描、并行扫描以及读取 bean 索引几种方式的启动耗时 <br>
+ * 使用 ASM 生成包含数千个类的合成包，每轮都使用新的类加载器，保证类加载的开销被计算在内 <br>
+ * 运行方式：在 test classpath 下执行 main 方法，参数依次为 类数量、bean 占比的倒数、轮数
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public class BeanIndexBenchmark {
+
+    private static final String PACKAGE_NAME = "synthetic.beans";
+
+    private static final String COMPONENT_DESCRIPTOR = "L" + Component.class.getName().replace('.', '/') + ";";
+
+    public static void main(String[] args) throws Exception {
+        int classCount = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int beanEvery = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        Path root = Files.createTempDirectory("simpleframework-bench");
+        int beanCount = generateClasses(root, classCount, beanEvery);
+        System.out.printf("generated %d classes (%d beans) under %s%n", classCount, beanCount, root);
+
+        long[] scanTimes = new long[rounds];
+        long[] bytecodeScanTimes = new long[rounds];
+        long[] parallelScanTimes = new long[rounds];
+        long[] indexTimes = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            scanTimes[i] = measure(root, Mode.SCAN, beanCount);
+            bytecodeScanTimes[i] = measure(root, Mode.BYTECODE_SCAN, beanCount);
+            parallelScanTimes[i] = measure(root, Mode.PARALLEL_SCAN, beanCount);
+            indexTimes[i] = measure(root, Mode.INDEX, beanCount);
+        }
+        System.out.printf("scan          median: %8.2f ms%n", median(scanTimes) / 1e6);
+        System.out.printf("bytecode scan median: %8.2f ms%n", median(bytecodeScanTimes) / 1e6);
+        System.out.printf("parallel scan median: %8.2f ms%n", median(parallelScanTimes) / 1e6);
+        System.out.printf("index         median: %8.2f ms%n", median(indexTimes) / 1e6);
+    }
+
+    /**
+     * 在新的类加载器中加载一次所有 bean 类，返回耗时（纳秒）
+     */
+    private static long measure(Path root, Mode mode, int expectedBeans) throws IOException {
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{root.toUri().toURL()},
+                BeanIndexBenchmark.class.getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            long start = System.nanoTime();
+            int beans = 0;
+            if (mode == Mode.INDEX) {
+                BeanIndex beanIndex = BeanIndex.load(classLoader);
+                beans = null == beanIndex ? 0 : beanIndex.getCandidateClasses(PACKAGE_NAME).size();
+            } else {
+                Set<Class<?>> classSet;
+                if (mode == Mode.SCAN) {
+                    classSet = ClassUtil.extractPackageClass(PACKAGE_NAME);
+                } else {
+                    int parallelism = mode == Mode.PARALLEL_SCAN ? Runtime.getRuntime().availableProcessors() : 1;
+                    classSet = ClassUtil.extractPackageClass(PACKAGE_NAME, Collections.singletonList(Component.class),
+                            parallelism);
+                }
+                for (Class<?> clazz : classSet) {
+                    if (clazz.isAnnotationPresent(Component.class)) {
+                        beans++;
+                    }
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if (beans != expectedBeans) {
+                throw new IllegalStateException("expected " + expectedBeans + " beans but found " + beans);
+            }
+            return elapsed;
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    /**
+     * 生成合成类，每 beanEvery 个类中有一个被 @Component 标记，并写出对应的索引文件
+     */
+    private static int generateClasses(Path root, int classCount, int beanEvery) throws IOException {
+        StringBuilder index = new StringBuilder();
+        int beanCount = 0;
+        for (int i = 0; i < classCount; i++) {
+            // 分散到多个子包中，模拟真实项目的目录结构
+            String internalName = PACKAGE_NAME.replace('.', '/') + "/p" + (i % 50) + "/Synthetic" + i;
+            boolean bean = i % beanEvery == 0;
+            Path classFile = root.resolve(internalName + ".class");
+            Files.createDirectories(classFile.getParent());
+            Files.write(classFile, generateClass(internalName, bean));
+            if (bean) {
+                beanCount++;
+                index.append(internalName.replace('/', '.')).append('\n');
+            }
+        }
+        Path indexFile = root.resolve(BeanIndex.INDEX_LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        try (Writer writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+            writer.write(index.toString());
+        }
+        return beanCount;
+    }
+
+    private static byte[] generateClass(String internalName, boolean bean) {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, internalName, null, "java/lang/Object", null);
+        if (bean) {
+            classWriter.visitAnnotation(COMPONENT_DESCRIPTOR, true).visitEnd();
+        }
+        MethodVisitor constructor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private enum Mode {
+        /**
+         * 加载包下所有的类，再通过反射判断注解
+         */
+        SCAN,
+        /**
+         * 先读取 class 文件判断注解，只加载 bean 类
+         */
+        BYTECODE_SCAN,
+        /**
+         * 按字节码过滤，并使用 ForkJoinPool 并行扫描
+         */
+        PARALLEL_SCAN,
+        /**
+         * 读取编译期生成的索引
+         */
+        INDEX
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,97 @@
+package org.simpleframework.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.simpleframework.core.BeanContainer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BeanLookupBenchmark
+ * <br>
+ * 对比冻结前（ConcurrentHashMap）和冻结后（ClassValue）BeanContainer.getBean 的耗时，以及直接查找 ConcurrentHashMap 的基线 <br>
+ * 每组参数在独立的 JVM 中运行，BeanContainer 单例互不影响 <br>
+ * 运行方式：在 test classpath 下执行 main 方法
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class BeanLookupBenchmark {
+
+    /**
+     * 作为 bean 的 class，覆盖不同的哈希分布
+     */
+    private static final Class<?>[] BEAN_CLASSES = {
+            String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class,
+            Boolean.class, Character.class, StringBuilder.class, Object.class, Thread.class, Runnable.class,
+            java.util.ArrayList.class, java.util.LinkedList.class, java.util.HashMap.class, java.util.TreeMap.class,
+            java.util.HashSet.class, java.util.TreeSet.class, java.util.ArrayDeque.class, java.util.Optional.class,
+            java.util.UUID.class, java.io.File.class, java.net.URL.class, java.net.URI.class,
+            java.math.BigDecimal.class, java.math.BigInteger.class, java.time.LocalDate.class,
+            java.time.Instant.class, java.time.Duration.class, java.util.concurrent.Executors.class,
+            java.util.concurrent.atomic.AtomicLong.class
+    };
+
+    @Param({"false", "true"})
+    private boolean frozen;
+
+    private BeanContainer beanContainer;
+
+    private Map<Class<?>, Object> beanMap;
+
+    @Setup
+    public void setup() {
+        beanContainer = BeanContainer.getInstance();
+        beanMap = new ConcurrentHashMap<>();
+        for (Class<?> beanClass : BEAN_CLASSES) {
+            Object bean = new Object();
+            beanContainer.addBean(beanClass, bean);
+            beanMap.put(beanClass, bean);
+        }
+        if (frozen) {
+            beanContainer.freeze();
+        }
+    }
+
+    @Benchmark
+    public void getBean(Blackhole blackhole) {
+        for (Class<?> beanClass : BEAN_CLASSES) {
+            blackhole.consume(beanContainer.getBean(beanClass));
+        }
+    }
+
+    @Benchmark
+    public void concurrentHashMap(Blackhole blackhole) {
+        for (Class<?> beanClass : BEAN_CLASSES) {
+            blackhole.consume(beanMap.get(beanClass));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BeanLookupBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package org.simpleframework.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.aop.AspectListExecutor;
+import org.simpleframework.aop.AspectWeaver;
+import org.simpleframework.aop.PointcutLocator;
+import org.simpleframework.aop.annotation.Aspect;
+import org.simpleframework.aop.aspect.AspectInfo;
+import org.simpleframework.cache.annotation.Cacheable;
+import org.simpleframework.cached.CachedBookService;
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.inject.DependencyInjector;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CacheAspectTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class CacheAspectTest {
+
+    private static BeanContainer beanContainer;
+
+    @BeforeEach
+    void init() {
+        beanContainer = BeanContainer.getInstance();
+        beanContainer.loadBeans("org.simpleframework.cached");
+        new AspectWeaver().doAOP();
+        new DependencyInjector().doIOC();
+    }
+
+    @DisplayName("使用了 Cacheable 时自动注册缓存切面，命中缓存时不调用方法，CacheEvict 移除缓存项：cacheableTest")
+    @Test
+    void cacheableTest() {
+        CachedBookService bookService = (CachedBookService) beanContainer.getBean(CachedBookService.class);
+        CacheManager cacheManager = (CacheManager) beanContainer.getBean(CacheManager.class);
+        assertNotNull(cacheManager);
+        assertNotNull(beanContainer.getBean(CacheAspect.class));
+
+        assertEquals("book-1", bookService.queryTitle(1));
+        assertEquals("book-1", bookService.queryTitle(1));
+        assertEquals(1, bookService.getQueryCount());
+        // 返回 null 同样被缓存
+        assertNull(bookService.queryTitle(-1));
+        assertNull(bookService.queryTitle(-1));
+        assertEquals(2, bookService.getQueryCount());
+        // 多个参数组成的键
+        assertEquals("1/10", bookService.queryPage(1, 10));
+        assertEquals("1/10", bookService.queryPage(1, 10));
+        assertEquals("2/10", bookService.queryPage(2, 10));
+        assertEquals(4, bookService.getQueryCount());
+
+        bookService.rename(1);
+        assertEquals("book-1", bookService.queryTitle(1));
+        assertEquals(5, bookService.getQueryCount());
+        assertNull(bookService.queryTitle(-1));
+        assertEquals(5, bookService.getQueryCount());
+
+        bookService.clear();
+        assertEquals(0, cacheManager.getCache("cachedBook").size());
+        assertEquals(2, cacheManager.getCache("cachedBookPage").size());
+
+        CacheStats stats = cacheManager.stats().get("cachedBook");
+        assertEquals(3, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+    }
+
+    @DisplayName("Cacheable 的 maxSize 不是正数时织入失败：invalidMaxSizeTest")
+    @Test
+    void invalidMaxSizeTest() {
+        AspectInfo aspectInfo = new AspectInfo(Integer.MIN_VALUE + 1, new CacheAspect(),
+                new PointcutLocator(CacheAspect.class.getAnnotation(Aspect.class).pointcut()));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new AspectListExecutor(
+                InvalidSizeBook.class, Collections.singletonList(aspectInfo)));
+        assertTrue(e.getMessage().startsWith("maxSize of @Cacheable on"), e.getMessage());
+    }
+
+    private static class InvalidSizeBook {
+
+        @Cacheable(maxSize = 0)
+        public String queryTitle(Integer id) {
+            return "book-" + id;
+        }
+    }
+}
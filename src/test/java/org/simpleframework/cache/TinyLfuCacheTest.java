@@ -0,0 +1,129 @@
+package org.simpleframework.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TinyLfuCacheTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class TinyLfuCacheTest {
+
+    @DisplayName("容量不足时淘汰访问频率低的缓存项，访问间隔超过容量的热点不会被一次性的访问挤掉：admissionTest")
+    @Test
+    void admissionTest() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("admission", 100, 0);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "hot-" + i);
+        }
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 10; i++) {
+                assertEquals("hot-" + i, cache.get(i));
+            }
+        }
+        // 大量只访问一次的缓存项，热点的访问间隔大于容量，LRU 会在两次访问之间淘汰它们
+        for (int i = 1000; i < 3000; i++) {
+            cache.put(i, "cold-" + i);
+            if (i % 150 == 0) {
+                for (int j = 0; j < 10; j++) {
+                    assertEquals("hot-" + j, cache.get(j));
+                }
+            }
+        }
+        assertEquals(100, cache.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("hot-" + i, cache.get(i));
+        }
+        assertEquals(1910, cache.stats().getEvictionCount());
+    }
+
+    @DisplayName("缓存项过期后读取不到并被移除：ttlTest")
+    @Test
+    void ttlTest() throws InterruptedException {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>("ttl", 16, TimeUnit.MILLISECONDS.toNanos(20));
+        cache.put("key", "value");
+        assertEquals("value", cache.get("key"));
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @DisplayName("移除和清空缓存项：invalidateTest")
+    @Test
+    void invalidateTest() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>("invalidate", 4, 0);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("a", "3");
+        assertEquals("3", cache.get("a"));
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.size());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        // 清空后仍然可以继续使用
+        cache.put("c", "4");
+        assertEquals("4", cache.get("c"));
+        assertEquals(0, cache.stats().getEvictionCount());
+    }
+
+    @DisplayName("并发读写后缓存项的数量不超过容量：concurrentTest")
+    @Test
+    void concurrentTest() throws Exception {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>("concurrent", 64, 0);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        int key = ThreadLocalRandom.current().nextInt(256);
+                        Integer value = cache.get(key);
+                        if (null == value) {
+                            cache.put(key, key);
+                        } else {
+                            assertEquals(key, value.intValue());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertTrue(cache.size() <= 64);
+        assertEquals(80000, cache.stats().getHitCount() + cache.stats().getMissCount());
+    }
+
+    @DisplayName("容量很大时频率估算占用的内存有上限：hugeCapacityTest")
+    @Test
+    void hugeCapacityTest() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("huge", Integer.MAX_VALUE, 0);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "value-" + i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals("value-1", cache.get(1));
+    }
+}
@@ -0,0 +1,44 @@
+package org.simpleframework.cached;
+
+import org.simpleframework.cache.annotation.CacheEvict;
+import org.simpleframework.cache.annotation.Cacheable;
+import org.simpleframework.core.annotation.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CachedBookService
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Service
+public class CachedBookService {
+
+    private final AtomicInteger queryCount = new AtomicInteger();
+
+    @Cacheable(name = "cachedBook", maxSize = 16)
+    public String queryTitle(Integer id) {
+        queryCount.incrementAndGet();
+        return id < 0 ? null : "book-" + id;
+    }
+
+    @Cacheable(name = "cachedBookPage")
+    public String queryPage(int page, int size) {
+        queryCount.incrementAndGet();
+        return page + "/" + size;
+    }
+
+    @CacheEvict(name = "cachedBook")
+    public void rename(Integer id) {
+    }
+
+    @CacheEvict(name = "cachedBook", allEntries = true)
+    public void clear() {
+    }
+
+    public int getQueryCount() {
+        return queryCount.get();
+    }
+}
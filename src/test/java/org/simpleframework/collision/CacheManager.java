@@ -0,0 +1,16 @@
+package org.simpleframework.collision;
+
+import org.simpleframework.core.annotation.Component;
+
+/**
+ * CacheManager
+ * <br>
+ * 与框架内置的 CacheManager 同名的用户类
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component
+public class CacheManager {
+}
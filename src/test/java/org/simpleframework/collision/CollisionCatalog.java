@@ -0,0 +1,31 @@
+package org.simpleframework.collision;
+
+import org.simpleframework.cache.annotation.Cacheable;
+import org.simpleframework.core.annotation.Service;
+import org.simpleframework.metrics.annotation.Timed;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CollisionCatalog
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Service
+public class CollisionCatalog {
+
+    private final AtomicInteger queryCount = new AtomicInteger();
+
+    @Timed("collisionCatalog.queryName")
+    @Cacheable(name = "collisionCatalog")
+    public String queryName(Integer id) {
+        queryCount.incrementAndGet();
+        return "item-" + id;
+    }
+
+    public int getQueryCount() {
+        return queryCount.get();
+    }
+}
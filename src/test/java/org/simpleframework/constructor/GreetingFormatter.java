@@ -0,0 +1,20 @@
+package org.simpleframework.constructor;
+
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Lazy;
+
+/**
+ * GreetingFormatter
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Lazy
+@Component
+public class GreetingFormatter {
+
+    public String format(String greeting, String name) {
+        return greeting + ", " + name;
+    }
+}
@@ -0,0 +1,18 @@
+package org.simpleframework.constructor;
+
+import org.simpleframework.core.annotation.Repository;
+
+/**
+ * GreetingRepository
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Repository
+public class GreetingRepository {
+
+    public String findGreeting() {
+        return "hello";
+    }
+}
@@ -0,0 +1,29 @@
+package org.simpleframework.constructor;
+
+import lombok.Getter;
+import org.simpleframework.core.annotation.Service;
+
+/**
+ * GreetingService
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+@Service
+public class GreetingService {
+
+    private final GreetingRepository greetingRepository;
+
+    private final GreetingFormatter greetingFormatter;
+
+    public GreetingService(GreetingRepository greetingRepository, GreetingFormatter greetingFormatter) {
+        this.greetingRepository = greetingRepository;
+        this.greetingFormatter = greetingFormatter;
+    }
+
+    public String greet(String name) {
+        return greetingFormatter.format(greetingRepository.findGreeting(), name);
+    }
+}
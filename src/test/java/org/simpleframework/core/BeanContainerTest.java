@@ -3,7 +3,18 @@ package org.simpleframework.core;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.simpleframework.chen.controller.TestController;
+import org.simpleframework.chen.service.TestService;
+import org.simpleframework.chen.serviceImpl.TestServiceImpl;
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Controller;
+import org.simpleframework.core.annotation.Service;
+
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * @version 1.0
  * @date 2021/9/21
  */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class BeanContainerTest {
 
     private static BeanContainer beanContainer;
@@ -24,6 +36,7 @@ class BeanContainerTest {
     }
 
     @DisplayName("加载目标对象及其实例到BeanContainer：loadBeansTest")
+    @Order(1)
     @Test
     void loadBeansTest() {
         // 没有加载 bean 时查看容器是否被加载
@@ -35,4 +48,79 @@ class BeanContainerTest {
         // 测试当前 bean 容器是否被加载
         assertTrue(beanContainer.isLoaded());
     }
-}
\ No newline at end of file
+
+    @DisplayName("根据注解获取 class 集合：getClassesByAnnotationTest")
+    @Order(2)
+    @Test
+    void getClassesByAnnotationTest() {
+        assertEquals(Collections.singleton(TestController.class), beanContainer.getClassesByAnnotation(Controller.class));
+        assertEquals(Collections.singleton(TestServiceImpl.class), beanContainer.getClassesByAnnotation(Service.class));
+        assertTrue(beanContainer.getClassesByAnnotation(Deprecated.class).isEmpty());
+        // 返回的集合不可修改
+        assertThrows(UnsupportedOperationException.class,
+                () -> beanContainer.getClassesByAnnotation(Service.class).add(TestController.class));
+    }
+
+    @DisplayName("根据父类或接口获取 class 集合，删除 bean 时同步更新：getClassesBySuperTest")
+    @Order(3)
+    @Test
+    void getClassesBySuperTest() {
+        assertEquals(Collections.singleton(TestServiceImpl.class), beanContainer.getClassesBySuper(TestService.class));
+        assertEquals(2, beanContainer.getClassesBySuper(Object.class).size());
+        assertTrue(beanContainer.getClassesBySuper(TestServiceImpl.class).isEmpty());
+
+        Object bean = beanContainer.remove(TestServiceImpl.class);
+        assertTrue(beanContainer.getClassesBySuper(TestService.class).isEmpty());
+        assertTrue(beanContainer.getClassesByAnnotation(Service.class).isEmpty());
+        beanContainer.addBean(TestServiceImpl.class, bean);
+        assertEquals(Collections.singleton(TestServiceImpl.class), beanContainer.getClassesBySuper(TestService.class));
+    }
+
+    @DisplayName("根据名称获取 bean，名称不能重复：getBeanByNameTest")
+    @Order(4)
+    @Test
+    void getBeanByNameTest() {
+        // 未指定名称时使用类的简单名称
+        assertSame(beanContainer.getBean(TestServiceImpl.class), beanContainer.getBean("TestServiceImpl"));
+        assertSame(beanContainer.getBean(TestController.class), beanContainer.getBean("TestController"));
+        // 指定了名称时只能通过指定的名称获取
+        beanContainer.addBean(NamedComponent.class, new NamedComponent());
+        assertSame(beanContainer.getBean(NamedComponent.class), beanContainer.getBean("namedComponent"));
+        assertNull(beanContainer.getBean("NamedComponent"));
+        assertNotNull(beanContainer.remove(NamedComponent.class));
+        assertEquals(TestServiceImpl.class, beanContainer.getClassByName("TestServiceImpl"));
+        // 不同的类使用相同的名称
+        beanContainer.addBean(Duplicate.class, new Object());
+        assertThrows(RuntimeException.class, () -> beanContainer.addBean(Nested.Duplicate.class, new Object()));
+        assertNull(beanContainer.getBean(Nested.Duplicate.class));
+        assertNotNull(beanContainer.remove(Duplicate.class));
+        assertNull(beanContainer.getBean("Duplicate"));
+    }
+
+    @DisplayName("冻结后只读：freezeTest")
+    @Order(5)
+    @Test
+    void freezeTest() {
+        Object bean = beanContainer.getBean(TestServiceImpl.class);
+        beanContainer.freeze();
+        assertTrue(beanContainer.isFrozen());
+        assertSame(bean, beanContainer.getBean(TestServiceImpl.class));
+        assertNull(beanContainer.getBean(TestService.class));
+        assertEquals(2, beanContainer.getClasses().size());
+        // 修改操作直接失败
+        assertThrows(IllegalStateException.class, () -> beanContainer.addBean(TestService.class, bean));
+        assertThrows(IllegalStateException.class, () -> beanContainer.remove(TestServiceImpl.class));
+        assertThrows(UnsupportedOperationException.class, () -> beanContainer.getClasses().remove(TestServiceImpl.class));
+        assertSame(bean, beanContainer.getBean(TestServiceImpl.class));
+    }
+
+    @Component("namedComponent")
+    static class NamedComponent {}
+
+    private static class Duplicate {}
+
+    private static class Nested {
+
+        private static class Duplicate {}
+    }
+}
@@ -0,0 +1,56 @@
+package org.simpleframework.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.aop.AspectTarget;
+import org.simpleframework.aop.TestAspect;
+import org.simpleframework.chen.controller.TestController;
+import org.simpleframework.core.scan.PackageTrie;
+import org.simpleframework.ioc.TestIOC;
+import org.simpleframework.lazy.LazyRepository;
+import org.simpleframework.lazy.LazyService;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BeanDependencyGraphTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class BeanDependencyGraphTest {
+
+    @DisplayName("按构造方法参数依赖分层并检测循环依赖：buildTest")
+    @Test
+    void buildTest() {
+        BeanDependencyGraph graph = BeanDependencyGraph.build(Arrays.asList(
+                TestIOC.class, AspectTarget.class, LazyService.class, LazyRepository.class, TestController.class));
+        // 成员变量依赖不约束创建顺序，只使用成员变量注入的 bean 都在同一层
+        List<List<Class<?>>> layers = graph.getLayers();
+        assertEquals(1, layers.size());
+        assertEquals(new HashSet<>(Arrays.asList(TestIOC.class, AspectTarget.class, LazyService.class,
+                LazyRepository.class, TestController.class)), new HashSet<>(layers.get(0)));
+        assertTrue(graph.getDependencies().get(TestIOC.class).contains(AspectTarget.class));
+        assertTrue(graph.getConstructorDependencies().get(TestIOC.class).isEmpty());
+
+        assertEquals(1, graph.getCycles().size());
+        assertEquals(new HashSet<>(Arrays.asList(LazyService.class, LazyRepository.class)), graph.getCycles().get(0));
+    }
+
+    @DisplayName("并行创建 bean：createBeansTest")
+    @Test
+    void createBeansTest() {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.setInitParallelism(4);
+        beanContainer.loadBeans(PackageTrie.of("org.simpleframework.aop", "org.simpleframework.ioc"), 1);
+        assertEquals(3, beanContainer.size());
+        assertNotNull(beanContainer.getBean(TestIOC.class));
+        assertNotNull(beanContainer.getBean(AspectTarget.class));
+        assertNotNull(beanContainer.getBean(TestAspect.class));
+    }
+}
@@ -0,0 +1,84 @@
+package org.simpleframework.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.simpleframework.collision.CollisionCatalog;
+import org.simpleframework.core.scan.PackageTrie;
+import org.simpleframework.index.ProcessorCompiler;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BeanIndexTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class BeanIndexTest {
+
+    private static final String INDEXED_PACKAGE = "org.simpleframework.indexed";
+
+    private static final String SCANNED_PACKAGE = "org.simpleframework.collision";
+
+    @DisplayName("只有部分根包有索引时，有索引的根包使用索引，其他根包仍然扫描：mixedRootsTest")
+    @Test
+    void mixedRootsTest(@TempDir Path workDirectory) throws Exception {
+        ProcessorCompiler.Result result = compileIndexedClasses(workDirectory);
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{result.getClasses().toUri().toURL()},
+                getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            PackageTrie packages = PackageTrie.of(INDEXED_PACKAGE, SCANNED_PACKAGE);
+            BeanIndex beanIndex = BeanIndex.load(classLoader);
+            assertNotNull(beanIndex);
+            assertTrue(beanIndex.covers(INDEXED_PACKAGE, classLoader));
+            assertFalse(beanIndex.covers(SCANNED_PACKAGE, classLoader));
+            assertEquals(2, beanIndex.getCandidateClasses(INDEXED_PACKAGE, packages).size());
+
+            BeanContainer beanContainer = BeanContainer.getInstance();
+            beanContainer.loadBeans(packages, 1);
+            assertNotNull(beanContainer.getBean(classLoader.loadClass(INDEXED_PACKAGE + ".IndexedService")));
+            assertNotNull(beanContainer.getBean(CollisionCatalog.class));
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    @DisplayName("索引中的类已经不存在时不会中断启动，该根包回退到扫描：staleIndexTest")
+    @Test
+    void staleIndexTest(@TempDir Path workDirectory) throws Exception {
+        ProcessorCompiler.Result result = compileIndexedClasses(workDirectory);
+        Files.write(result.getClasses().resolve(BeanIndex.INDEX_LOCATION),
+                (INDEXED_PACKAGE + ".RemovedService\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{result.getClasses().toUri().toURL()},
+                getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            BeanIndex beanIndex = BeanIndex.load(classLoader);
+            assertNotNull(beanIndex);
+            assertTrue(beanIndex.covers(INDEXED_PACKAGE, classLoader));
+            assertNull(beanIndex.getCandidateClasses(INDEXED_PACKAGE, PackageTrie.of(INDEXED_PACKAGE)));
+            // 按包名获取时跳过不存在的类
+            assertEquals(2, beanIndex.getCandidateClasses(INDEXED_PACKAGE).size());
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    private static ProcessorCompiler.Result compileIndexedClasses(Path workDirectory) throws Exception {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(workDirectory, Collections.emptyList(),
+                "processor/index/IndexedService.java", "processor/index/IndexedHelper.java");
+        assertTrue(result.isSuccess(), result.getDiagnostics().toString());
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+package org.simpleframework.core;
+
+import net.sf.cglib.proxy.MethodInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.aop.ProxyCreator;
+import org.simpleframework.constructor.GreetingFormatter;
+import org.simpleframework.constructor.GreetingRepository;
+import org.simpleframework.constructor.GreetingService;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConstructorInjectionTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class ConstructorInjectionTest {
+
+    @DisplayName("通过构造方法注入 final 成员变量：constructorInjectionTest")
+    @Test
+    void constructorInjectionTest() {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.setInitParallelism(2);
+        beanContainer.loadBeans("org.simpleframework.constructor");
+        // 作为构造方法参数的懒加载 bean 在启动时创建
+        assertEquals(3, beanContainer.size());
+        GreetingService greetingService = (GreetingService) beanContainer.getBean(GreetingService.class);
+        assertSame(beanContainer.getBean(GreetingRepository.class), greetingService.getGreetingRepository());
+        assertSame(beanContainer.getBean(GreetingFormatter.class), greetingService.getGreetingFormatter());
+        assertEquals("hello, chen", greetingService.greet("chen"));
+
+        // 没有无参构造方法的类使用相同的参数创建代理
+        Constructor<?> constructor = BeanContainer.getAutowiredConstructor(GreetingService.class);
+        assertNotNull(constructor);
+        MethodInterceptor interceptor = (proxy, method, args, methodProxy) -> methodProxy.invokeSuper(proxy, args);
+        GreetingService proxy = (GreetingService) ProxyCreator.createProxy(GreetingService.class, interceptor,
+                constructor.getParameterTypes(), beanContainer.resolveConstructorArguments(constructor));
+        assertSame(greetingService.getGreetingRepository(), proxy.getGreetingRepository());
+        assertEquals("hello, chen", proxy.greet("chen"));
+    }
+
+    @DisplayName("构造方法参数之间的循环依赖：constructorCycleTest")
+    @Test
+    void constructorCycleTest() {
+        BeanDependencyGraph graph = BeanDependencyGraph.build(Arrays.asList(GreetingService.class,
+                GreetingRepository.class, GreetingFormatter.class));
+        assertEquals(Arrays.asList(GreetingRepository.class, GreetingFormatter.class), graph.getLayers().get(0));
+        assertEquals(Arrays.asList(GreetingService.class), graph.getLayers().get(1));
+
+        assertThrows(RuntimeException.class, () -> BeanDependencyGraph.build(Arrays.asList(Chicken.class, Egg.class)));
+    }
+
+    private static class Chicken {
+
+        private final Egg egg;
+
+        private Chicken(Egg egg) {
+            this.egg = egg;
+        }
+    }
+
+    private static class Egg {
+
+        private final Chicken chicken;
+
+        private Egg(Chicken chicken) {
+            this.chicken = chicken;
+        }
+    }
+}
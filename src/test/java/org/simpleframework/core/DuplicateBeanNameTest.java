@@ -0,0 +1,47 @@
+package org.simpleframework.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.simpleframework.index.ProcessorCompiler;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DuplicateBeanNameTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class DuplicateBeanNameTest {
+
+    @DisplayName("不同包下的同名类都没有指定名称时启动失败：loadBeansTest")
+    @Test
+    void loadBeansTest(@TempDir Path workDirectory) throws Exception {
+        // 测试目录下的类会被其他测试整体扫描，同名的类单独编译到临时目录
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(workDirectory, Collections.emptyList(),
+                "fixture/duplicate/order/ExportService.java", "fixture/duplicate/user/ExportService.java");
+        assertTrue(result.isSuccess(), result.getDiagnostics().toString());
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{result.getClasses().toUri().toURL()},
+                getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            BeanContainer beanContainer = BeanContainer.getInstance();
+            RuntimeException e = assertThrows(RuntimeException.class,
+                    () -> beanContainer.loadBeans("org.simpleframework.duplicate"));
+            assertTrue(e.getMessage().startsWith("duplicate bean name 'ExportService'"), e.getMessage());
+            // 检查名称在创建 bean 之前，失败后容器中没有任何 bean
+            assertEquals(0, beanContainer.size());
+            assertFalse(beanContainer.isLoaded());
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+}
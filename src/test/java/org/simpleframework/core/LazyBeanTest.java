@@ -0,0 +1,71 @@
+package org.simpleframework.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.aop.AspectWeaver;
+import org.simpleframework.core.annotation.Service;
+import org.simpleframework.inject.DependencyInjector;
+import org.simpleframework.lazy.EagerComponent;
+import org.simpleframework.lazy.LazyRepository;
+import org.simpleframework.lazy.LazyService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LazyBeanTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class LazyBeanTest {
+
+    @DisplayName("懒加载的 bean 在第一次获取时创建并注入：getBeanTest")
+    @Test
+    void getBeanTest() throws Exception {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.setLazyInit(true);
+        beanContainer.loadBeans("org.simpleframework.lazy");
+        new AspectWeaver().doAOP();
+        new DependencyInjector().doIOC();
+
+        // 只有 @Lazy(false) 的 bean 在启动时创建，懒加载的 bean 仍然可以通过索引找到
+        assertTrue(beanContainer.isLoaded());
+        assertEquals(1, beanContainer.size());
+        assertTrue(beanContainer.getClasses().contains(EagerComponent.class));
+        assertTrue(beanContainer.getClassesByAnnotation(Service.class).contains(LazyService.class));
+
+        // 多个线程同时第一次获取，只会创建一个实例
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return beanContainer.getBean(LazyService.class);
+            }));
+        }
+        start.countDown();
+        Object first = futures.get(0).get();
+        for (Future<Object> future : futures) {
+            assertSame(first, future.get());
+        }
+        executor.shutdown();
+
+        // 循环依赖的懒加载 bean 相互注入
+        LazyService lazyService = (LazyService) first;
+        LazyRepository lazyRepository = lazyService.getLazyRepository();
+        assertNotNull(lazyRepository);
+        assertSame(lazyRepository, beanContainer.getBean(LazyRepository.class));
+        assertSame(lazyService, lazyRepository.getLazyService());
+        assertEquals(3, beanContainer.size());
+    }
+}
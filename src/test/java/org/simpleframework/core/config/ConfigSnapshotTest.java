@@ -0,0 +1,59 @@
+package org.simpleframework.core.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConfigSnapshotTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class ConfigSnapshotTest {
+
+    @DisplayName("展开 yml 的层级结构，properties 覆盖 yml 中相同的键：readTest")
+    @Test
+    void readTest() throws IOException {
+        Map<String, String> values = new TreeMap<>();
+        String yaml = "server:\n  pool:\n    size: 16\n  hosts:\n    - a\n    - b\n  name: yml\n";
+        ConfigSnapshot.readYaml(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)), values);
+        String properties = "server.name=properties\n";
+        ConfigSnapshot.readProperties(new ByteArrayInputStream(properties.getBytes(StandardCharsets.UTF_8)), values);
+        ConfigSnapshot snapshot = ConfigSnapshot.of(values);
+
+        assertEquals("16", snapshot.getString("server.pool.size"));
+        assertEquals("a,b", snapshot.getString("server.hosts"));
+        assertEquals("properties", snapshot.getString("server.name"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.asMap().put("server.name", "changed"));
+    }
+
+    @DisplayName("解析 key:default 表达式并按类型转换，结果被缓存：resolveTest")
+    @Test
+    void resolveTest() {
+        Map<String, String> values = new TreeMap<>();
+        values.put("pool.size", "16");
+        values.put("timeout", "PT2S");
+        ConfigSnapshot snapshot = ConfigSnapshot.of(values);
+
+        assertEquals(16, snapshot.resolve("pool.size:8", int.class));
+        assertEquals(8L, snapshot.resolve("missing.size:8", long.class));
+        assertEquals("http://localhost:8080", snapshot.resolve("missing.url:http://localhost:8080", String.class));
+        assertEquals("", snapshot.resolve("missing.text:", String.class));
+        assertEquals(Duration.ofSeconds(2), snapshot.resolve("timeout", Duration.class));
+        assertEquals(Duration.ofMinutes(5), snapshot.resolve("missing.timeout:5m", Duration.class));
+        assertSame(snapshot.resolve("timeout", Duration.class), snapshot.resolve("timeout", Duration.class));
+        assertThrows(RuntimeException.class, () -> snapshot.resolve("missing.size", int.class));
+        assertThrows(RuntimeException.class, () -> snapshot.resolve("missing.size:", int.class));
+        assertThrows(RuntimeException.class, () -> snapshot.resolve("missing.size:many", int.class));
+    }
+}
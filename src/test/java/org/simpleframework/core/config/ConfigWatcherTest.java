@@ -0,0 +1,91 @@
+package org.simpleframework.core.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.simpleframework.core.BeanContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConfigWatcherTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class ConfigWatcherTest {
+
+    @DisplayName("配置文件变化后重新读取快照，读取失败时保留原有的快照：watchTest")
+    @Test
+    void watchTest(@TempDir Path directory) throws IOException, InterruptedException {
+        Path file = directory.resolve(ConfigSnapshot.CONFIG_FILE_PROPERTIES);
+        Files.write(file, "cache.size=16\n".getBytes(StandardCharsets.UTF_8));
+        BlockingQueue<ConfigSnapshot> snapshots = new LinkedBlockingQueue<>();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null);
+             ConfigWatcher watcher = ConfigWatcher.start(classLoader, snapshots::add)) {
+            assertNotNull(watcher);
+            Files.write(file, "cache.size=64\n".getBytes(StandardCharsets.UTF_8));
+            ConfigSnapshot snapshot = snapshots.poll(30, TimeUnit.SECONDS);
+            assertNotNull(snapshot);
+            assertEquals("64", snapshot.getString("cache.size"));
+
+            // 无法解析的 yml 不会产生新的快照
+            Files.write(directory.resolve(ConfigSnapshot.CONFIG_FILE_YAML), "cache: [".getBytes(StandardCharsets.UTF_8));
+            assertNull(snapshots.poll(2, TimeUnit.SECONDS));
+        }
+    }
+
+    @DisplayName("类加载器缓存了配置文件的旧内容时，重新读取的仍然是文件的最新内容：staleClassLoaderTest")
+    @Test
+    void staleClassLoaderTest(@TempDir Path directory) throws IOException, InterruptedException {
+        Path file = directory.resolve(ConfigSnapshot.CONFIG_FILE_PROPERTIES);
+        Files.write(file, "cache.size=16\n".getBytes(StandardCharsets.UTF_8));
+        byte[] cached = Files.readAllBytes(file);
+        BlockingQueue<ConfigSnapshot> snapshots = new LinkedBlockingQueue<>();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null) {
+            @Override
+            public InputStream getResourceAsStream(String name) {
+                // 与 web 容器的类加载器一样，总是返回第一次读取到的内容
+                return ConfigSnapshot.CONFIG_FILE_PROPERTIES.equals(name) ? new ByteArrayInputStream(cached) : null;
+            }
+        }; ConfigWatcher watcher = ConfigWatcher.start(classLoader, snapshots::add)) {
+            assertNotNull(watcher);
+            Files.write(file, "cache.size=64\n".getBytes(StandardCharsets.UTF_8));
+            ConfigSnapshot snapshot = snapshots.poll(30, TimeUnit.SECONDS);
+            assertNotNull(snapshot);
+            assertEquals("64", snapshot.getString("cache.size"));
+        }
+    }
+
+    @DisplayName("替换快照后通知值发生了变化的键的监听器：refreshTest")
+    @Test
+    void refreshTest() {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.setConfig(ConfigSnapshot.of(Collections.singletonMap("cache.size", "16")));
+        List<String> changes = new ArrayList<>();
+        beanContainer.addConfigListener("cache.size", (key, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        beanContainer.addConfigListener("cache.ttl", (key, oldValue, newValue) -> changes.add(key));
+
+        ConfigSnapshot snapshot = ConfigSnapshot.of(Collections.singletonMap("cache.size", "64"));
+        beanContainer.refreshConfig(snapshot);
+        assertSame(snapshot, beanContainer.getConfig());
+        assertEquals(64, beanContainer.getConfig().resolve("cache.size:16", int.class));
+        assertEquals(Collections.singletonList("16->64"), changes);
+    }
+}
@@ -0,0 +1,66 @@
+package org.simpleframework.core.scan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.aop.TestAspect;
+import org.simpleframework.aop.annotation.Aspect;
+import org.simpleframework.chen.controller.TestController;
+import org.simpleframework.chen.service.TestService;
+import org.simpleframework.chen.serviceImpl.TestServiceImpl;
+import org.simpleframework.core.annotation.Controller;
+import org.simpleframework.core.annotation.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ClassFileAnnotationReaderTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class ClassFileAnnotationReaderTest {
+
+    @DisplayName("不加载类，直接从 class 文件中读取类上的注解：hasAnyAnnotationTest")
+    @Test
+    void hasAnyAnnotationTest() throws IOException {
+        Set<String> service = ClassFileAnnotationReader.toDescriptors(Collections.singletonList(Service.class));
+        assertTrue(ClassFileAnnotationReader.hasAnyAnnotation(readClassFile(TestServiceImpl.class), service));
+        assertFalse(ClassFileAnnotationReader.hasAnyAnnotation(readClassFile(TestService.class), service));
+        assertFalse(ClassFileAnnotationReader.hasAnyAnnotation(readClassFile(TestController.class), service));
+
+        // 带有属性的注解以及多个注解同时存在的情况
+        Set<String> beans = ClassFileAnnotationReader.toDescriptors(Arrays.asList(Controller.class, Aspect.class));
+        assertTrue(ClassFileAnnotationReader.hasAnyAnnotation(readClassFile(TestController.class), beans));
+        assertTrue(ClassFileAnnotationReader.hasAnyAnnotation(readClassFile(TestAspect.class), beans));
+    }
+
+    @DisplayName("非法的 class 文件：malformedClassFileTest")
+    @Test
+    void malformedClassFileTest() {
+        Set<String> service = ClassFileAnnotationReader.toDescriptors(Collections.singletonList(Service.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> ClassFileAnnotationReader.hasAnyAnnotation(new byte[]{1, 2, 3, 4, 5, 6}, service));
+    }
+
+    private static byte[] readClassFile(Class<?> clazz) throws IOException {
+        String resource = clazz.getName().replace('.', '/') + ".class";
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(in);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.simpleframework.core.scan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.simpleframework.chen.controller.TestController;
+import org.simpleframework.chen.mapper.TestMapper;
+import org.simpleframework.chen.service.TestService;
+import org.simpleframework.chen.serviceImpl.TestServiceImpl;
+import org.simpleframework.core.annotation.Controller;
+import org.simpleframework.core.annotation.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JarClassScannerTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class JarClassScannerTest {
+
+    @DisplayName("通过中央目录扫描 jar 包中的类：extractClassesTest")
+    @Test
+    void extractClassesTest(@TempDir Path tempDir) throws IOException {
+        Path jar = tempDir.resolve("beans.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+            // 与包前缀无关的条目不应该被读取
+            putEntry(out, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n".getBytes(), true);
+            putEntry(out, "org/simpleframework/chenx/Other.class", new byte[]{0, 1, 2}, true);
+            // 同时覆盖压缩和未压缩两种存储方式
+            putClass(out, TestServiceImpl.class, true);
+            putClass(out, TestController.class, false);
+            putClass(out, TestService.class, true);
+            putClass(out, TestMapper.class, false);
+        }
+        URL url = new URL("jar:" + jar.toUri() + "!/org/simpleframework/chen");
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        Set<String> descriptors = ClassFileAnnotationReader.toDescriptors(Arrays.asList(Service.class, Controller.class));
+        Set<Class<?>> beans = JarClassScanner.extractClasses(url, "org.simpleframework.chen", descriptors, classLoader);
+        assertEquals(2, beans.size());
+        assertTrue(beans.contains(TestServiceImpl.class));
+        assertTrue(beans.contains(TestController.class));
+
+        Set<Class<?>> all = JarClassScanner.extractClasses(url, "org.simpleframework.chen", null, classLoader);
+        assertEquals(4, all.size());
+    }
+
+    private static void putClass(ZipOutputStream out, Class<?> clazz, boolean deflated) throws IOException {
+        String name = clazz.getName().replace('.', '/') + ".class";
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+            assertNotNull(in);
+            putEntry(out, name, readFully(in), deflated);
+        }
+    }
+
+    private static void putEntry(ZipOutputStream out, String name, byte[] content, boolean deflated) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        if (!deflated) {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(content.length);
+            entry.setCompressedSize(content.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(content);
+        out.closeEntry();
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
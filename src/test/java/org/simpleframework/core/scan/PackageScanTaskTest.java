@@ -0,0 +1,54 @@
+package org.simpleframework.core.scan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.aop.annotation.Aspect;
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Controller;
+import org.simpleframework.core.annotation.Repository;
+import org.simpleframework.core.annotation.Service;
+import org.simpleframework.util.ClassUtil;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PackageScanTaskTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class PackageScanTaskTest {
+
+    private static final List<Class<? extends Annotation>> BEAN_ANNOTATIONS =
+            Arrays.asList(Component.class, Controller.class, Service.class, Repository.class, Aspect.class);
+
+    @DisplayName("并行扫描与顺序扫描的结果相同：parallelScanTest")
+    @Test
+    void parallelScanTest() {
+        Set<Class<?>> serial = ClassUtil.extractPackageClass("org.simpleframework", BEAN_ANNOTATIONS, 1);
+        assertFalse(serial.isEmpty());
+        for (int parallelism : new int[]{2, 4, 8}) {
+            assertEquals(serial, ClassUtil.extractPackageClass("org.simpleframework", BEAN_ANNOTATIONS, parallelism));
+        }
+
+        // 不按注解过滤时包含所有的类
+        Set<Class<?>> all = ClassUtil.extractPackageClass("org.simpleframework", null, 1);
+        assertTrue(all.containsAll(serial));
+        assertTrue(all.size() > serial.size());
+        assertEquals(all, ClassUtil.extractPackageClass("org.simpleframework", null, 4));
+
+        // 多个根包以及排除规则
+        PackageTrie packages = PackageTrie.compile(Arrays.asList("org.simpleframework.chen", "org.simpleframework.aop"),
+                Collections.emptyList(), Collections.singletonList("org.simpleframework.chen.mapper"));
+        Set<Class<?>> filtered = ClassUtil.extractPackageClass(packages, null, 1);
+        assertTrue(filtered.stream().noneMatch(clazz -> clazz.getName().startsWith("org.simpleframework.chen.mapper")));
+        assertEquals(filtered, ClassUtil.extractPackageClass(packages, null, 4));
+    }
+}
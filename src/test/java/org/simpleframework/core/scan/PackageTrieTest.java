@@ -0,0 +1,66 @@
+package org.simpleframework.core.scan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.chen.controller.TestController;
+import org.simpleframework.chen.serviceImpl.TestServiceImpl;
+import org.simpleframework.core.annotation.Controller;
+import org.simpleframework.core.annotation.Service;
+import org.simpleframework.util.ClassUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PackageTrieTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class PackageTrieTest {
+
+    @DisplayName("重叠的根包只保留最外层：getRootsTest")
+    @Test
+    void getRootsTest() {
+        PackageTrie packages = PackageTrie.compile(
+                Arrays.asList("com.chen.demo.service", "com.chen.demo", "org.simpleframework.chen", "com.chen.other"),
+                Collections.emptyList(), Collections.singletonList("com.chen.other"));
+        assertEquals(Arrays.asList("com.chen.demo", "org.simpleframework.chen"), packages.getRoots());
+    }
+
+    @DisplayName("包含和排除规则：containsTest")
+    @Test
+    void containsTest() {
+        PackageTrie packages = PackageTrie.compile(Collections.singletonList("com.chen"),
+                Collections.singletonList("com.chen.*.web"),
+                Arrays.asList("*.dto", "com.chen.legacy", "com.**.internal"));
+        assertTrue(packages.contains("com.chen.demo.web"));
+        assertTrue(packages.contains("com.chen.demo.web.controller"));
+        assertFalse(packages.contains("com.chen.demo.service"));
+        assertFalse(packages.contains("com.chen.demo.web.dto"));
+        assertFalse(packages.contains("com.chen.demo.web.dto.request"));
+        assertFalse(packages.contains("com.chen.legacy.web"));
+        assertFalse(packages.contains("com.chen.demo.web.internal"));
+        assertFalse(packages.contains("org.simpleframework"));
+
+        assertTrue(packages.isPruned("com.chen.legacy"));
+        assertTrue(packages.isPruned("com.chen.demo.dto"));
+        assertFalse(packages.isPruned("com.chen.demo"));
+    }
+
+    @DisplayName("扫描时跳过被排除的包：extractPackageClassTest")
+    @Test
+    void extractPackageClassTest() {
+        PackageTrie packages = PackageTrie.compile(Collections.singletonList("org.simpleframework.chen"),
+                Collections.emptyList(), Collections.singletonList("*.controller"));
+        Set<Class<?>> sequential = ClassUtil.extractPackageClass(packages, Arrays.asList(Service.class, Controller.class), 1);
+        Set<Class<?>> parallel = ClassUtil.extractPackageClass(packages, Arrays.asList(Service.class, Controller.class), 4);
+        assertTrue(sequential.contains(TestServiceImpl.class));
+        assertFalse(sequential.contains(TestController.class));
+        assertEquals(sequential, parallel);
+    }
+}
@@ -0,0 +1,41 @@
+package org.simpleframework.core.scope;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ObjectPoolTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class ObjectPoolTest {
+
+    @DisplayName("借出、归还实例，空闲实例数不超过容量：borrowTest")
+    @Test
+    void borrowTest() {
+        AtomicInteger created = new AtomicInteger();
+        ObjectPool<StringBuilder> pool = new ObjectPool<>(2, () -> {
+            created.incrementAndGet();
+            return new StringBuilder();
+        });
+        StringBuilder first = pool.borrow();
+        pool.giveBack(first);
+        assertSame(first, pool.borrow());
+        assertEquals(1, created.get());
+
+        StringBuilder second = pool.borrow();
+        StringBuilder third = pool.borrow();
+        assertEquals(3, created.get());
+        pool.giveBack(first);
+        pool.giveBack(second);
+        pool.giveBack(third);
+        assertEquals(2, pool.idleCount());
+        assertThrows(IllegalArgumentException.class, () -> new ObjectPool<>(0, Object::new));
+    }
+}
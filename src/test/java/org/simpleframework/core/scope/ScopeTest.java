@@ -0,0 +1,87 @@
+package org.simpleframework.core.scope;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.inject.DependencyInjector;
+import org.simpleframework.scope.PooledParser;
+import org.simpleframework.scope.PrototypeCounter;
+import org.simpleframework.scope.PrototypeGreeter;
+import org.simpleframework.scope.ScopedConsumer;
+import org.simpleframework.scope.ThreadBuffer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ScopeTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class ScopeTest {
+
+    private static ScopedConsumer scopedConsumer;
+
+    @BeforeAll
+    static void init() {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.loadBeans("org.simpleframework.scope");
+        new DependencyInjector().doIOC();
+        scopedConsumer = (ScopedConsumer) beanContainer.getBean(ScopedConsumer.class);
+        assertTrue(beanContainer.isScoped(PrototypeCounter.class));
+        assertFalse(beanContainer.isScoped(ScopedConsumer.class));
+    }
+
+    @DisplayName("原型作用域每次调用创建新的实例：prototypeTest")
+    @Test
+    void prototypeTest() {
+        assertEquals(1, scopedConsumer.getPrototypeCounter().increment());
+        assertEquals(1, scopedConsumer.getPrototypeCounter().increment());
+    }
+
+    @DisplayName("构造方法注入的作用域 bean，代理对象不调用构造方法：constructorTest")
+    @Test
+    void constructorTest() {
+        // 代理对象创建时没有调用构造方法，只有作用域中的实例会调用
+        assertEquals(0, PrototypeGreeter.CONSTRUCTIONS.get());
+        assertEquals("hi, chen", scopedConsumer.getPrototypeGreeter().greet("chen"));
+        assertEquals("hi, chen", scopedConsumer.getPrototypeGreeter().greet("chen"));
+        assertEquals(2, PrototypeGreeter.CONSTRUCTIONS.get());
+    }
+
+    @DisplayName("线程作用域每个线程一个实例：threadTest")
+    @Test
+    void threadTest() throws ExecutionException, InterruptedException {
+        ThreadBuffer threadBuffer = scopedConsumer.getThreadBuffer();
+        threadBuffer.append("a");
+        assertEquals("ab", threadBuffer.append("b"));
+        assertEquals("c", CompletableFuture.supplyAsync(() -> threadBuffer.append("c")).get());
+    }
+
+    @DisplayName("请求作用域只在请求中可用，同一个请求中是同一个实例：requestTest")
+    @Test
+    void requestTest() {
+        assertThrows(IllegalStateException.class, () -> scopedConsumer.getRequestContext().self());
+        RequestScope.begin();
+        Object first = scopedConsumer.getRequestContext().self();
+        assertSame(first, scopedConsumer.getRequestContext().self());
+        RequestScope.end();
+        RequestScope.begin();
+        assertNotSame(first, scopedConsumer.getRequestContext().self());
+        RequestScope.end();
+    }
+
+    @DisplayName("对象池作用域归还后复用实例，实例创建时完成注入：pooledTest")
+    @Test
+    void pooledTest() {
+        PooledParser pooledParser = scopedConsumer.getPooledParser();
+        assertSame(pooledParser.self(), pooledParser.self());
+        assertNotSame(pooledParser, pooledParser.self());
+        assertEquals(1, pooledParser.count());
+    }
+}
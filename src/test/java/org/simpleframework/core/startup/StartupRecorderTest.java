@@ -0,0 +1,42 @@
+package org.simpleframework.core.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.aop.AspectWeaver;
+import org.simpleframework.chen.serviceImpl.TestServiceImpl;
+import org.simpleframework.core.BeanContainer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StartupRecorderTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class StartupRecorderTest {
+
+    @DisplayName("记录启动过程中各个步骤的耗时：finishTest")
+    @Test
+    void finishTest() {
+        StartupRecorder recorder = StartupRecorder.start();
+        assertSame(recorder, StartupRecorder.current());
+        recorder.run(StartupRecorder.PHASE, "loadBeans", () -> BeanContainer.getInstance().loadBeans("org.simpleframework.chen"));
+        recorder.run(StartupRecorder.PHASE, "doAOP", () -> new AspectWeaver().doAOP());
+        StartupReport report = recorder.finish();
+        // 结束之后不再记录
+        assertFalse(StartupRecorder.current().isEnabled());
+
+        assertEquals(2, report.getPhases().size());
+        assertEquals("loadBeans", report.getPhases().get(0).getName());
+        assertTrue(report.getPhases().get(0).getDurationNanos() > 0);
+        assertTrue(report.getTotalNanos() >= report.getPhases().get(1).getOffsetNanos());
+        assertFalse(report.getPackages().isEmpty());
+        assertEquals(2, report.getBeans().size());
+        assertTrue(report.getBeans().stream().anyMatch(step -> TestServiceImpl.class.getName().equals(step.getName())));
+
+        assertTrue(report.summary().contains("beans=2"));
+        assertTrue(report.toJson().contains("\"durationNanos\""));
+    }
+}
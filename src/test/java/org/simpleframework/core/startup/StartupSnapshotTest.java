@@ -0,0 +1,74 @@
+package org.simpleframework.core.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.simpleframework.chen.serviceImpl.TestServiceImpl;
+import org.simpleframework.core.BeanContainer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StartupSnapshotTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class StartupSnapshotTest {
+
+    @DisplayName("指纹一致时回放快照，不一致时重新记录：openTest")
+    @Test
+    void openTest(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("snapshot.json");
+        String fingerprint = ClasspathFingerprint.compute(getClass().getClassLoader(), "org.simpleframework.chen");
+        assertEquals(fingerprint, ClasspathFingerprint.compute(getClass().getClassLoader(), "org.simpleframework.chen"));
+        assertNotEquals(fingerprint, ClasspathFingerprint.compute(getClass().getClassLoader(), "org.simpleframework"));
+
+        // 第一次启动，记录扫描结果
+        StartupSnapshot snapshot = StartupSnapshot.open(file, fingerprint);
+        assertFalse(snapshot.isReplaying());
+        BeanContainer.getInstance().loadBeans("org.simpleframework.chen");
+        snapshot.recordAspectMatches(TestServiceImpl.class, Collections.singletonList(Object.class));
+        snapshot.recordRoute(new StartupSnapshot.Route("GET", "/test/hello", TestServiceImpl.class.getName(),
+                "hello", Collections.singletonList("int"), Collections.singletonList("id")));
+        snapshot.close();
+        assertTrue(Files.isRegularFile(file));
+        assertFalse(StartupSnapshot.current().isReplaying());
+
+        // classpath 没有变化，回放快照
+        StartupSnapshot replay = StartupSnapshot.open(file, fingerprint);
+        assertTrue(replay.isReplaying());
+        assertEquals(2, replay.getBeanClasses().size());
+        assertTrue(replay.getBeanClasses().contains(TestServiceImpl.class.getName()));
+        assertEquals(Collections.singletonList(Object.class.getName()), replay.getAspectMatches(TestServiceImpl.class));
+        assertEquals(Arrays.asList("int"), replay.getRoutes().get(0).getParameterTypes());
+        replay.close();
+
+        // classpath 发生变化，重新记录
+        StartupSnapshot changed = StartupSnapshot.open(file, fingerprint + "0");
+        assertFalse(changed.isReplaying());
+        assertTrue(changed.getBeanClasses().isEmpty());
+        // 回放失败时删除快照
+        changed.invalidate("test", null);
+        changed.close();
+        assertFalse(Files.exists(file));
+    }
+
+    @DisplayName("启动失败时放弃快照，记录了一部分的快照不写入文件：discardTest")
+    @Test
+    void discardTest(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("snapshot.json");
+        StartupSnapshot snapshot = StartupSnapshot.open(file, "fingerprint");
+        assertSame(snapshot, StartupSnapshot.current());
+        snapshot.recordAspectMatches(TestServiceImpl.class, Collections.singletonList(Object.class));
+        snapshot.discard();
+        assertNotSame(snapshot, StartupSnapshot.current());
+        assertFalse(Files.exists(file));
+    }
+}
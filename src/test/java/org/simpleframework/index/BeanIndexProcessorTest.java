@@ -0,0 +1,58 @@
+package org.simpleframework.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.simpleframework.core.BeanIndex;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BeanIndexProcessorTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class BeanIndexProcessorTest {
+
+    @DisplayName("编译时生成 bean 索引，运行时按索引加载：indexTest")
+    @Test
+    void indexTest(@TempDir Path workDirectory) throws Exception {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(workDirectory, Collections.emptyList(),
+                "processor/index/IndexedService.java", "processor/index/IndexedHelper.java");
+        assertTrue(result.isSuccess(), result.getDiagnostics().toString());
+
+        List<String> lines = Arrays.asList(result.read(result.getClasses(), BeanIndex.INDEX_LOCATION).split("\n"));
+        assertTrue(lines.get(0).startsWith("# generated by org.simpleframework.index.BeanIndexProcessor"));
+        // 嵌套类记录二进制名称，接口和没有 bean 注解的类不在索引中
+        assertEquals(Arrays.asList("org.simpleframework.indexed.IndexedService",
+                "org.simpleframework.indexed.IndexedService$Inner"), lines.subList(1, lines.size()));
+        // 没有开启装配模式时不生成装配代码
+        assertFalse(Files.exists(result.getClasses().resolve("META-INF/simpleframework/bean.wiring")));
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{result.getClasses().toUri().toURL()},
+                getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            BeanIndex beanIndex = BeanIndex.load(classLoader);
+            assertNotNull(beanIndex);
+            Set<String> classNames = beanIndex.getCandidateClasses("org.simpleframework.indexed").stream()
+                    .map(Class::getName).collect(Collectors.toSet());
+            assertEquals(2, classNames.size());
+            assertTrue(classNames.contains("org.simpleframework.indexed.IndexedService$Inner"));
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+}
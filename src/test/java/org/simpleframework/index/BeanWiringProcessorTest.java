@@ -0,0 +1,106 @@
+package org.simpleframework.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BeanWiringProcessorTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class BeanWiringProcessorTest {
+
+    private static final List<String> WIRING_OPTIONS = Collections.singletonList("-Asimpleframework.wiring=true");
+
+    private static final String WIRING_LOCATION = "META-INF/simpleframework/bean.wiring";
+
+    @DisplayName("生成装配类和注册表，生成的代码无法赋值的成员变量给出警告：generateTest")
+    @Test
+    void generateTest(@TempDir Path workDirectory) throws Exception {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(workDirectory, WIRING_OPTIONS,
+                "processor/wiring/WiredRepository.java", "processor/wiring/WiredService.java",
+                "processor/wiring/WiredController.java");
+        assertTrue(result.isSuccess(), result.getDiagnostics().toString());
+
+        List<String> lines = Arrays.asList(result.read(result.getClasses(), WIRING_LOCATION).split("\n"));
+        assertTrue(lines.get(0).startsWith("# generated by org.simpleframework.index.BeanWiringProcessor"));
+        assertEquals(Arrays.asList(
+                "org.simpleframework.wiring.WiredController=org.simpleframework.wiring.WiredController$$Wiring",
+                "org.simpleframework.wiring.WiredRepository=org.simpleframework.wiring.WiredRepository$$Wiring",
+                "org.simpleframework.wiring.WiredService=org.simpleframework.wiring.WiredService$$Wiring"),
+                lines.subList(1, lines.size()));
+
+        // 构造方法的参数在编译期解析为具体的 bean
+        String controller = result.read(result.getGenerated(), "org/simpleframework/wiring/WiredController$$Wiring.java");
+        assertTrue(controller.contains("return new org.simpleframework.wiring.WiredController("
+                + "(org.simpleframework.wiring.WiredService) beanContainer.getRequiredBean("
+                + "org.simpleframework.wiring.WiredService.class, \"\"));"), controller);
+        assertTrue(controller.contains("REFLECTIVE_FIELDS = java.util.Collections.emptySet();"), controller);
+
+        // private 的成员变量不生成赋值语句，记录为需要通过反射注入
+        String service = result.read(result.getGenerated(), "org/simpleframework/wiring/WiredService$$Wiring.java");
+        assertTrue(service.contains("bean.wiredRepositoryProvider = new org.simpleframework.inject.BeanProvider<>("
+                + "beanContainer, org.simpleframework.wiring.WiredRepository.class, \"\");"), service);
+        assertFalse(service.contains("bean.wiredRepository ="), service);
+        assertTrue(service.contains("java.util.Arrays.asList(\"wiredRepository\")"), service);
+
+        // private 的构造方法由容器通过反射调用
+        String repository = result.read(result.getGenerated(), "org/simpleframework/wiring/WiredRepository$$Wiring.java");
+        assertTrue(repository.contains("return null;"), repository);
+
+        List<String> warnings = result.getMessages(Diagnostic.Kind.WARNING);
+        assertTrue(warnings.stream().anyMatch(message -> message.startsWith(
+                "field WiredService.wiredRepository can not be assigned by generated code")), warnings.toString());
+        assertTrue(warnings.stream().anyMatch(message -> message.startsWith(
+                "constructor of org.simpleframework.wiring.WiredRepository is not accessible")), warnings.toString());
+    }
+
+    @DisplayName("有多个实现类又没有指定名称时不报错，留到运行时按包含、排除规则解析：ambiguousTest")
+    @Test
+    void ambiguousTest(@TempDir Path workDirectory) throws Exception {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(workDirectory, WIRING_OPTIONS,
+                "processor/wiring/AmbiguousCheckout.java");
+        assertTrue(result.isSuccess(), result.getDiagnostics().toString());
+        assertTrue(result.getMessages(Diagnostic.Kind.WARNING).contains("multiple implemented classes for "
+                + "org.simpleframework.ambiguous.PaymentGateway in this compilation, it will be resolved at runtime"));
+        String checkout = result.read(result.getGenerated(),
+                "org/simpleframework/ambiguous/AmbiguousCheckout$$Wiring.java");
+        assertTrue(checkout.contains("beanContainer.getRequiredBean(org.simpleframework.ambiguous.PaymentGateway.class, "
+                + "\"\")"), checkout);
+    }
+
+    @DisplayName("找不到实现类时不报错，实现类可能在其他模块中，留到运行时解析：unsatisfiedTest")
+    @Test
+    void unsatisfiedTest(@TempDir Path workDirectory) throws Exception {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(workDirectory, WIRING_OPTIONS,
+                "processor/wiring/UnsatisfiedNotifier.java");
+        assertTrue(result.isSuccess(), result.getDiagnostics().toString());
+        assertTrue(result.getMessages(Diagnostic.Kind.ERROR).isEmpty());
+        String notifier = result.read(result.getGenerated(),
+                "org/simpleframework/unsatisfied/UnsatisfiedNotifier$$Wiring.java");
+        assertTrue(notifier.contains("beanContainer.getRequiredBean(org.simpleframework.unsatisfied.MessageSender.class, "
+                + "\"\")"), notifier);
+    }
+
+    @DisplayName("注入点的类型本身是其他模块中的 bean 时在运行时获取：externalBeanTest")
+    @Test
+    void externalBeanTest(@TempDir Path workDirectory) throws Exception {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(workDirectory, WIRING_OPTIONS,
+                "processor/wiring/ExternalConsumer.java");
+        assertTrue(result.isSuccess(), result.getDiagnostics().toString());
+        String consumer = result.read(result.getGenerated(), "org/simpleframework/external/ExternalConsumer$$Wiring.java");
+        assertTrue(consumer.contains("bean.greetingRepository = (org.simpleframework.constructor.GreetingRepository) "
+                + "beanContainer.getRequiredBean(org.simpleframework.constructor.GreetingRepository.class, \"\");"), consumer);
+    }
+}
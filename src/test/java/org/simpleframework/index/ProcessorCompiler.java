@@ -0,0 +1,191 @@
+package org.simpleframework.index;
+
+import lombok.Getter;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ProcessorCompiler
+ * <br>
+ * 在测试中运行 simpleframework-index 模块的注解处理器：先从源码编译处理器，再用它编译测试资源中的示例源文件 <br>
+ * 根项目的打包方式为 war，不能聚合处理器模块，测试直接编译模块的源码，保证处理器随根项目的测试一起被检查
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public final class ProcessorCompiler {
+
+    /**
+     * 处理器模块的源码目录，测试的工作目录为根项目
+     */
+    private static final Path PROCESSOR_SOURCES = Paths.get("simpleframework-index", "src", "main", "java");
+
+    private static ClassLoader processorClassLoader;
+
+    private ProcessorCompiler() {
+    }
+
+    /**
+     * 使用 BeanIndexProcessor 和 BeanWiringProcessor 编译测试资源中的源文件
+     *
+     * @param workDirectory 工作目录，class 输出到 classes 子目录，生成的源文件输出到 generated 子目录
+     * @param options       编译参数，例如 <code>-Asimpleframework.wiring=true</code>
+     * @param resources     源文件在测试资源中的路径
+     * @return {@link Result }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    public static Result compile(Path workDirectory, List<String> options, String... resources) throws IOException {
+        Path sourceDirectory = Files.createDirectories(workDirectory.resolve("sources"));
+        List<File> sourceFiles = new ArrayList<>();
+        for (String resource : resources) {
+            Path sourceFile = sourceDirectory.resolve(resource);
+            Files.createDirectories(sourceFile.getParent());
+            try (InputStream in = ProcessorCompiler.class.getClassLoader().getResourceAsStream(resource)) {
+                if (null == in) {
+                    throw new IllegalArgumentException("source not found: " + resource);
+                }
+                Files.copy(in, sourceFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            sourceFiles.add(sourceFile.toFile());
+        }
+        List<Processor> processors = Arrays.asList(newProcessor("org.simpleframework.index.BeanIndexProcessor"),
+                newProcessor("org.simpleframework.index.BeanWiringProcessor"));
+        Path classes = Files.createDirectories(workDirectory.resolve("classes"));
+        Path generated = Files.createDirectories(workDirectory.resolve("generated"));
+        List<String> arguments = new ArrayList<>(Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                "-d", classes.toString(), "-s", generated.toString(), "-encoding", "UTF-8"));
+        arguments.addAll(options);
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success = run(sourceFiles, arguments, processors, diagnostics);
+        return new Result(success, diagnostics.getDiagnostics(), classes, generated);
+    }
+
+    private static synchronized Processor newProcessor(String className) throws IOException {
+        if (null == processorClassLoader) {
+            processorClassLoader = compileProcessors();
+        }
+        try {
+            return (Processor) processorClassLoader.loadClass(className).newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("unable to create processor " + className, e);
+        }
+    }
+
+    /**
+     * 编译处理器模块的源码
+     *
+     * @return {@link ClassLoader }
+     * @author chenz
+     * @date 2026/10/18
+     */
+    private static ClassLoader compileProcessors() throws IOException {
+        List<File> sourceFiles;
+        try (Stream<Path> paths = Files.walk(PROCESSOR_SOURCES)) {
+            sourceFiles = paths.filter(path -> path.toString().endsWith(".java")).map(Path::toFile)
+                    .collect(Collectors.toList());
+        }
+        Path classes = Files.createTempDirectory("simpleframework-processor");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        if (!run(sourceFiles, Arrays.asList("-d", classes.toString(), "-proc:none", "-encoding", "UTF-8"), null,
+                diagnostics)) {
+            throw new IllegalStateException("unable to compile processors: " + diagnostics.getDiagnostics());
+        }
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, ProcessorCompiler.class.getClassLoader());
+    }
+
+    private static boolean run(List<File> sourceFiles, List<String> arguments, List<Processor> processors,
+            DiagnosticCollector<JavaFileObject> diagnostics) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (null == compiler) {
+            throw new IllegalStateException("tests must run on a JDK");
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT,
+                StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, arguments, null,
+                    fileManager.getJavaFileObjectsFromFiles(sourceFiles));
+            if (null != processors) {
+                task.setProcessors(processors);
+            }
+            return task.call();
+        }
+    }
+
+    /**
+     * 编译结果
+     */
+    @Getter
+    public static final class Result {
+
+        private final boolean success;
+
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+        /**
+         * class 和处理器生成的资源文件的输出目录
+         */
+        private final Path classes;
+
+        /**
+         * 处理器生成的源文件的输出目录
+         */
+        private final Path generated;
+
+        private Result(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics, Path classes,
+                Path generated) {
+            this.success = success;
+            this.diagnostics = diagnostics;
+            this.classes = classes;
+            this.generated = generated;
+        }
+
+        /**
+         * 指定级别的诊断信息
+         *
+         * @param kind 级别
+         * @return {@link List<String> }
+         * @author chenz
+         * @date 2026/10/18
+         */
+        public List<String> getMessages(Diagnostic.Kind kind) {
+            return diagnostics.stream().filter(diagnostic -> diagnostic.getKind() == kind)
+                    .map(diagnostic -> diagnostic.getMessage(Locale.ROOT)).collect(Collectors.toList());
+        }
+
+        /**
+         * 读取输出目录中的文件
+         *
+         * @param directory 输出目录
+         * @param path      相对路径
+         * @return {@link String }
+         * @author chenz
+         * @date 2026/10/18
+         */
+        public String read(Path directory, String path) throws IOException {
+            return new String(Files.readAllBytes(directory.resolve(path)), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.simpleframework.inject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.index.ProcessorCompiler;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BeanWiringTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class BeanWiringTest {
+
+    @DisplayName("使用编译期生成的装配代码创建、注入 bean，装配代码已经注入的成员变量不再通过反射注入：wiringTest")
+    @Test
+    void wiringTest(@TempDir Path workDirectory) throws Exception {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(workDirectory,
+                Collections.singletonList("-Asimpleframework.wiring=true"), "processor/wiring/WiredRepository.java",
+                "processor/wiring/WiredService.java", "processor/wiring/WiredController.java");
+        assertTrue(result.isSuccess(), result.getDiagnostics().toString());
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        // 示例类和生成的装配类在同一个类加载器中，装配类才能访问包级私有的成员变量
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{result.getClasses().toUri().toURL()},
+                getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            BeanContainer beanContainer = BeanContainer.getInstance();
+            beanContainer.loadBeans("org.simpleframework.wiring");
+            DependencyInjector dependencyInjector = new DependencyInjector();
+            dependencyInjector.doIOC();
+
+            Class<?> repositoryClass = classLoader.loadClass("org.simpleframework.wiring.WiredRepository");
+            Class<?> serviceClass = classLoader.loadClass("org.simpleframework.wiring.WiredService");
+            Class<?> controllerClass = classLoader.loadClass("org.simpleframework.wiring.WiredController");
+            assertTrue(beanContainer.getWiring(controllerClass).isComplete());
+            assertEquals(Collections.singleton("wiredRepository"),
+                    beanContainer.getWiring(serviceClass).getReflectiveFields());
+            // 注入计划只包含装配代码无法赋值的成员变量
+            assertEquals(1, dependencyInjector.getInjectionPlan(serviceClass).size());
+
+            Object repository = beanContainer.getBean(repositoryClass);
+            Object service = beanContainer.getBean(serviceClass);
+            Object controller = beanContainer.getBean(controllerClass);
+            assertSame(service, invoke(controller, "getWiredService"));
+            assertSame(repository, invoke(service, "getWiredRepository"));
+            assertSame(repository, ((Provider<?>) invoke(service, "getWiredRepositoryProvider")).get());
+            assertEquals("wired", invoke(repository, "find"));
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    private static Object invoke(Object target, String methodName) throws ReflectiveOperationException {
+        return target.getClass().getMethod(methodName).invoke(target);
+    }
+}
@@ -0,0 +1,49 @@
+package org.simpleframework.inject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.plugin.FormatValidator;
+import org.simpleframework.plugin.LengthValidator;
+import org.simpleframework.plugin.NotEmptyValidator;
+import org.simpleframework.plugin.Validator;
+import org.simpleframework.plugin.ValidatorPipeline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CollectionInjectionTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class CollectionInjectionTest {
+
+    @DisplayName("按 @Order 注入所有实现类：collectionInjectionTest")
+    @Test
+    void collectionInjectionTest() {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.setInitParallelism(4);
+        beanContainer.loadBeans("org.simpleframework.plugin");
+        new DependencyInjector().doIOC();
+
+        ValidatorPipeline pipeline = (ValidatorPipeline) beanContainer.getBean(ValidatorPipeline.class);
+        List<Validator> validators = pipeline.getValidators();
+        assertEquals(3, validators.size());
+        assertSame(beanContainer.getBean(NotEmptyValidator.class), validators.get(0));
+        assertSame(beanContainer.getBean(LengthValidator.class), validators.get(1));
+        assertSame(beanContainer.getBean(FormatValidator.class), validators.get(2));
+        assertThrows(UnsupportedOperationException.class, () -> validators.add(validators.get(0)));
+
+        assertEquals(Arrays.asList("NotEmptyValidator", "LengthValidator", "FormatValidator"),
+                new ArrayList<>(pipeline.getValidatorMap().keySet()));
+        assertTrue(pipeline.validate("chen"));
+        assertFalse(pipeline.validate(""));
+        assertFalse(pipeline.validate("Chen"));
+    }
+}
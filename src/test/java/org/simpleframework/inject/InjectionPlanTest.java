@@ -0,0 +1,43 @@
+package org.simpleframework.inject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.aop.AspectTarget;
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.core.scan.PackageTrie;
+import org.simpleframework.ioc.TestIOC;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InjectionPlanTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class InjectionPlanTest {
+
+    @DisplayName("注入计划只解析一次，之后创建的实例直接按计划注入：injectTest")
+    @Test
+    void injectTest() throws ReflectiveOperationException {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.loadBeans(PackageTrie.of("org.simpleframework.aop", "org.simpleframework.ioc"), 1);
+        DependencyInjector dependencyInjector = new DependencyInjector();
+        dependencyInjector.doIOC();
+
+        InjectionPlan injectionPlan = dependencyInjector.getInjectionPlan(TestIOC.class);
+        assertEquals(1, injectionPlan.size());
+        assertSame(injectionPlan, dependencyInjector.getInjectionPlan(TestIOC.class));
+        assertEquals(0, dependencyInjector.getInjectionPlan(AspectTarget.class).size());
+
+        TestIOC testIOC = new TestIOC();
+        injectionPlan.inject(testIOC, beanContainer);
+        Field field = TestIOC.class.getDeclaredField("aspectTarget");
+        field.setAccessible(true);
+        assertSame(beanContainer.getBean(AspectTarget.class), field.get(testIOC));
+        assertSame(beanContainer.getBean(AspectTarget.class), field.get(beanContainer.getBean(TestIOC.class)));
+    }
+}
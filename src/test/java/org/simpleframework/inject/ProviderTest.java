@@ -0,0 +1,40 @@
+package org.simpleframework.inject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.provider.HeavyService;
+import org.simpleframework.provider.ProviderConsumer;
+import org.simpleframework.provider.ProviderPartner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProviderTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class ProviderTest {
+
+    @DisplayName("通过 Provider 延迟获取 bean，并打破构造方法的循环依赖：providerTest")
+    @Test
+    void providerTest() {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.loadBeans("org.simpleframework.provider");
+        new DependencyInjector().doIOC();
+        // 只通过 Provider 依赖的懒加载 bean 在启动时不会被创建
+        assertFalse(beanContainer.getClasses().contains(HeavyService.class));
+
+        ProviderConsumer providerConsumer = (ProviderConsumer) beanContainer.getBean(ProviderConsumer.class);
+        HeavyService heavyService = providerConsumer.getHeavyServiceProvider().get();
+        assertNotNull(heavyService);
+        assertSame(heavyService, providerConsumer.getHeavyServiceProvider().get());
+        assertTrue(beanContainer.getClasses().contains(HeavyService.class));
+
+        ProviderPartner providerPartner = providerConsumer.getPartnerProvider().get();
+        assertSame(beanContainer.getBean(ProviderPartner.class), providerPartner);
+        assertSame(providerConsumer, providerPartner.getProviderConsumer());
+    }
+}
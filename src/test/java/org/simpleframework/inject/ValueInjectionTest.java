@@ -0,0 +1,69 @@
+package org.simpleframework.inject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.core.config.ConfigSnapshot;
+import org.simpleframework.inject.annotation.Value;
+import org.simpleframework.value.ConnectionMode;
+import org.simpleframework.value.ConnectionSettings;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ValueInjectionTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class ValueInjectionTest {
+
+    @DisplayName("通过 @Value 向构造方法参数和成员变量注入转换好的配置值：valueTest")
+    @Test
+    void valueTest() {
+        Map<String, String> values = new HashMap<>();
+        values.put("connection.pool.size", "32");
+        values.put("connection.timeout", "500ms");
+        values.put("connection.mode", "safe");
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.setConfig(ConfigSnapshot.of(values));
+        beanContainer.loadBeans("org.simpleframework.value");
+        new DependencyInjector().doIOC();
+
+        ConnectionSettings settings = (ConnectionSettings) beanContainer.getBean(ConnectionSettings.class);
+        assertEquals(32, settings.getPoolSize());
+        assertEquals(Duration.ofMillis(500), settings.getTimeout());
+        assertEquals(ConnectionMode.SAFE, settings.getMode());
+        // 没有配置时使用默认值
+        assertEquals("default", settings.getName());
+        assertEquals(Integer.valueOf(3), settings.getRetries());
+    }
+
+    @DisplayName("热加载之后创建的实例注入的是新的配置值，已经注入的实例不变：refreshTest")
+    @Test
+    void refreshTest() {
+        BeanContainer beanContainer = BeanContainer.getInstance();
+        beanContainer.setConfig(ConfigSnapshot.of(Collections.singletonMap("connection.pool.size", "16")));
+        InjectionPlan injectionPlan = InjectionPlan.compile(PooledSettings.class, beanContainer);
+        PooledSettings before = new PooledSettings();
+        injectionPlan.inject(before, beanContainer);
+
+        beanContainer.refreshConfig(ConfigSnapshot.of(Collections.singletonMap("connection.pool.size", "64")));
+        PooledSettings after = new PooledSettings();
+        injectionPlan.inject(after, beanContainer);
+        assertEquals(16, before.poolSize);
+        assertEquals(64, after.poolSize);
+    }
+
+    private static class PooledSettings {
+
+        @Value("connection.pool.size:8")
+        private int poolSize;
+    }
+}
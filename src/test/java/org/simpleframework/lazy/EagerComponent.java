@@ -0,0 +1,15 @@
+package org.simpleframework.lazy;
+
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Lazy;
+
+/**
+ * EagerComponent
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Lazy(false)
+@Component
+public class EagerComponent {}
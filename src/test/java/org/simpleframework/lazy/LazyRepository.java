@@ -0,0 +1,22 @@
+package org.simpleframework.lazy;
+
+import lombok.Getter;
+import org.simpleframework.core.annotation.Lazy;
+import org.simpleframework.core.annotation.Repository;
+import org.simpleframework.inject.annotation.Autowired;
+
+/**
+ * LazyRepository
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Lazy
+@Getter
+@Repository
+public class LazyRepository {
+
+    @Autowired
+    private LazyService lazyService;
+}
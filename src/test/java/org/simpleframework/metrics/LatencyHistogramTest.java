@@ -0,0 +1,116 @@
+package org.simpleframework.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyHistogramTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class LatencyHistogramTest {
+
+    @DisplayName("相邻的桶首尾相接，桶中的值的相对误差不超过 1/32：bucketTest")
+    @Test
+    void bucketTest() {
+        assertEquals(1024, LatencyHistogram.BUCKET_COUNT);
+        long lowest = 0;
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            long highest = LatencyHistogram.highestValueOf(i);
+            assertEquals(i, LatencyHistogram.bucketIndex(lowest));
+            assertEquals(i, LatencyHistogram.bucketIndex(highest));
+            assertTrue(highest - lowest <= lowest / 32);
+            lowest = highest + 1;
+        }
+        assertEquals(LatencyHistogram.MAXIMUM_VALUE + 1, lowest);
+    }
+
+    @DisplayName("分位数与实际值的误差不超过 1/32：percentileTest")
+    @Test
+    void percentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram("percentile");
+        assertEquals(0, histogram.snapshot().getP99());
+        // 1 微秒到 1 毫秒均匀分布
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        histogram.record(Long.MAX_VALUE);
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(1001, snapshot.getCount());
+        assertEquals(LatencyHistogram.MAXIMUM_VALUE, snapshot.getMaxNanos());
+        assertWithin(501_000, snapshot.getP50());
+        assertWithin(991_000, snapshot.getP99());
+        assertWithin(1_000_000, snapshot.getP999());
+        // 超出范围的值记录在最后一个桶中
+        assertEquals(LatencyHistogram.MAXIMUM_VALUE, snapshot.getPercentile(100));
+    }
+
+    @DisplayName("多个线程同时记录，不丢失任何一次调用：concurrentRecordTest")
+    @Test
+    void concurrentRecordTest() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram("concurrent");
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 100000; i++) {
+                        histogram.record(i % 100);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(800000, snapshot.getCount());
+        assertEquals(99, snapshot.getMaxNanos());
+        assertEquals(8 * 1000 * 4950L, snapshot.getTotalNanos());
+    }
+
+    @DisplayName("超出范围的值先截断再计入总耗时和最大值：clampTest")
+    @Test
+    void clampTest() {
+        LatencyHistogram histogram = new LatencyHistogram("clamp");
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(3, snapshot.getCount());
+        assertEquals(LatencyHistogram.MAXIMUM_VALUE, snapshot.getMaxNanos());
+        assertEquals(2 * LatencyHistogram.MAXIMUM_VALUE, snapshot.getTotalNanos());
+        assertEquals(LatencyHistogram.MAXIMUM_VALUE, snapshot.getP999());
+    }
+
+    @DisplayName("连续的线程 id 均匀地分散到各个条带：stripeTest")
+    @Test
+    void stripeTest() {
+        int[] counts = new int[LatencyHistogram.STRIPE_COUNT];
+        int threads = LatencyHistogram.STRIPE_COUNT * 64;
+        for (long id = 1; id <= threads; id++) {
+            counts[LatencyHistogram.stripeIndex(id)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count >= 32 && count <= 96, Arrays.toString(counts));
+        }
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / 32,
+                "expected about " + expected + " but was " + actual);
+    }
+}
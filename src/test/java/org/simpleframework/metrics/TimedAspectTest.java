@@ -0,0 +1,58 @@
+package org.simpleframework.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.simpleframework.aop.AspectWeaver;
+import org.simpleframework.core.BeanContainer;
+import org.simpleframework.inject.DependencyInjector;
+import org.simpleframework.timed.TimedReportService;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimedAspectTest
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+class TimedAspectTest {
+
+    private static BeanContainer beanContainer;
+
+    @BeforeEach
+    void init() {
+        beanContainer = BeanContainer.getInstance();
+        beanContainer.loadBeans("org.simpleframework.timed");
+        new AspectWeaver().doAOP();
+        new DependencyInjector().doIOC();
+    }
+
+    @DisplayName("使用了 Timed 时自动注册计时切面，记录调用次数和耗时，抛出异常的调用同样被记录：timedTest")
+    @Test
+    void timedTest() throws Exception {
+        TimedReportService reportService = (TimedReportService) beanContainer.getBean(TimedReportService.class);
+        TimerRegistry timerRegistry = (TimerRegistry) beanContainer.getBean(TimerRegistry.class);
+        assertNotNull(timerRegistry);
+        assertNotNull(beanContainer.getBean(TimedAspect.class));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("report", reportService.generate(5));
+        }
+        assertThrows(IllegalStateException.class, reportService::fail);
+        assertEquals("untimed", reportService.untimed());
+
+        LatencySnapshot snapshot = timerRegistry.getSnapshot("report.generate");
+        assertEquals(3, snapshot.getCount());
+        assertTrue(snapshot.getP50() >= TimeUnit.MILLISECONDS.toNanos(5));
+        assertTrue(snapshot.getP999() <= snapshot.getMaxNanos());
+
+        String failName = TimedReportService.class.getName() + ".fail";
+        assertEquals(1, timerRegistry.getSnapshot(failName).getCount());
+        assertEquals(2, timerRegistry.getTimerNames().size());
+        assertEquals(2, timerRegistry.snapshots().size());
+    }
+}
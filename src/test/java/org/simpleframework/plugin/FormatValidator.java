@@ -0,0 +1,19 @@
+package org.simpleframework.plugin;
+
+import org.simpleframework.core.annotation.Component;
+
+/**
+ * FormatValidator
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component
+public class FormatValidator implements Validator {
+
+    @Override
+    public boolean validate(String text) {
+        return text.matches("[a-z]+");
+    }
+}
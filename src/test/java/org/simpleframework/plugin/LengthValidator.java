@@ -0,0 +1,21 @@
+package org.simpleframework.plugin;
+
+import org.simpleframework.aop.annotation.Order;
+import org.simpleframework.core.annotation.Component;
+
+/**
+ * LengthValidator
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Order(2)
+@Component
+public class LengthValidator implements Validator {
+
+    @Override
+    public boolean validate(String text) {
+        return text.length() <= 16;
+    }
+}
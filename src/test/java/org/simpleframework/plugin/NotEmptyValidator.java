@@ -0,0 +1,21 @@
+package org.simpleframework.plugin;
+
+import org.simpleframework.aop.annotation.Order;
+import org.simpleframework.core.annotation.Component;
+
+/**
+ * NotEmptyValidator
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Order(1)
+@Component
+public class NotEmptyValidator implements Validator {
+
+    @Override
+    public boolean validate(String text) {
+        return null != text && !text.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package org.simpleframework.plugin;
+
+/**
+ * Validator
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public interface Validator {
+
+    boolean validate(String text);
+}
@@ -0,0 +1,38 @@
+package org.simpleframework.plugin;
+
+import lombok.Getter;
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.inject.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ValidatorPipeline
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+@Component
+public class ValidatorPipeline {
+
+    private final List<Validator> validators;
+
+    @Autowired
+    private Map<String, Validator> validatorMap;
+
+    public ValidatorPipeline(List<Validator> validators) {
+        this.validators = validators;
+    }
+
+    public boolean validate(String text) {
+        for (Validator validator : validators) {
+            if (!validator.validate(text)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+package org.simpleframework.provider;
+
+import org.simpleframework.core.annotation.Lazy;
+import org.simpleframework.core.annotation.Service;
+
+/**
+ * HeavyService
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Lazy
+@Service
+public class HeavyService {
+}
@@ -0,0 +1,27 @@
+package org.simpleframework.provider;
+
+import lombok.Getter;
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.inject.Provider;
+import org.simpleframework.inject.annotation.Autowired;
+
+/**
+ * ProviderConsumer
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+@Component
+public class ProviderConsumer {
+
+    @Autowired
+    private Provider<HeavyService> heavyServiceProvider;
+
+    private final Provider<ProviderPartner> partnerProvider;
+
+    public ProviderConsumer(Provider<ProviderPartner> partnerProvider) {
+        this.partnerProvider = partnerProvider;
+    }
+}
@@ -0,0 +1,22 @@
+package org.simpleframework.provider;
+
+import lombok.Getter;
+import org.simpleframework.core.annotation.Component;
+
+/**
+ * ProviderPartner
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+@Component
+public class ProviderPartner {
+
+    private final ProviderConsumer providerConsumer;
+
+    public ProviderPartner(ProviderConsumer providerConsumer) {
+        this.providerConsumer = providerConsumer;
+    }
+}
@@ -0,0 +1,29 @@
+package org.simpleframework.scope;
+
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Scope;
+import org.simpleframework.core.scope.ScopeType;
+import org.simpleframework.inject.annotation.Autowired;
+
+/**
+ * PooledParser
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component
+@Scope(value = ScopeType.POOLED, poolSize = 2)
+public class PooledParser {
+
+    @Autowired
+    private PrototypeCounter prototypeCounter;
+
+    public Object self() {
+        return this;
+    }
+
+    public int count() {
+        return prototypeCounter.increment();
+    }
+}
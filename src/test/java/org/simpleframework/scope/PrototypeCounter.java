@@ -0,0 +1,23 @@
+package org.simpleframework.scope;
+
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Scope;
+import org.simpleframework.core.scope.ScopeType;
+
+/**
+ * PrototypeCounter
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component
+@Scope(ScopeType.PROTOTYPE)
+public class PrototypeCounter {
+
+    private int count;
+
+    public int increment() {
+        return ++count;
+    }
+}
@@ -0,0 +1,37 @@
+package org.simpleframework.scope;
+
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Scope;
+import org.simpleframework.core.scope.ScopeType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PrototypeGreeter
+ * <br>
+ * 通过构造方法注入的原型 bean，构造方法会使用参数，不能以 null 调用
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component
+@Scope(ScopeType.PROTOTYPE)
+public class PrototypeGreeter {
+
+    /**
+     * 构造方法被调用的次数
+     */
+    public static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+    private final String greeting;
+
+    public PrototypeGreeter(ScopeSettings scopeSettings) {
+        this.greeting = scopeSettings.getGreeting().trim();
+        CONSTRUCTIONS.incrementAndGet();
+    }
+
+    public String greet(String name) {
+        return greeting + ", " + name;
+    }
+}
@@ -0,0 +1,21 @@
+package org.simpleframework.scope;
+
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Scope;
+import org.simpleframework.core.scope.ScopeType;
+
+/**
+ * RequestContext
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component
+@Scope(ScopeType.REQUEST)
+public class RequestContext {
+
+    public Object self() {
+        return this;
+    }
+}
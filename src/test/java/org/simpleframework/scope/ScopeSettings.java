@@ -0,0 +1,18 @@
+package org.simpleframework.scope;
+
+import org.simpleframework.core.annotation.Component;
+
+/**
+ * ScopeSettings
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component
+public class ScopeSettings {
+
+    public String getGreeting() {
+        return " hi ";
+    }
+}
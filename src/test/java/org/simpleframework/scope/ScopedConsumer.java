@@ -0,0 +1,32 @@
+package org.simpleframework.scope;
+
+import lombok.Getter;
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.inject.annotation.Autowired;
+
+/**
+ * ScopedConsumer
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+@Component
+public class ScopedConsumer {
+
+    @Autowired
+    private PrototypeCounter prototypeCounter;
+
+    @Autowired
+    private ThreadBuffer threadBuffer;
+
+    @Autowired
+    private RequestContext requestContext;
+
+    @Autowired
+    private PooledParser pooledParser;
+
+    @Autowired
+    private PrototypeGreeter prototypeGreeter;
+}
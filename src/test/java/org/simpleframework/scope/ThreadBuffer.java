@@ -0,0 +1,23 @@
+package org.simpleframework.scope;
+
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Scope;
+import org.simpleframework.core.scope.ScopeType;
+
+/**
+ * ThreadBuffer
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Component
+@Scope(ScopeType.THREAD)
+public class ThreadBuffer {
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    public String append(String text) {
+        return buffer.append(text).toString();
+    }
+}
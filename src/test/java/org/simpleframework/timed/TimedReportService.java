@@ -0,0 +1,32 @@
+package org.simpleframework.timed;
+
+import org.simpleframework.core.annotation.Service;
+import org.simpleframework.metrics.annotation.Timed;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimedReportService
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Service
+public class TimedReportService {
+
+    @Timed("report.generate")
+    public String generate(long millis) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(millis);
+        return "report";
+    }
+
+    @Timed
+    public void fail() {
+        throw new IllegalStateException("report failed");
+    }
+
+    public String untimed() {
+        return "untimed";
+    }
+}
@@ -0,0 +1,12 @@
+package org.simpleframework.value;
+
+/**
+ * ConnectionMode
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+public enum ConnectionMode {
+    FAST, SAFE
+}
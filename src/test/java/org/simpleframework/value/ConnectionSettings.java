@@ -0,0 +1,39 @@
+package org.simpleframework.value;
+
+import lombok.Getter;
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.inject.annotation.Value;
+
+import java.time.Duration;
+
+/**
+ * ConnectionSettings
+ *
+ * @author chenz
+ * @version 1.0
+ * @date 2026/10/18
+ */
+@Getter
+@Component
+public class ConnectionSettings {
+
+    private final int poolSize;
+
+    private final Duration timeout;
+
+    private final String name;
+
+    @Value("connection.retries:3")
+    private Integer retries;
+
+    @Value("connection.mode:fast")
+    private ConnectionMode mode;
+
+    public ConnectionSettings(@Value("connection.pool.size:8") int poolSize,
+            @Value("connection.timeout:30s") Duration timeout,
+            @Value("connection.name:default") String name) {
+        this.poolSize = poolSize;
+        this.timeout = timeout;
+        this.name = name;
+    }
+}
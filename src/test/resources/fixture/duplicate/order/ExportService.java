@@ -0,0 +1,7 @@
+package org.simpleframework.duplicate.order;
+
+import org.simpleframework.core.annotation.Service;
+
+@Service
+public class ExportService {
+}
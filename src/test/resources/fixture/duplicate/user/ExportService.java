@@ -0,0 +1,7 @@
+package org.simpleframework.duplicate.user;
+
+import org.simpleframework.core.annotation.Service;
+
+@Service
+public class ExportService {
+}
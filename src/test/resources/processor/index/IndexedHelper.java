@@ -0,0 +1,10 @@
+package org.simpleframework.indexed;
+
+import org.simpleframework.core.annotation.Component;
+
+public class IndexedHelper {
+
+    @Component
+    public interface IndexedMarker {
+    }
+}
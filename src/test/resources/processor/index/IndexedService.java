@@ -0,0 +1,12 @@
+package org.simpleframework.indexed;
+
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Service;
+
+@Service
+public class IndexedService {
+
+    @Component
+    public static class Inner {
+    }
+}
@@ -0,0 +1,26 @@
+package org.simpleframework.ambiguous;
+
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.core.annotation.Service;
+import org.simpleframework.inject.annotation.Autowired;
+
+interface PaymentGateway {
+}
+
+@Component
+class CardGateway implements PaymentGateway {
+}
+
+@Component
+class CashGateway implements PaymentGateway {
+}
+
+@Service
+public class AmbiguousCheckout {
+
+    /**
+     * 有多个实现类，生成的代码在运行时按类型获取
+     */
+    @Autowired
+    PaymentGateway paymentGateway;
+}
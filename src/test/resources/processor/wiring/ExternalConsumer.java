@@ -0,0 +1,15 @@
+package org.simpleframework.external;
+
+import org.simpleframework.constructor.GreetingRepository;
+import org.simpleframework.core.annotation.Component;
+import org.simpleframework.inject.annotation.Autowired;
+
+@Component
+public class ExternalConsumer {
+
+    /**
+     * 其他模块中的 bean，类型本身就是 bean，在运行时获取
+     */
+    @Autowired
+    GreetingRepository greetingRepository;
+}
@@ -0,0 +1,16 @@
+package org.simpleframework.unsatisfied;
+
+import org.simpleframework.core.annotation.Service;
+
+interface MessageSender {
+}
+
+@Service
+public class UnsatisfiedNotifier {
+
+    private final MessageSender messageSender;
+
+    public UnsatisfiedNotifier(MessageSender messageSender) {
+        this.messageSender = messageSender;
+    }
+}
@@ -0,0 +1,17 @@
+package org.simpleframework.wiring;
+
+import org.simpleframework.core.annotation.Controller;
+
+@Controller
+public class WiredController {
+
+    private final WiredService wiredService;
+
+    public WiredController(WiredService wiredService) {
+        this.wiredService = wiredService;
+    }
+
+    public WiredService getWiredService() {
+        return wiredService;
+    }
+}
@@ -0,0 +1,17 @@
+package org.simpleframework.wiring;
+
+import org.simpleframework.core.annotation.Repository;
+
+@Repository
+public class WiredRepository {
+
+    /**
+     * private，生成的代码无法调用，仍然通过反射创建
+     */
+    private WiredRepository() {
+    }
+
+    public String find() {
+        return "wired";
+    }
+}
@@ -0,0 +1,29 @@
+package org.simpleframework.wiring;
+
+import org.simpleframework.core.annotation.Service;
+import org.simpleframework.inject.Provider;
+import org.simpleframework.inject.annotation.Autowired;
+
+@Service
+public class WiredService {
+
+    /**
+     * 包级私有，由生成的装配代码直接赋值
+     */
+    @Autowired
+    Provider<WiredRepository> wiredRepositoryProvider;
+
+    /**
+     * private，仍然按注入计划注入
+     */
+    @Autowired
+    private WiredRepository wiredRepository;
+
+    public Provider<WiredRepository> getWiredRepositoryProvider() {
+        return wiredRepositoryProvider;
+    }
+
+    public WiredRepository getWiredRepository() {
+        return wiredRepository;
+    }
+}